@@ -0,0 +1,33 @@
+package bench;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+
+/**
+ * Entry point that runs the benchmarks in this folder with the GC profiler attached,
+ * so every result also reports the allocation rate ({@code gc.alloc.rate.norm} is
+ * bytes allocated per operation).
+ *
+ * <p>
+ * Pass a regular expression as the first argument to only run matching benchmarks,
+ * for example {@code PetBenchmark.populationStep}.
+ * </p>
+ *
+ * @author Mohammed Abdulnabi
+ * @version 1.0
+ */
+public class BenchmarkRunner {
+    public static void main(String[] args) throws RunnerException {
+        String include = args.length > 0 ? args[0] : "bench\\..*";
+
+        Options options = new OptionsBuilder()
+                .include(include)
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(options).run();
+    }
+}
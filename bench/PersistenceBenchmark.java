@@ -0,0 +1,181 @@
+package bench;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.reflect.TypeToken;
+import org.openjdk.jmh.annotations.*;
+import src.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * JMH benchmarks for saving and loading games and for buying from the store.
+ *
+ * <p>
+ * {@link GameDataManager#saveGame} and {@link GameDataManager#loadGame} are measured end to end
+ * against real files in a temporary directory. The Gson adapters ({@link PetAdapter},
+ * {@link PlayerInventoryAdapter}, {@link FoodInventoryAdapter} and friends) are also measured
+ * on their own, in memory, so file I/O can be told apart from (de)serialization cost.
+ * File benchmarks run once per save format (JSON and {@link BinarySaveFormat}).
+ * The bulk variants save or load a whole directory of saves, like the load screen and
+ * the parental revive flow do.
+ * </p>
+ *
+ * @author Mohammed Abdulnabi
+ * @version 1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PersistenceBenchmark {
+
+    /**
+     * State holding one game and a directory of save files.
+     */
+    @State(Scope.Thread)
+    public static class Saves {
+        @Param({"1", "100"})
+        int saveCount;
+
+        @Param({".json", ".petsave"})
+        String format;
+
+        File dir;
+        String[] paths;
+        Pet pet;
+        PlayerInventory inventory;
+        Store store;
+        Gson gson;
+        String json;
+        ByteBuffer binary;
+
+        @Setup(Level.Trial)
+        public void setup() throws IOException {
+            store = new Store();
+            pet = PetBenchmark.newPet("PetOption1");
+            inventory = new PlayerInventory(store);
+            store.buyFood("Chicken", inventory, 2);
+            store.buyToy("Guitar", inventory, 1);
+            store.buyGift("outfit1", inventory, 1);
+            inventory.addOutfit("outfit1");
+
+            // Same adapters as GameDataManager, for in-memory measurements
+            gson = new GsonBuilder()
+                    .registerTypeAdapter(new TypeToken<Map<Food, Integer>>() {}.getType(), new FoodInventoryAdapter())
+                    .registerTypeAdapter(new TypeToken<Map<Toys, Integer>>() {}.getType(), new ToyInventoryAdapter())
+                    .registerTypeAdapter(new TypeToken<Map<Gifts, Integer>>() {}.getType(), new GiftInventoryAdapter())
+                    .registerTypeAdapter(Pet.class, new PetAdapter())
+                    .registerTypeAdapter(PlayerInventory.class, new PlayerInventoryAdapter(store))
+                    .setPrettyPrinting()
+                    .create();
+            json = gson.toJson(new GameData(pet, inventory, 0));
+            binary = BinarySaveFormat.encode(new GameData(pet, inventory, 0));
+
+            dir = Files.createTempDirectory("petbench").toFile();
+            paths = new String[saveCount];
+            for (int i = 0; i < saveCount; i++) {
+                paths[i] = new File(dir, "pet" + i + format).getPath();
+                GameDataManager.saveGame(paths[i], pet, inventory, 0);
+            }
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            for (String path : paths) {
+                new File(path).delete();
+            }
+            dir.delete();
+        }
+    }
+
+
+    /**
+     * State for the store benchmark. A fresh inventory every invocation so the
+     * player never runs out of coins.
+     */
+    @State(Scope.Thread)
+    public static class Shop {
+        Store store;
+        PlayerInventory inventory;
+
+        @Setup(Level.Trial)
+        public void setupStore() {
+            store = new Store();
+        }
+
+        @Setup(Level.Invocation)
+        public void setupInventory() {
+            inventory = new PlayerInventory(store);
+        }
+    }
+
+
+    /** Saves every game in the directory to disk. */
+    @Benchmark
+    public void saveGame(Saves state) {
+        for (String path : state.paths) {
+            GameDataManager.saveGame(path, state.pet, state.inventory, 0);
+        }
+    }
+
+
+    /** Loads every game in the directory from disk. */
+    @Benchmark
+    public GameData loadGame(Saves state) {
+        GameData last = null;
+        for (String path : state.paths) {
+            last = GameDataManager.loadGame(path);
+        }
+        return last;
+    }
+
+
+    /** Serializes one game to JSON in memory through the adapters. */
+    @Benchmark
+    public String serialize(Saves state) {
+        return state.gson.toJson(new GameData(state.pet, state.inventory, 0));
+    }
+
+
+    /** Parses one game from JSON in memory through the adapters. */
+    @Benchmark
+    public GameData deserialize(Saves state) {
+        return state.gson.fromJson(state.json, GameData.class);
+    }
+
+
+    /** Encodes one game in the binary save format in memory. */
+    @Benchmark
+    public ByteBuffer encodeBinary(Saves state) {
+        return BinarySaveFormat.encode(new GameData(state.pet, state.inventory, 0));
+    }
+
+
+    /** Decodes one game from the binary save format in memory. */
+    @Benchmark
+    public GameData decodeBinary(Saves state) throws IOException {
+        return BinarySaveFormat.decode(state.binary.duplicate(), state.store);
+    }
+
+
+    /** Creates a new store on top of the shared item catalog. */
+    @Benchmark
+    public Store newStore() {
+        return new Store();
+    }
+
+
+    /** Buys one food item. */
+    @Benchmark
+    public boolean buyFood(Shop state) {
+        return state.store.buyFood("Orange", state.inventory, 1);
+    }
+}
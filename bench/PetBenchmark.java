@@ -0,0 +1,218 @@
+package bench;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import src.Pet;
+import src.PetPopulation;
+import src.PetSimulation;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * JMH benchmarks for the pet simulation hot paths.
+ *
+ * <p>
+ * Covers a single pet ({@link Pet#applyDecline()}, construction and offline catch-up)
+ * and whole populations ({@link PetSimulation} and {@link PetPopulation}).
+ * One population operation is one full decline step, which is
+ * {@value #TICKS_PER_STEP} ticks.
+ * </p>
+ *
+ * <p>
+ * A fresh pet dies after 52 to 115 decline steps depending on its type, and a dead pet
+ * returns straight away, so every state refills its pets to full stats every
+ * {@value #STEPS_BEFORE_REFILL} steps. Each measured operation therefore declines living
+ * pets, cycling through the whole path from full stats to starving and exhausted. The
+ * single-pet refill runs inside the measured method, a reset every few hundred calls; the
+ * population refill runs in an untimed {@code Level.Invocation} setup.
+ * </p>
+ *
+ * @author Mohammed Abdulnabi
+ * @version 1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PetBenchmark {
+    /** Ticks that make up one decline step */
+    private static final int TICKS_PER_STEP = 15;
+
+    /** Decline steps after which pets are refilled, below the 52 steps the fastest type survives */
+    private static final int STEPS_BEFORE_REFILL = 48;
+
+    /**
+     * Builds a full-health pet of the given type, like a new game does.
+     *
+     * @param petType the pet type to create
+     * @return a new pet
+     */
+    static Pet newPet(String petType) {
+        return new Pet("bench", petType, 100, 100, 100, 100,
+                100, 100, 100, 100,
+                0, 0, 0, 0,
+                false, false, true, false,
+                0, 30, 0, 20, null);
+    }
+
+
+    /**
+     * State for the single-pet benchmarks.
+     */
+    @State(Scope.Thread)
+    public static class SinglePet {
+        Pet pet;
+        /** Timer ticks since the pet was last refilled */
+        int ticks;
+
+        @Setup(Level.Iteration)
+        public void setup() {
+            pet = newPet("PetOption1");
+            ticks = 0;
+        }
+
+        /**
+         * Counts one timer tick and refills the pet before it can die.
+         */
+        void keepAlive() {
+            if (++ticks == STEPS_BEFORE_REFILL * TICKS_PER_STEP) {
+                pet.resetState();
+                ticks = 0;
+            }
+        }
+    }
+
+
+    /**
+     * State for the {@link PetSimulation} benchmark.
+     */
+    @State(Scope.Benchmark)
+    public static class Simulation {
+        @Param({"1000", "100000", "1000000"})
+        int pets;
+
+        PetSimulation simulation;
+        /** Decline steps since the pets were last refilled */
+        int steps;
+
+        @Setup(Level.Trial)
+        public void setup() {
+            simulation = new PetSimulation(ForkJoinPool.commonPool());
+            for (int i = 0; i < pets; i++) {
+                simulation.addPet(newPet("PetOption" + (1 + i % 3)));
+            }
+        }
+
+        @Setup(Level.Invocation)
+        public void keepAlive() {
+            if (++steps > STEPS_BEFORE_REFILL) {
+                for (Pet pet : simulation.getPets()) {
+                    pet.resetState();
+                }
+                steps = 1;
+            }
+        }
+    }
+
+
+    /**
+     * State for the {@link PetPopulation} benchmarks.
+     */
+    @State(Scope.Benchmark)
+    public static class Population {
+        @Param({"1000", "100000", "1000000"})
+        int pets;
+
+        PetPopulation population;
+        ForkJoinPool pool;
+        /** Decline steps since the population was last refilled */
+        int steps;
+
+        @Setup(Level.Trial)
+        public void setup() {
+            pool = ForkJoinPool.commonPool();
+            refill();
+        }
+
+        @Setup(Level.Invocation)
+        public void keepAlive() {
+            if (++steps > STEPS_BEFORE_REFILL) {
+                refill();
+                steps = 1;
+            }
+        }
+
+        /**
+         * Rebuilds the population with full-stat pets. PetPopulation has no bulk reset,
+         * and this runs outside the timed region.
+         */
+        private void refill() {
+            population = new PetPopulation(pets);
+            for (int i = 0; i < pets; i++) {
+                population.add(newPet("PetOption" + (1 + i % 3)));
+            }
+        }
+    }
+
+
+    /**
+     * One timer tick for one living pet: a counter increment on 14 of 15 calls, a decline
+     * step on the 15th, plus the amortised refill.
+     */
+    @Benchmark
+    public void applyDecline(SinglePet state) {
+        state.pet.applyDecline();
+        state.keepAlive();
+    }
+
+
+    /** A full decline step for one living pet (15 timer ticks), reported per tick. */
+    @Benchmark
+    @OperationsPerInvocation(TICKS_PER_STEP)
+    public void applyDeclineFullStep(SinglePet state) {
+        for (int i = 0; i < TICKS_PER_STEP; i++) {
+            state.pet.applyDecline();
+            state.keepAlive();
+        }
+    }
+
+
+    /** Creating a new pet, as a new game or a save load does. */
+    @Benchmark
+    public Pet construct() {
+        return newPet("PetOption2");
+    }
+
+
+    /** Catching a fresh pet up on a day of elapsed ticks. */
+    @Benchmark
+    public void advanceOneDay(Blackhole blackhole) {
+        Pet pet = newPet("PetOption3");
+        pet.advanceTicks(TimeUnit.DAYS.toMillis(1) / 250);
+        blackhole.consume(pet);
+    }
+
+
+    /** One decline step for a population of living Pet objects on the fork-join pool. */
+    @Benchmark
+    public void simulationStep(Simulation state) {
+        state.simulation.tick(TICKS_PER_STEP);
+    }
+
+
+    /** One decline step for a living column-store population on the calling thread. */
+    @Benchmark
+    public void populationStep(Population state) {
+        state.population.tick(TICKS_PER_STEP);
+    }
+
+
+    /** One decline step for a living column-store population on the fork-join pool. */
+    @Benchmark
+    public void populationStepParallel(Population state) {
+        state.population.tick(TICKS_PER_STEP, state.pool);
+    }
+}
@@ -0,0 +1,290 @@
+package src;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.metadata.IIOMetadata;
+import javax.imageio.metadata.IIOMetadataNode;
+import javax.imageio.stream.ImageInputStream;
+import javax.swing.Icon;
+import java.awt.AlphaComposite;
+import java.awt.Component;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+
+
+/**
+ * An icon that plays an animation from frames decoded ahead of time.
+ *
+ * <p>
+ * A GIF is decoded once by {@link #read(File)} into one full-size image per frame, with
+ * each frame's offset, transparency and disposal already applied, so drawing a frame is a
+ * single image copy. The frame shown is worked out from the shared {@link AnimationClock},
+ * which also repaints the components showing an animation when its frame changes. This
+ * replaces the toolkit's per-image animation threads and observer callbacks.
+ * </p>
+ *
+ * <p>
+ * Files that are not GIFs (some resources are PNGs with a {@code .gif} name) are read as a
+ * single still frame. Frames are never changed after decoding, so one icon can be shared
+ * and drawn from several places at once.
+ * </p>
+ *
+ * @author Mohammed Abdulnabi
+ * @version 1.0
+ */
+public class AnimatedIcon implements Icon {
+    /** Delay used for frames that ask for (almost) none, as browsers do */
+    private static final int DEFAULT_DELAY_MILLIS = 100;
+
+    /** The decoded frames, all the size of the icon */
+    private final BufferedImage[] frames;
+
+    /** Time (in milliseconds into the animation) at which each frame ends */
+    private final int[] frameEnds;
+
+    /** Length of one loop of the animation in milliseconds */
+    private final int duration;
+
+
+    /**
+     * Constructs an animated icon from decoded frames.
+     *
+     * @param frames the frames, all the same size
+     * @param delays how long each frame is shown, in milliseconds
+     */
+    public AnimatedIcon(BufferedImage[] frames, int[] delays) {
+        if (frames.length == 0 || frames.length != delays.length) {
+            throw new IllegalArgumentException("Need one delay per frame, and at least one frame");
+        }
+        this.frames = frames.clone();
+        this.frameEnds = new int[delays.length];
+        int time = 0;
+        for (int i = 0; i < delays.length; i++) {
+            time += delays[i] <= 10 ? DEFAULT_DELAY_MILLIS : delays[i];
+            frameEnds[i] = time;
+        }
+        this.duration = time;
+    }
+
+
+    /**
+     * Decodes an image file into an animated icon.
+     *
+     * @param file the GIF (or other image) file
+     * @return the decoded icon
+     * @throws IOException if the file cannot be read or decoded
+     */
+    public static AnimatedIcon read(File file) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(file)) {
+            if (input == null) {
+                throw new IOException("Cannot open " + file);
+            }
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                throw new IOException("Unknown image format: " + file);
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input);
+                if ("gif".equalsIgnoreCase(reader.getFormatName())) {
+                    return readGif(reader);
+                }
+                // Not really a GIF, show it as a still image
+                BufferedImage still = toIntArgb(reader.read(0));
+                return new AnimatedIcon(new BufferedImage[] {still}, new int[] {DEFAULT_DELAY_MILLIS});
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+
+    /**
+     * Returns the number of frames in the animation.
+     *
+     * @return the frame count
+     */
+    public int getFrameCount() {
+        return frames.length;
+    }
+
+
+    /**
+     * Returns the frame shown at a point in the animation.
+     *
+     * @param timeMillis time since the animation started, in milliseconds
+     * @return the index of the frame
+     */
+    public int frameAt(long timeMillis) {
+        if (frames.length == 1) {
+            return 0;
+        }
+        int time = (int) (timeMillis % duration);
+        int index = Arrays.binarySearch(frameEnds, time);
+        // An exact hit is the end of that frame, so the next one is showing
+        return index >= 0 ? (index + 1) % frames.length : -index - 1;
+    }
+
+
+    /**
+     * Returns a decoded frame. The image is shared and must not be changed.
+     *
+     * @param index the index of the frame
+     * @return the frame
+     */
+    public BufferedImage getFrame(int index) {
+        return frames[index];
+    }
+
+
+    /**
+     * Draws the current frame, and lets the {@link AnimationClock} know the component shows
+     * this animation so it is repainted when the frame changes.
+     *
+     * @param c the component the icon is drawn on
+     * @param g the graphics to draw with
+     * @param x the x position to draw at
+     * @param y the y position to draw at
+     */
+    @Override
+    public void paintIcon(Component c, Graphics g, int x, int y) {
+        int index = frameAt(AnimationClock.now());
+        g.drawImage(frames[index], x, y, null);
+        if (frames.length > 1 && c != null) {
+            AnimationClock.painted(this, c, x, y, index);
+        }
+    }
+
+
+    /**
+     * Returns the width of the icon.
+     *
+     * @return the frame width
+     */
+    @Override
+    public int getIconWidth() {
+        return frames[0].getWidth();
+    }
+
+
+    /**
+     * Returns the height of the icon.
+     *
+     * @return the frame height
+     */
+    @Override
+    public int getIconHeight() {
+        return frames[0].getHeight();
+    }
+
+
+    /**
+     * Decodes every frame of a GIF onto a canvas the size of the GIF, applying each frame's
+     * position and disposal method the same way a browser would.
+     *
+     * @param reader a GIF reader with its input set
+     * @return the decoded icon
+     * @throws IOException if the GIF cannot be decoded
+     */
+    private static AnimatedIcon readGif(ImageReader reader) throws IOException {
+        int count = reader.getNumImages(true);
+        int width = reader.getWidth(0);
+        int height = reader.getHeight(0);
+        IIOMetadataNode screen = child(reader.getStreamMetadata(), "LogicalScreenDescriptor");
+        if (screen != null) {
+            width = Math.max(width, Integer.parseInt(screen.getAttribute("logicalScreenWidth")));
+            height = Math.max(height, Integer.parseInt(screen.getAttribute("logicalScreenHeight")));
+        }
+
+        BufferedImage canvas = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = canvas.createGraphics();
+        List<BufferedImage> frames = new ArrayList<>();
+        int[] delays = new int[count];
+        try {
+            for (int i = 0; i < count; i++) {
+                BufferedImage image = reader.read(i);
+                IIOMetadata metadata = reader.getImageMetadata(i);
+                IIOMetadataNode descriptor = child(metadata, "ImageDescriptor");
+                IIOMetadataNode control = child(metadata, "GraphicControlExtension");
+
+                int left = descriptor == null ? 0 : Integer.parseInt(descriptor.getAttribute("imageLeftPosition"));
+                int top = descriptor == null ? 0 : Integer.parseInt(descriptor.getAttribute("imageTopPosition"));
+                String disposal = control == null ? "none" : control.getAttribute("disposalMethod");
+                delays[i] = control == null ? 0 : Integer.parseInt(control.getAttribute("delayTime")) * 10;
+
+                // Keep what was under the frame if it is to be restored afterwards
+                BufferedImage previous = "restoreToPrevious".equals(disposal) ? copy(canvas) : null;
+
+                g.drawImage(image, left, top, null);
+                frames.add(copy(canvas));
+
+                if ("restoreToBackgroundColor".equals(disposal)) {
+                    g.setComposite(AlphaComposite.Clear);
+                    g.fillRect(left, top, image.getWidth(), image.getHeight());
+                    g.setComposite(AlphaComposite.SrcOver);
+                } else if (previous != null) {
+                    g.setComposite(AlphaComposite.Src);
+                    g.drawImage(previous, 0, 0, null);
+                    g.setComposite(AlphaComposite.SrcOver);
+                }
+            }
+        } finally {
+            g.dispose();
+        }
+        return new AnimatedIcon(frames.toArray(new BufferedImage[0]), delays);
+    }
+
+
+    /**
+     * Finds a top-level node in an image's GIF metadata.
+     *
+     * @param metadata the metadata
+     * @param name the name of the node
+     * @return the node, or null if there is none
+     */
+    private static IIOMetadataNode child(IIOMetadata metadata, String name) {
+        if (metadata == null) {
+            return null;
+        }
+        IIOMetadataNode root = (IIOMetadataNode) metadata.getAsTree(metadata.getNativeMetadataFormatName());
+        for (int i = 0; i < root.getLength(); i++) {
+            if (root.item(i).getNodeName().equals(name)) {
+                return (IIOMetadataNode) root.item(i);
+            }
+        }
+        return null;
+    }
+
+
+    /**
+     * Copies an image into a new ARGB image.
+     *
+     * @param image the image to copy
+     * @return the copy
+     */
+    private static BufferedImage copy(BufferedImage image) {
+        BufferedImage copy = new BufferedImage(image.getWidth(), image.getHeight(), BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = copy.createGraphics();
+        g.drawImage(image, 0, 0, null);
+        g.dispose();
+        return copy;
+    }
+
+
+    /**
+     * Converts an image to the ARGB pixel layout, which Swing draws the fastest.
+     *
+     * @param image the decoded image
+     * @return the image in ARGB layout (the same image if it already is)
+     */
+    private static BufferedImage toIntArgb(BufferedImage image) {
+        return image.getType() == BufferedImage.TYPE_INT_ARGB ? image : copy(image);
+    }
+}
@@ -0,0 +1,163 @@
+package src;
+
+import javax.swing.Timer;
+import java.awt.Component;
+import java.beans.PropertyChangeListener;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+
+/**
+ * The one clock every {@link AnimatedIcon} on screen is played from.
+ *
+ * <p>
+ * All animations read their current frame from the same time base, so they stay in step,
+ * and a single Swing {@link Timer} checks them. When an icon is painted it tells the clock
+ * where; on each tick the clock repaints just that area if the icon has moved on to a new
+ * frame. A component's animations are forgotten when it is no longer showing (it was
+ * removed or its screen is hidden) or when its {@code "icon"} property changes, and the
+ * timer stops when no animation is on screen. A repaint that has not happened yet, for
+ * example while the event thread is busy, is simply asked for again on the next tick.
+ * </p>
+ *
+ * <p>
+ * Like the rest of the UI, the clock is only used on the Swing event thread.
+ * </p>
+ *
+ * @author Mohammed Abdulnabi
+ * @version 1.0
+ */
+public final class AnimationClock {
+    /** Time between checks for new frames (in milliseconds) */
+    public static final int TICK_MILLIS = 20;
+
+    /** When the clock started, in nanoseconds */
+    private static final long START_NANOS = System.nanoTime();
+
+    /** Animations on screen, by component and then by icon */
+    private static final Map<Component, Map<AnimatedIcon, Viewer>> VIEWERS = new IdentityHashMap<>();
+
+    /** Timer that checks the animations on screen */
+    private static final Timer TIMER = new Timer(TICK_MILLIS, e -> tick());
+
+    /** Forgets a component's animations when it shows a different icon; they come back when painted */
+    private static final PropertyChangeListener ICON_CHANGED = e -> forget((Component) e.getSource());
+
+
+    /**
+     * Private constructor, this class only has static helpers.
+     */
+    private AnimationClock() {
+    }
+
+
+    /**
+     * Returns the time on the shared clock.
+     *
+     * @return milliseconds since the clock started
+     */
+    public static long now() {
+        return (System.nanoTime() - START_NANOS) / 1_000_000L;
+    }
+
+
+    /**
+     * Records that an animation frame was painted on a component.
+     * Called by {@link AnimatedIcon#paintIcon}.
+     *
+     * @param icon the animation
+     * @param component the component it was painted on
+     * @param x the x position it was painted at
+     * @param y the y position it was painted at
+     * @param frame the frame that was painted
+     */
+    static void painted(AnimatedIcon icon, Component component, int x, int y, int frame) {
+        Map<AnimatedIcon, Viewer> icons = VIEWERS.get(component);
+        if (icons == null) {
+            icons = new IdentityHashMap<>();
+            VIEWERS.put(component, icons);
+            component.addPropertyChangeListener("icon", ICON_CHANGED);
+        }
+        Viewer viewer = icons.computeIfAbsent(icon, i -> new Viewer());
+        viewer.x = x;
+        viewer.y = y;
+        viewer.frame = frame;
+        if (!TIMER.isRunning()) {
+            TIMER.start();
+        }
+    }
+
+
+    /**
+     * Returns how many animations are being played right now.
+     *
+     * @return the number of animations on screen
+     */
+    public static int getActiveCount() {
+        int count = 0;
+        for (Map<AnimatedIcon, Viewer> icons : VIEWERS.values()) {
+            count += icons.size();
+        }
+        return count;
+    }
+
+
+    /**
+     * Forgets the animations painted on a component.
+     *
+     * @param component the component
+     */
+    private static void forget(Component component) {
+        if (VIEWERS.remove(component) != null) {
+            component.removePropertyChangeListener("icon", ICON_CHANGED);
+        }
+    }
+
+
+    /**
+     * Repaints each animation whose frame has changed and forgets the components no longer showing.
+     */
+    private static void tick() {
+        long now = now();
+        Iterator<Map.Entry<Component, Map<AnimatedIcon, Viewer>>> components = VIEWERS.entrySet().iterator();
+        while (components.hasNext()) {
+            Map.Entry<Component, Map<AnimatedIcon, Viewer>> entry = components.next();
+            Component component = entry.getKey();
+            if (!component.isShowing()) {
+                // Removed from its screen or hidden, it paints again (and comes back) if shown
+                components.remove();
+                component.removePropertyChangeListener("icon", ICON_CHANGED);
+                continue;
+            }
+
+            for (Map.Entry<AnimatedIcon, Viewer> shown : entry.getValue().entrySet()) {
+                AnimatedIcon icon = shown.getKey();
+                Viewer viewer = shown.getValue();
+                if (icon.frameAt(now) != viewer.frame) {
+                    // Asked again every tick until painted, Swing merges the repeated requests
+                    component.repaint(viewer.x, viewer.y, icon.getIconWidth(), icon.getIconHeight());
+                }
+            }
+        }
+
+        if (VIEWERS.isEmpty()) {
+            TIMER.stop();
+        }
+    }
+
+
+    /**
+     * Where and which frame of an animation was last painted on a component.
+     */
+    private static final class Viewer {
+        /** The x position the icon was painted at */
+        int x;
+
+        /** The y position the icon was painted at */
+        int y;
+
+        /** The frame that was painted */
+        int frame;
+    }
+}
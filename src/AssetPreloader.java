@@ -0,0 +1,157 @@
+package src;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+
+/**
+ * Loads a list of images ahead of time on a pool of worker threads.
+ *
+ * <p>
+ * Each image is loaded into {@link ImageAssets} (GIFs are decoded into animation frames),
+ * either at its original size with {@link #start} or straight into the scaled cache with
+ * {@link #startScaled}, so when a screen is built it finds its images already decoded
+ * instead of reading them one by one on the thread that builds it. The preloader counts the
+ * images it has finished, so a progress bar can be shown while it runs. Screens do not have
+ * to wait for it: an image that is not loaded yet is simply loaded on demand.
+ * </p>
+ *
+ * <p>
+ * Only the images a screen is about to show should be preloaded. The image caches are
+ * bounded, so loading every image up front would only push out the ones that are needed.
+ * </p>
+ *
+ * @author Mohammed Abdulnabi
+ * @version 1.0
+ */
+public class AssetPreloader {
+    /** Image files to load */
+    private final List<String> paths;
+
+    /** Number of images loaded so far */
+    private final AtomicInteger completed = new AtomicInteger();
+
+    /** Completes when every image has been loaded */
+    private final CompletableFuture<Void> done;
+
+
+    /**
+     * Starts loading the given images at their original size.
+     *
+     * @param paths the image files to load (e.g., "resources/grid.png")
+     * @return the running preloader
+     */
+    public static AssetPreloader start(String... paths) {
+        return new AssetPreloader(Arrays.asList(paths), path -> {
+            if (path.toLowerCase(Locale.ROOT).endsWith(".gif")) {
+                ImageAssets.getAnimation(path);
+            } else {
+                ImageAssets.getIcon(path);
+            }
+        });
+    }
+
+
+    /**
+     * Starts loading the given images scaled to one size, the way
+     * {@link ImageAssets#getScaledIcon} returns them. The full-size images are not kept.
+     *
+     * @param width the width to scale to
+     * @param height the height to scale to
+     * @param paths the image files to load
+     * @return the running preloader
+     */
+    public static AssetPreloader startScaled(int width, int height, String... paths) {
+        return new AssetPreloader(Arrays.asList(paths), path -> ImageAssets.getScaledIcon(path, width, height));
+    }
+
+
+    /**
+     * Starts loading the given image files on a new worker pool.
+     * The pool is shut down once every image is loaded.
+     *
+     * @param paths the image files to load
+     * @param loader loads one image into {@link ImageAssets}
+     */
+    private AssetPreloader(List<String> paths, Consumer<String> loader) {
+        this.paths = paths;
+        AtomicInteger threadNumber = new AtomicInteger();
+        int threads = Math.max(1, Math.min(Runtime.getRuntime().availableProcessors(), paths.size()));
+        ExecutorService pool = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "asset-preloader-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        CompletableFuture<?>[] tasks = new CompletableFuture<?>[paths.size()];
+        for (int i = 0; i < tasks.length; i++) {
+            String path = paths.get(i);
+            tasks[i] = CompletableFuture.runAsync(() -> {
+                loader.accept(path);
+                completed.incrementAndGet();
+            }, pool);
+        }
+        this.done = CompletableFuture.allOf(tasks);
+        done.whenComplete((ignored, error) -> pool.shutdown());
+    }
+
+
+    /**
+     * Returns the number of images being loaded.
+     *
+     * @return the total number of images
+     */
+    public int getTotal() {
+        return paths.size();
+    }
+
+
+    /**
+     * Returns the number of images loaded so far.
+     *
+     * @return the number of finished images
+     */
+    public int getCompleted() {
+        return completed.get();
+    }
+
+
+    /**
+     * Checks whether every image has been loaded.
+     *
+     * @return true once preloading has finished
+     */
+    public boolean isDone() {
+        return done.isDone();
+    }
+
+
+    /**
+     * Waits up to the given time for preloading to finish.
+     *
+     * @param timeout how long to wait
+     * @param unit the unit of the timeout
+     * @return true if preloading has finished, false if the time ran out first
+     * @throws InterruptedException if the waiting thread is interrupted
+     */
+    public boolean awaitDone(long timeout, TimeUnit unit) throws InterruptedException {
+        try {
+            done.get(timeout, unit);
+        } catch (TimeoutException e) {
+            return false;
+        } catch (ExecutionException e) {
+            // A broken image is loaded again (and reported) when a screen asks for it
+            System.out.println("Error preloading images: " + e.getCause());
+        }
+        return true;
+    }
+}
@@ -0,0 +1,364 @@
+package src;
+
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioSystem;
+import javax.sound.sampled.LineUnavailableException;
+import javax.sound.sampled.SourceDataLine;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+
+/**
+ * Plays every sound in the game, effects and music, through one audio line.
+ *
+ * <p>
+ * Instead of opening a {@link javax.sound.sampled.Clip} (and a system audio line) for each
+ * sound, the mixer opens a single {@link SourceDataLine} when it is first used and keeps it
+ * for the rest of the game. A dedicated thread adds up the samples of every sound playing
+ * and writes the result to the line in small chunks. Sounds are {@link SoundBuffer}s that
+ * were decoded once into the mixer's {@link #FORMAT}, so starting one only queues it.
+ * </p>
+ *
+ * <p>
+ * At most {@link #MAX_VOICES} sound effects play at once; starting another one cuts off
+ * the oldest. Streams such as the background music ({@link MusicStream}) are mixed in
+ * alongside the effects and are never cut off. When nothing is playing the thread sleeps
+ * until the next sound is started.
+ * If no audio line can be opened (e.g. there is no sound card), sounds are silently
+ * ignored.
+ * </p>
+ *
+ * @author Aya Abdulnabi
+ * @author Mohammed Abdulnabi
+ * @version 1.0
+ */
+public final class AudioMixer {
+    /** Sample rate everything is mixed at */
+    public static final int SAMPLE_RATE = 44100;
+
+    /** Format written to the line: 16-bit signed little-endian stereo */
+    public static final AudioFormat FORMAT = new AudioFormat(SAMPLE_RATE, 16, 2, true, false);
+
+    /** Most sounds that can play at the same time */
+    public static final int MAX_VOICES = 8;
+
+    /** Frames mixed and written at a time (about 12 ms) */
+    static final int CHUNK_FRAMES = 512;
+
+    /** Size of the line's buffer in frames, which bounds how late a new sound starts */
+    private static final int LINE_BUFFER_FRAMES = CHUNK_FRAMES * 4;
+
+    /** Bytes in one frame of {@link #FORMAT} */
+    private static final int FRAME_BYTES = 4;
+
+    /** The mixer shared by the whole game, opened when first needed */
+    private static AudioMixer shared;
+
+    /** The line the mix is written to (null if none could be opened) */
+    private final SourceDataLine line;
+
+    /** Sounds started since the mixer thread last looked */
+    private final ConcurrentLinkedQueue<SoundVoice> started = new ConcurrentLinkedQueue<>();
+
+    /** Sounds playing, oldest first (only used by the mixer thread) */
+    private final ArrayDeque<Voice> voices = new ArrayDeque<>();
+
+    /** Streams added since the mixer thread last looked */
+    private final ConcurrentLinkedQueue<Voice> addedStreams = new ConcurrentLinkedQueue<>();
+
+    /** Streams playing (only used by the mixer thread) */
+    private final ArrayDeque<Voice> streams = new ArrayDeque<>();
+
+    /** Sum of all voices for the chunk being mixed */
+    private final int[] mix = new int[CHUNK_FRAMES * 2];
+
+    /** The chunk in the line's byte format */
+    private final byte[] output = new byte[CHUNK_FRAMES * FRAME_BYTES];
+
+    /** Lock the mixer thread waits on while nothing is playing */
+    private final Object wakeUp = new Object();
+
+    /** Whether the mixer is still running */
+    private volatile boolean running;
+
+
+    /**
+     * Constructs a mixer writing to the given line. The line must already be open.
+     *
+     * @param line the line to play through, or null to mix without playing
+     */
+    AudioMixer(SourceDataLine line) {
+        this.line = line;
+    }
+
+
+    /**
+     * Returns the mixer shared by the whole game, opening the audio line and starting
+     * the mixer thread the first time it is called.
+     *
+     * @return the shared mixer
+     */
+    public static synchronized AudioMixer getShared() {
+        if (shared == null) {
+            SourceDataLine line = null;
+            long opening = System.nanoTime();
+            try {
+                line = AudioSystem.getSourceDataLine(FORMAT);
+                line.open(FORMAT, LINE_BUFFER_FRAMES * FRAME_BYTES);
+                line.start();
+                AudioStats.get().recordLineOpen(System.nanoTime() - opening);
+                AudioStats.get().lineOpened(1);
+            } catch (LineUnavailableException | IllegalArgumentException | SecurityException e) {
+                System.out.println("No audio line available, sound effects are off (" + e.getMessage() + ")");
+                line = null;
+            }
+            shared = new AudioMixer(line);
+            if (line != null) {
+                shared.start();
+            }
+        }
+        return shared;
+    }
+
+
+    /**
+     * Starts playing a sound from the beginning. May be called from any thread.
+     *
+     * @param sound the decoded sound
+     * @param gain the volume to play it at, 1.0 being the sound's own volume
+     */
+    public void play(SoundBuffer sound, float gain) {
+        play(sound, gain, System.nanoTime());
+    }
+
+
+    /**
+     * Starts playing a sound from the beginning. May be called from any thread.
+     *
+     * @param sound the decoded sound
+     * @param gain the volume to play it at, 1.0 being the sound's own volume
+     * @param triggeredNanos when the sound was asked for ({@link System#nanoTime()}),
+     *                       which its latency is measured from
+     */
+    public void play(SoundBuffer sound, float gain, long triggeredNanos) {
+        if (!running || sound.getFrameCount() == 0) {
+            return;
+        }
+        started.add(new SoundVoice(sound, gain, triggeredNanos));
+        synchronized (wakeUp) {
+            wakeUp.notify();
+        }
+    }
+
+
+    /**
+     * Starts mixing in a stream, which plays until its {@link Voice#mixInto} returns false.
+     * Streams do not count towards {@link #MAX_VOICES}. May be called from any thread.
+     *
+     * @param stream the stream to play
+     * @return false if the mixer is not running, so the stream will not be played
+     */
+    public boolean addStream(Voice stream) {
+        if (!running) {
+            return false;
+        }
+        addedStreams.add(stream);
+        synchronized (wakeUp) {
+            wakeUp.notify();
+        }
+        return true;
+    }
+
+
+    /**
+     * Stops the mixer thread and closes the audio line.
+     */
+    public void close() {
+        running = false;
+        synchronized (wakeUp) {
+            wakeUp.notify();
+        }
+        if (line != null) {
+            line.close();
+            AudioStats.get().lineOpened(-1);
+        }
+    }
+
+
+    /**
+     * Starts the mixer thread.
+     */
+    private void start() {
+        running = true;
+        Thread thread = new Thread(this::run, "audio-mixer");
+        thread.setDaemon(true);
+        thread.setPriority(Thread.MAX_PRIORITY);
+        thread.start();
+    }
+
+
+    /**
+     * The mixer thread: mixes and writes chunks while there is something to play,
+     * and waits for a new sound otherwise.
+     */
+    private void run() {
+        boolean playing = false;
+        while (running) {
+            synchronized (wakeUp) {
+                while (running && voices.isEmpty() && started.isEmpty()
+                        && streams.isEmpty() && addedStreams.isEmpty()) {
+                    playing = false;
+                    try {
+                        wakeUp.wait();
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                }
+            }
+            if (!running) {
+                return;
+            }
+            int frames = mixChunk();
+            if (playing && line.available() >= line.getBufferSize()) {
+                // Everything written so far has played out: there was a gap
+                AudioStats.get().recordLineUnderrun();
+            }
+            // Blocks until the line has room, which keeps the thread in step with playback
+            line.write(output, 0, frames * FRAME_BYTES);
+            playing = true;
+        }
+    }
+
+
+    /**
+     * Mixes the next chunk of every playing sound into {@link #output}.
+     *
+     * @return the number of frames mixed
+     */
+    int mixChunk() {
+        // Take in newly started sounds, cutting off the oldest ones if there are too many
+        SoundVoice sound;
+        long queuedNanos = line == null ? 0
+                : (line.getBufferSize() - line.available()) / FRAME_BYTES * 1_000_000_000L / SAMPLE_RATE;
+        while ((sound = started.poll()) != null) {
+            if (voices.size() == MAX_VOICES) {
+                voices.removeFirst();
+            }
+            voices.addLast(sound);
+            // Its first frame plays once the audio already queued in the line has
+            AudioStats.get().recordLatency(System.nanoTime() - sound.triggeredNanos + queuedNanos);
+        }
+        Voice voice;
+        while ((voice = addedStreams.poll()) != null) {
+            streams.addLast(voice);
+        }
+
+        Arrays.fill(mix, 0);
+        mixAll(streams);
+        mixAll(voices);
+        AudioStats.get().setActiveVoices(streams.size() + voices.size());
+
+        // Clamp the sum to 16 bits and write it out little-endian
+        for (int i = 0; i < mix.length; i++) {
+            int sample = Math.max(Short.MIN_VALUE, Math.min(Short.MAX_VALUE, mix[i]));
+            output[i * 2] = (byte) sample;
+            output[i * 2 + 1] = (byte) (sample >> 8);
+        }
+        return CHUNK_FRAMES;
+    }
+
+
+    /**
+     * Mixes the next chunk of each voice in a list, dropping the ones that have finished.
+     *
+     * @param list the voices to mix
+     */
+    private void mixAll(ArrayDeque<Voice> list) {
+        Iterator<Voice> playing = list.iterator();
+        while (playing.hasNext()) {
+            if (!playing.next().mixInto(mix, CHUNK_FRAMES)) {
+                playing.remove();
+            }
+        }
+    }
+
+
+    /**
+     * Returns the chunk last mixed by {@link #mixChunk()}.
+     *
+     * @return the chunk as 16-bit little-endian stereo bytes
+     */
+    byte[] output() {
+        return output;
+    }
+
+
+    /**
+     * Returns how many sound effects are playing. Only accurate on the mixer thread.
+     *
+     * @return the number of voices
+     */
+    int getVoiceCount() {
+        return voices.size();
+    }
+
+
+    /**
+     * Something the mixer plays.
+     */
+    interface Voice {
+        /**
+         * Adds the next frames of this voice to the mix.
+         *
+         * @param mix interleaved left/right sums to add to
+         * @param frames the number of frames to add
+         * @return false once the voice has finished and can be dropped
+         */
+        boolean mixInto(int[] mix, int frames);
+    }
+
+
+    /**
+     * A decoded sound playing once from start to end.
+     */
+    private static final class SoundVoice implements Voice {
+        /** Samples of the sound */
+        private final short[] samples;
+
+        /** Volume the sound plays at, as a fraction of 256 */
+        private final int gain;
+
+        /** When the sound was asked for, in {@link System#nanoTime()} time */
+        final long triggeredNanos;
+
+        /** Index of the next sample to play */
+        private int position;
+
+
+        /**
+         * Constructs a voice playing a sound from the beginning.
+         *
+         * @param sound the sound
+         * @param gain the volume, 1.0 being the sound's own volume
+         * @param triggeredNanos when the sound was asked for
+         */
+        SoundVoice(SoundBuffer sound, float gain, long triggeredNanos) {
+            this.samples = sound.samples();
+            this.gain = Math.round(Math.max(0f, gain) * 256);
+            this.triggeredNanos = triggeredNanos;
+        }
+
+
+        @Override
+        public boolean mixInto(int[] mix, int frames) {
+            int count = Math.min(frames * 2, samples.length - position);
+            for (int i = 0; i < count; i++) {
+                mix[i] += (samples[position + i] * gain) >> 8;
+            }
+            position += count;
+            return position < samples.length;
+        }
+    }
+}
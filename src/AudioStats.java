@@ -0,0 +1,361 @@
+package src;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Locale;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+
+/**
+ * Numbers on how the game's audio is performing, to find out why a sound starts late.
+ *
+ * <p>
+ * The audio classes record how long decoding sound files and opening the audio line
+ * take, how long the caller is held up starting a sound effect, how long a sound effect
+ * takes to reach the speaker once started, how many lines and voices are active, and how
+ * often the line or the music runs dry. {@link #install()} publishes the numbers as a
+ * JMX bean under {@value #OBJECT_NAME}. Starting the game with
+ * {@code -Dvirtualpet.audiostats=<seconds>} also prints them to the console that often.
+ * </p>
+ *
+ * <p>
+ * Everything may be recorded from any thread.
+ * </p>
+ *
+ * @author Mohammed Abdulnabi
+ * @version 1.0
+ */
+public final class AudioStats implements AudioStatsMBean {
+    /** Name the stats are published under */
+    public static final String OBJECT_NAME = "src:type=AudioStats";
+
+    /** System property holding the number of seconds between log lines */
+    public static final String LOG_PROPERTY = "virtualpet.audiostats";
+
+    /** The stats for the whole game */
+    private static final AudioStats INSTANCE = new AudioStats();
+
+    /** Whether the stats have been published */
+    private static boolean installed;
+
+    /** Time spent decoding sound files */
+    private final Timing decode = new Timing();
+
+    /** Time callers spent starting sound effects */
+    private final Timing trigger = new Timing();
+
+    /** Time from starting a sound effect to its first frame playing */
+    private final Timing latency = new Timing();
+
+    /** Time taken to open the audio line, in nanoseconds */
+    private final AtomicLong lineOpenNanos = new AtomicLong();
+
+    /** Audio lines open */
+    private final AtomicInteger activeLines = new AtomicInteger();
+
+    /** Voices being mixed */
+    private final AtomicInteger activeVoices = new AtomicInteger();
+
+    /** Times the line ran dry while sounds were playing */
+    private final AtomicLong lineUnderruns = new AtomicLong();
+
+    /** Times the music ran out of decoded samples */
+    private final AtomicLong musicUnderruns = new AtomicLong();
+
+
+    /**
+     * Private constructor, use {@link #get()}.
+     */
+    private AudioStats() {
+    }
+
+
+    /**
+     * Returns the stats for the whole game.
+     *
+     * @return the stats
+     */
+    public static AudioStats get() {
+        return INSTANCE;
+    }
+
+
+    /**
+     * Publishes the stats as a JMX bean and, if the {@value #LOG_PROPERTY} property is
+     * set, starts printing them periodically. Calling it again does nothing.
+     */
+    public static synchronized void install() {
+        if (installed) {
+            return;
+        }
+        installed = true;
+        try {
+            ManagementFactory.getPlatformMBeanServer().registerMBean(INSTANCE, new ObjectName(OBJECT_NAME));
+        } catch (JMException e) {
+            System.out.println("Could not publish audio stats: " + e.getMessage());
+        }
+
+        int seconds = Integer.getInteger(LOG_PROPERTY, 0);
+        if (seconds > 0) {
+            ScheduledExecutorService logger = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "audio-stats");
+                thread.setDaemon(true);
+                return thread;
+            });
+            logger.scheduleAtFixedRate(() -> System.out.println(INSTANCE), seconds, seconds, TimeUnit.SECONDS);
+        }
+    }
+
+
+    /**
+     * Records the time taken to decode a sound file.
+     *
+     * @param nanos the decode time in nanoseconds
+     */
+    public void recordDecode(long nanos) {
+        decode.record(nanos);
+    }
+
+
+    /**
+     * Records the time taken to open the audio line.
+     *
+     * @param nanos the open time in nanoseconds
+     */
+    public void recordLineOpen(long nanos) {
+        lineOpenNanos.set(nanos);
+    }
+
+
+    /**
+     * Records the time a caller spent starting a sound effect.
+     *
+     * @param nanos the call time in nanoseconds
+     */
+    public void recordTrigger(long nanos) {
+        trigger.record(nanos);
+    }
+
+
+    /**
+     * Records the time from a sound effect being started to its first frame playing.
+     *
+     * @param nanos the latency in nanoseconds
+     */
+    public void recordLatency(long nanos) {
+        latency.record(nanos);
+    }
+
+
+    /**
+     * Records an audio line being opened (1) or closed (-1).
+     *
+     * @param change the change in open lines
+     */
+    public void lineOpened(int change) {
+        activeLines.addAndGet(change);
+    }
+
+
+    /**
+     * Records the number of voices being mixed.
+     *
+     * @param voices the number of voices
+     */
+    public void setActiveVoices(int voices) {
+        activeVoices.set(voices);
+    }
+
+
+    /**
+     * Records the audio line running dry while sounds were playing.
+     */
+    public void recordLineUnderrun() {
+        lineUnderruns.incrementAndGet();
+    }
+
+
+    /**
+     * Records the music running out of decoded samples.
+     */
+    public void recordMusicUnderrun() {
+        musicUnderruns.incrementAndGet();
+    }
+
+
+    @Override
+    public long getDecodeCount() {
+        return decode.count();
+    }
+
+
+    @Override
+    public double getAverageDecodeMillis() {
+        return decode.averageMillis();
+    }
+
+
+    @Override
+    public double getMaxDecodeMillis() {
+        return decode.maxMillis();
+    }
+
+
+    @Override
+    public double getLineOpenMillis() {
+        return lineOpenNanos.get() / 1e6;
+    }
+
+
+    @Override
+    public long getPlayCount() {
+        return trigger.count();
+    }
+
+
+    @Override
+    public double getAverageTriggerMillis() {
+        return trigger.averageMillis();
+    }
+
+
+    @Override
+    public double getMaxTriggerMillis() {
+        return trigger.maxMillis();
+    }
+
+
+    @Override
+    public double getAverageLatencyMillis() {
+        return latency.averageMillis();
+    }
+
+
+    @Override
+    public double getMaxLatencyMillis() {
+        return latency.maxMillis();
+    }
+
+
+    @Override
+    public int getActiveLines() {
+        return activeLines.get();
+    }
+
+
+    @Override
+    public int getActiveVoices() {
+        return activeVoices.get();
+    }
+
+
+    @Override
+    public long getLineUnderruns() {
+        return lineUnderruns.get();
+    }
+
+
+    @Override
+    public long getMusicUnderruns() {
+        return musicUnderruns.get();
+    }
+
+
+    @Override
+    public void reset() {
+        decode.reset();
+        trigger.reset();
+        latency.reset();
+        lineUnderruns.set(0);
+        musicUnderruns.set(0);
+    }
+
+
+    /**
+     * Returns the stats as one log line.
+     *
+     * @return the stats
+     */
+    @Override
+    public String toString() {
+        return String.format(Locale.ROOT,
+                "Audio: decode %d avg %.1fms max %.1fms | line open %.1fms | play %d trigger avg %.2fms max %.2fms"
+                        + " | latency avg %.1fms max %.1fms | lines %d voices %d | underruns line %d music %d",
+                getDecodeCount(), getAverageDecodeMillis(), getMaxDecodeMillis(), getLineOpenMillis(),
+                getPlayCount(), getAverageTriggerMillis(), getMaxTriggerMillis(),
+                getAverageLatencyMillis(), getMaxLatencyMillis(), getActiveLines(), getActiveVoices(),
+                getLineUnderruns(), getMusicUnderruns());
+    }
+
+
+    /**
+     * Count, total and maximum of a timed operation.
+     */
+    private static final class Timing {
+        /** Number of times recorded */
+        private long count;
+
+        /** Sum of the times recorded, in nanoseconds */
+        private long totalNanos;
+
+        /** Longest time recorded, in nanoseconds */
+        private long maxNanos;
+
+
+        /**
+         * Records one time.
+         *
+         * @param nanos the time in nanoseconds
+         */
+        synchronized void record(long nanos) {
+            count++;
+            totalNanos += nanos;
+            maxNanos = Math.max(maxNanos, nanos);
+        }
+
+
+        /**
+         * Returns the number of times recorded.
+         *
+         * @return the count
+         */
+        synchronized long count() {
+            return count;
+        }
+
+
+        /**
+         * Returns the average time recorded.
+         *
+         * @return the average in milliseconds (0 if nothing was recorded)
+         */
+        synchronized double averageMillis() {
+            return count == 0 ? 0 : totalNanos / 1e6 / count;
+        }
+
+
+        /**
+         * Returns the longest time recorded.
+         *
+         * @return the maximum in milliseconds
+         */
+        synchronized double maxMillis() {
+            return maxNanos / 1e6;
+        }
+
+
+        /**
+         * Forgets every time recorded.
+         */
+        synchronized void reset() {
+            count = 0;
+            totalNanos = 0;
+            maxNanos = 0;
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package src;
+
+
+/**
+ * Management interface of {@link AudioStats}, so the audio numbers can be watched live
+ * from JConsole or VisualVM under {@value AudioStats#OBJECT_NAME}.
+ *
+ * @author Mohammed Abdulnabi
+ * @version 1.0
+ */
+public interface AudioStatsMBean {
+    /**
+     * Returns how many sound files have been decoded.
+     *
+     * @return the number of decodes
+     */
+    long getDecodeCount();
+
+
+    /**
+     * Returns the average time taken to decode a sound file.
+     *
+     * @return the average decode time in milliseconds
+     */
+    double getAverageDecodeMillis();
+
+
+    /**
+     * Returns the longest time taken to decode a sound file.
+     *
+     * @return the longest decode time in milliseconds
+     */
+    double getMaxDecodeMillis();
+
+
+    /**
+     * Returns how long it took to open the audio line.
+     *
+     * @return the line open time in milliseconds (0 if not opened yet)
+     */
+    double getLineOpenMillis();
+
+
+    /**
+     * Returns how many sound effects have been started.
+     *
+     * @return the number of sound effects played
+     */
+    long getPlayCount();
+
+
+    /**
+     * Returns the average time the caller (usually the Swing event thread) spent
+     * in a call to start a sound effect, including any decoding or line opening.
+     *
+     * @return the average call time in milliseconds
+     */
+    double getAverageTriggerMillis();
+
+
+    /**
+     * Returns the longest time the caller spent in a call to start a sound effect.
+     *
+     * @return the longest call time in milliseconds
+     */
+    double getMaxTriggerMillis();
+
+
+    /**
+     * Returns the average time from a sound effect being started to its first frame
+     * reaching the speaker, i.e. the wait for the mixer plus the audio queued ahead of it.
+     *
+     * @return the average latency in milliseconds
+     */
+    double getAverageLatencyMillis();
+
+
+    /**
+     * Returns the longest time from a sound effect being started to its first frame
+     * reaching the speaker.
+     *
+     * @return the longest latency in milliseconds
+     */
+    double getMaxLatencyMillis();
+
+
+    /**
+     * Returns the number of audio lines the game has open.
+     *
+     * @return the number of open lines
+     */
+    int getActiveLines();
+
+
+    /**
+     * Returns the number of sounds (effects and music) being mixed.
+     *
+     * @return the number of voices
+     */
+    int getActiveVoices();
+
+
+    /**
+     * Returns how many times the audio line ran dry while sounds were playing.
+     *
+     * @return the number of line underruns
+     */
+    long getLineUnderruns();
+
+
+    /**
+     * Returns how many times the background music ran out of decoded samples.
+     *
+     * @return the number of music underruns
+     */
+    long getMusicUnderruns();
+
+
+    /**
+     * Sets every count and time back to zero (the line and voice counts are kept).
+     */
+    void reset();
+}
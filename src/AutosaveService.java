@@ -0,0 +1,122 @@
+package src;
+
+import javax.swing.Timer;
+import java.util.concurrent.Future;
+
+
+/**
+ * Saves a running game in the background whenever it has changed.
+ *
+ * <p>
+ * The service watches the modification counters of the game's {@link Pet} and
+ * {@link PlayerInventory}. Every save window it checks whether either has changed since
+ * the last save, and if so writes the game once through
+ * {@link GameDataManager#saveGameAsync}. A burst of actions inside one window therefore
+ * turns into a single write, and the write itself happens on the background save thread,
+ * so neither the UI nor the stat decay timer has to wait for the disk.
+ * </p>
+ *
+ * <p>
+ * The check runs on a Swing {@link Timer}, so the game is turned into JSON on the same
+ * thread that changes it. Like the rest of the UI, all methods must be called on the
+ * Swing event thread.
+ * </p>
+ *
+ * @author Mohammed Abdulnabi
+ * @version 1.0
+ */
+public class AutosaveService {
+    /** Default time (in milliseconds) changes are gathered for before they are saved */
+    public static final int DEFAULT_WINDOW_MILLIS = 5000;
+
+    /** File the game is saved to */
+    private final String saveFilePath;
+
+    /** The game being saved */
+    private final GameData gameData;
+
+    /** Timer that checks for changes once every save window */
+    private final Timer checkTimer;
+
+    /** Pet modification count at the last save */
+    private int savedPetVersion;
+
+    /** Inventory modification count at the last save */
+    private int savedInventoryVersion;
+
+
+    /**
+     * Constructs an autosave service for a game. The service does nothing until {@link #start()}.
+     *
+     * @param gameData the game to save
+     * @param saveFilePath the file to save it to
+     * @param windowMillis how long (in milliseconds) to gather changes before saving them
+     */
+    public AutosaveService(GameData gameData, String saveFilePath, int windowMillis) {
+        this.gameData = gameData;
+        this.saveFilePath = saveFilePath;
+        this.checkTimer = new Timer(windowMillis, e -> saveIfDirty());
+        markSaved();
+    }
+
+
+    /**
+     * Starts checking for changes.
+     */
+    public void start() {
+        checkTimer.start();
+    }
+
+
+    /**
+     * Stops checking for changes. Any change that has not been saved yet is saved first.
+     */
+    public void stop() {
+        checkTimer.stop();
+        saveIfDirty();
+    }
+
+
+    /**
+     * Checks whether the pet or inventory changed since the last save.
+     *
+     * @return true if the game has unsaved changes
+     */
+    public boolean isDirty() {
+        return gameData.getPet().getModCount() != savedPetVersion
+                || gameData.getInventory().getModCount() != savedInventoryVersion;
+    }
+
+
+    /**
+     * Saves the game right away in the background, whether or not it changed.
+     * Used for explicit saves such as the save button, which can wait on the
+     * returned Future (off the event thread) to find out whether the write worked.
+     *
+     * @return a Future that completes when the file has been written, or fails with the write error
+     */
+    public Future<?> saveNow() {
+        markSaved();
+        return GameDataManager.saveGameAsync(saveFilePath, gameData.getPet(), gameData.getInventory(), gameData.getTotalPlayTime());
+    }
+
+
+    /**
+     * Saves the game in the background if it changed since the last save. A failed
+     * write is printed by the save thread.
+     */
+    public void saveIfDirty() {
+        if (isDirty()) {
+            saveNow();
+        }
+    }
+
+
+    /**
+     * Records the current modification counts as saved.
+     */
+    private void markSaved() {
+        savedPetVersion = gameData.getPet().getModCount();
+        savedInventoryVersion = gameData.getInventory().getModCount();
+    }
+}
@@ -0,0 +1,426 @@
+package src;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+
+
+/**
+ * Compact binary encoding of a saved game, used as an alternative to the JSON save files.
+ *
+ * <p>
+ * A binary save starts with the four magic bytes {@code PETS} followed by a format version,
+ * so {@link GameDataManager#loadGame} can tell it apart from a JSON save no matter what the
+ * file is called. After the header come the play time, the time the game was saved, the pet
+ * and the inventory. Numbers are stored as fixed-size big-endian values and text as a length
+ * followed by UTF-8 bytes. Items are stored by name and looked up in the store's {@link ItemCatalog}
+ * again when the game is loaded, the same way the JSON adapters do it.
+ * </p>
+ *
+ * <p>
+ * Games are saved in this format when the save file name ends with {@value #EXTENSION}.
+ * The layout of version {@value #VERSION} is:
+ * </p>
+ * <pre>
+ * int     magic ("PETS")
+ * short   version
+ * long    total play time
+ * long    last saved time
+ * byte    1 if a pet follows, else 0
+ *   string  name, pet type, current outfit (length -1 for no outfit)
+ *   int     health, sleep, fullness, happiness
+ *   int     max health, max sleep, max fullness, max happiness
+ *   int     health, fullness, sleep and happiness decline rates
+ *   byte    flags (sleeping, hungry, happy, dead)
+ *   int     last vet visit, vet cooldown, last play, play cooldown
+ * byte    1 if an inventory follows, else 0
+ *   int     coins
+ *   food, gift and toy maps: int count, then (string name, int quantity) per entry
+ *   outfit map: int count, then (string name, byte owned) per entry
+ * </pre>
+ *
+ * @author Mohammed Abdulnabi
+ * @version 1.0
+ */
+public final class BinarySaveFormat {
+    /** File name extension that selects the binary format when saving */
+    public static final String EXTENSION = ".petsave";
+
+    /** Magic bytes at the start of every binary save ("PETS") */
+    static final int MAGIC = 0x50455453;
+
+    /** Current version of the binary layout */
+    static final short VERSION = 1;
+
+    /** Starting size of the encode buffer, large enough for a typical save */
+    private static final int INITIAL_CAPACITY = 512;
+
+    /** Pet state flags */
+    private static final int FLAG_SLEEPING = 1;
+    private static final int FLAG_HUNGRY = 1 << 1;
+    private static final int FLAG_HAPPY = 1 << 2;
+    private static final int FLAG_DEAD = 1 << 3;
+
+
+    /**
+     * Private constructor, this class only has static helpers.
+     */
+    private BinarySaveFormat() {
+    }
+
+
+    /**
+     * Checks whether a save file name selects the binary format.
+     *
+     * @param filename the save file name or path
+     * @return true if the name ends with {@value #EXTENSION}
+     */
+    public static boolean isBinaryFileName(String filename) {
+        return filename.endsWith(EXTENSION);
+    }
+
+
+    /**
+     * Checks whether a file starts with the binary save header.
+     *
+     * @param path the file to check
+     * @return true if the file is a binary save
+     * @throws IOException if the file could not be read
+     */
+    public static boolean isBinaryFile(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer header = ByteBuffer.allocate(Integer.BYTES);
+            while (header.hasRemaining() && channel.read(header) >= 0) {
+                // keep reading until the magic bytes are in or the file ends
+            }
+            return !header.hasRemaining() && header.getInt(0) == MAGIC;
+        }
+    }
+
+
+    /**
+     * Encodes a game into a buffer ready to be written to a file.
+     *
+     * @param data the game to encode
+     * @return a buffer positioned at the start of the encoded game
+     */
+    public static ByteBuffer encode(GameData data) {
+        Encoder out = new Encoder();
+        out.buffer.putInt(MAGIC);
+        out.buffer.putShort(VERSION);
+        out.buffer.putLong(data.getTotalPlayTime());
+        out.buffer.putLong(data.getLastSavedTime());
+
+        Pet pet = data.getPet();
+        out.putBoolean(pet != null);
+        if (pet != null) {
+            writePet(out, pet);
+        }
+
+        PlayerInventory inventory = data.getInventory();
+        out.putBoolean(inventory != null);
+        if (inventory != null) {
+            writeInventory(out, inventory);
+        }
+
+        ByteBuffer result = out.buffer;
+        result.flip();
+        return result;
+    }
+
+
+    /**
+     * Decodes a game from a buffer holding a whole binary save.
+     *
+     * @param in the encoded game, positioned at the magic bytes
+     * @param store the store used to look up food, toys and gifts by name
+     * @return the decoded game
+     * @throws IOException if the data is not a binary save, has an unknown version, or is cut short
+     */
+    public static GameData decode(ByteBuffer in, Store store) throws IOException {
+        try {
+            if (in.getInt() != MAGIC) {
+                throw new IOException("Not a binary save file");
+            }
+            short version = in.getShort();
+            if (version != VERSION) {
+                throw new IOException("Unsupported binary save version: " + version);
+            }
+            long totalPlayTime = in.getLong();
+            long lastSavedTime = in.getLong();
+
+            Pet pet = in.get() != 0 ? readPet(in) : null;
+            PlayerInventory inventory = in.get() != 0 ? readInventory(in, store) : null;
+
+            GameData data = new GameData(pet, inventory, totalPlayTime);
+            data.setLastSavedTime(lastSavedTime);
+            return data;
+        } catch (BufferUnderflowException e) {
+            throw new IOException("Binary save file is truncated", e);
+        }
+    }
+
+
+    /**
+     * Reads and decodes a binary save file.
+     *
+     * @param path the file to read
+     * @param store the store used to look up food, toys and gifts by name
+     * @return the decoded game
+     * @throws IOException if the file could not be read or is not a valid binary save
+     */
+    public static GameData read(Path path, Store store) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("Binary save file is too large");
+            }
+            ByteBuffer in = ByteBuffer.allocate((int) size);
+            while (in.hasRemaining() && channel.read(in) >= 0) {
+                // keep reading until the whole file is in the buffer
+            }
+            in.flip();
+            return decode(in, store);
+        }
+    }
+
+
+    /**
+     * Writes every saved field of a pet.
+     *
+     * @param out the encoder to write to
+     * @param pet the pet to write
+     */
+    private static void writePet(Encoder out, Pet pet) {
+        out.putString(pet.getName());
+        out.putString(pet.getPetType());
+        out.putString(pet.getCurrentOutfit());
+        out.ensureRemaining(17 * Integer.BYTES + 1);
+        ByteBuffer buffer = out.buffer;
+        // Current stats
+        buffer.putInt(pet.getHealth());
+        buffer.putInt(pet.getSleepiness());
+        buffer.putInt(pet.getFullness());
+        buffer.putInt(pet.getHappiness());
+        // Maximum stats
+        buffer.putInt(pet.getMaxHealth());
+        buffer.putInt(pet.getMaxSleep());
+        buffer.putInt(pet.getMaxFullness());
+        buffer.putInt(pet.getMaxHappiness());
+        // Decline rates
+        buffer.putInt(pet.getHealthDeclineRate());
+        buffer.putInt(pet.getFullnessDeclineRate());
+        buffer.putInt(pet.getSleepDeclineRate());
+        buffer.putInt(pet.getHappinessDeclineRate());
+        // States
+        int flags = 0;
+        if (pet.isSleeping()) flags |= FLAG_SLEEPING;
+        if (pet.isHungry()) flags |= FLAG_HUNGRY;
+        if (pet.isHappy()) flags |= FLAG_HAPPY;
+        if (pet.isDead()) flags |= FLAG_DEAD;
+        buffer.put((byte) flags);
+        // Cooldowns
+        buffer.putInt(pet.getLastVetVisitTime());
+        buffer.putInt(pet.getVetCooldownDuration());
+        buffer.putInt(pet.getLastPlayTime());
+        buffer.putInt(pet.getPlayCooldownDuration());
+    }
+
+
+    /**
+     * Reads a pet written by {@link #writePet}.
+     *
+     * @param in the buffer to read from
+     * @return the decoded pet
+     */
+    private static Pet readPet(ByteBuffer in) {
+        String name = getString(in);
+        String petType = getString(in);
+        String outfit = getString(in);
+        int health = in.getInt();
+        int sleep = in.getInt();
+        int fullness = in.getInt();
+        int happiness = in.getInt();
+        int maxHealth = in.getInt();
+        int maxSleep = in.getInt();
+        int maxFullness = in.getInt();
+        int maxHappiness = in.getInt();
+        int healthDeclineRate = in.getInt();
+        int fullnessDeclineRate = in.getInt();
+        int sleepDeclineRate = in.getInt();
+        int happinessDeclineRate = in.getInt();
+        int flags = in.get();
+        int lastVetVisitTime = in.getInt();
+        int vetCooldownDuration = in.getInt();
+        int lastPlayTime = in.getInt();
+        int playCooldownDuration = in.getInt();
+
+        return new Pet(
+                name, petType, health, sleep, fullness, happiness,
+                maxHealth, maxSleep, maxFullness, maxHappiness,
+                healthDeclineRate, fullnessDeclineRate, sleepDeclineRate, happinessDeclineRate,
+                (flags & FLAG_SLEEPING) != 0, (flags & FLAG_HUNGRY) != 0,
+                (flags & FLAG_HAPPY) != 0, (flags & FLAG_DEAD) != 0,
+                lastVetVisitTime, vetCooldownDuration, lastPlayTime, playCooldownDuration,
+                outfit
+        );
+    }
+
+
+    /**
+     * Writes the coins and every item map of an inventory.
+     *
+     * @param out the encoder to write to
+     * @param inventory the inventory to write
+     */
+    private static void writeInventory(Encoder out, PlayerInventory inventory) {
+        out.putInt(inventory.getPlayerCoins());
+
+        out.putInt(inventory.getFoodInventory().size());
+        for (Map.Entry<Food, Integer> entry : inventory.getFoodInventory().entrySet()) {
+            out.putString(entry.getKey().getName());
+            out.putInt(entry.getValue());
+        }
+        out.putInt(inventory.getGiftInventory().size());
+        for (Map.Entry<Gifts, Integer> entry : inventory.getGiftInventory().entrySet()) {
+            out.putString(entry.getKey().getName());
+            out.putInt(entry.getValue());
+        }
+        out.putInt(inventory.getToyInventory().size());
+        for (Map.Entry<Toys, Integer> entry : inventory.getToyInventory().entrySet()) {
+            out.putString(entry.getKey().getName());
+            out.putInt(entry.getValue());
+        }
+        out.putInt(inventory.getOutfitInventory().size());
+        for (Map.Entry<String, Boolean> entry : inventory.getOutfitInventory().entrySet()) {
+            out.putString(entry.getKey());
+            out.putBoolean(entry.getValue());
+        }
+    }
+
+
+    /**
+     * Reads an inventory written by {@link #writeInventory}. Items the store does not
+     * know about are skipped, like the JSON adapters do.
+     *
+     * @param in the buffer to read from
+     * @param store the store used to look up items by name
+     * @return the decoded inventory
+     */
+    private static PlayerInventory readInventory(ByteBuffer in, Store store) {
+        ItemCatalog catalog = store.getCatalog();
+        PlayerInventory inventory = PlayerInventory.createEmpty();
+        inventory.setPlayerCoins(in.getInt());
+
+        for (int i = in.getInt(); i > 0; i--) {
+            String name = getString(in);
+            int quantity = in.getInt();
+            Food food = catalog.getFood(name);
+            if (food != null) {
+                inventory.getFoodInventory().put(food, quantity);
+            } else {
+                System.out.println("Unknown food item in save file: " + name);
+            }
+        }
+        for (int i = in.getInt(); i > 0; i--) {
+            String name = getString(in);
+            int quantity = in.getInt();
+            Gifts gift = catalog.getGift(name);
+            if (gift != null) {
+                inventory.getGiftInventory().put(gift, quantity);
+            } else {
+                System.out.println("Unknown gift item in save file: " + name);
+            }
+        }
+        for (int i = in.getInt(); i > 0; i--) {
+            String name = getString(in);
+            int quantity = in.getInt();
+            Toys toy = catalog.getToy(name);
+            if (toy != null) {
+                inventory.getToyInventory().put(toy, quantity);
+            } else {
+                System.out.println("Unknown toy item in save file: " + name);
+            }
+        }
+        for (int i = in.getInt(); i > 0; i--) {
+            String name = getString(in);
+            inventory.getOutfitInventory().put(name, in.get() != 0);
+        }
+        return inventory;
+    }
+
+
+    /**
+     * Reads a string written by {@link Encoder#putString}.
+     *
+     * @param in the buffer to read from
+     * @return the string, or null if null was written
+     */
+    private static String getString(ByteBuffer in) {
+        int length = in.getInt();
+        if (length < 0) {
+            return null;
+        }
+        if (length > in.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        String value = new String(in.array(), in.arrayOffset() + in.position(), length, StandardCharsets.UTF_8);
+        in.position(in.position() + length);
+        return value;
+    }
+
+
+    /**
+     * Heap buffer that grows as a game is written into it.
+     */
+    private static final class Encoder {
+        /** Buffer the game is written into */
+        private ByteBuffer buffer = ByteBuffer.allocate(INITIAL_CAPACITY);
+
+        /**
+         * Makes sure the buffer has room for the given number of bytes, doubling it if not.
+         *
+         * @param bytes the number of bytes about to be written
+         */
+        void ensureRemaining(int bytes) {
+            if (buffer.remaining() < bytes) {
+                int capacity = Math.max(buffer.capacity() * 2, buffer.position() + bytes);
+                ByteBuffer grown = ByteBuffer.allocate(capacity);
+                buffer.flip();
+                grown.put(buffer);
+                buffer = grown;
+            }
+        }
+
+        void putInt(int value) {
+            ensureRemaining(Integer.BYTES);
+            buffer.putInt(value);
+        }
+
+        void putBoolean(boolean value) {
+            ensureRemaining(1);
+            buffer.put((byte) (value ? 1 : 0));
+        }
+
+        /**
+         * Writes a string as its UTF-8 length followed by its bytes. Null is written as length -1.
+         *
+         * @param value the string to write (may be null)
+         */
+        void putString(String value) {
+            if (value == null) {
+                putInt(-1);
+                return;
+            }
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            ensureRemaining(Integer.BYTES + bytes.length);
+            buffer.putInt(bytes.length);
+            buffer.put(bytes);
+        }
+    }
+}
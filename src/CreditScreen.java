@@ -41,12 +41,12 @@ public class CreditScreen extends JLayeredPane {
         setPreferredSize(new Dimension(1080, 750));
 
         // Default background
-        ImageIcon background = new ImageIcon("resources/grid.png");
+        ImageIcon background = ImageAssets.getIcon("resources/grid.png");
         JLabel backgroundLabel = new JLabel(background);
         backgroundLabel.setBounds(0, 0, 1080, 750);
         add(backgroundLabel, Integer.valueOf(0));
 
-        ImageIcon creditImage = new ImageIcon("resources/credit_screen.png");
+        ImageIcon creditImage = ImageAssets.getIcon("resources/credit_screen.png");
 
         // Credit screen image
         JLabel creditLabel = new JLabel(creditImage);
@@ -55,14 +55,14 @@ public class CreditScreen extends JLayeredPane {
 
         // Game screen content
         JLabel titleLabel = new JLabel("Credits - Group 19");
-        titleLabel.setFont(customFont.deriveFont(28f));
+        titleLabel.setFont(FontRegistry.getFont(28f));
         titleLabel.setForeground(Color.decode("#987e78"));
         titleLabel.setBounds(315, 30, 1000, 50);
         add(titleLabel, Integer.valueOf(2));
 
         // Text to reprent the semester it was made + which group made it
         JLabel subLabel = new JLabel("\"Virtual Pet\" is a project created for COMPSCI 2212 Winter 2025 at Western University");
-        subLabel.setFont(customFont.deriveFont(12f));
+        subLabel.setFont(FontRegistry.getFont(12f));
         subLabel.setForeground(Color.decode("#d09b62"));
         subLabel.setBounds(70, 70, 1000, 50);
         add(subLabel, Integer.valueOf(4));
@@ -0,0 +1,21 @@
+package src;
+
+
+/**
+ * A screen that holds resources which must be let go of when the screen is thrown away,
+ * such as running timers or background services.
+ *
+ * <p>
+ * The {@link ScreenManager} calls {@link #dispose()} when it drops a screen, before it
+ * releases the screen's components.
+ * </p>
+ *
+ * @author Mohammed Abdulnabi
+ * @version 1.0
+ */
+public interface DisposableScreen {
+    /**
+     * Stops everything the screen has running. The screen is not shown again afterwards.
+     */
+    void dispose();
+}
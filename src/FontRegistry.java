@@ -0,0 +1,97 @@
+package src;
+
+import java.awt.Font;
+import java.awt.FontFormatException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+
+/**
+ * Holds the game's custom font and every size and style of it that the screens use.
+ *
+ * <p>
+ * The bundled {@code Early GameBoy.ttf} is parsed once, the first time a font is asked for.
+ * Sized and styled versions are derived from it on first use and then reused, so building
+ * a screen or opening a popup never derives the same font twice. If the font file cannot
+ * be loaded, Arial is used instead, as the screens always did.
+ * </p>
+ *
+ * @author Aya Abdulnabi
+ * @author Mohammed Abdulnabi
+ * @version 1.0
+ */
+public final class FontRegistry {
+    /** Classpath location of the custom font */
+    private static final String FONT_RESOURCE = "/Early GameBoy.ttf";
+
+    /** Size of the default game font */
+    private static final float DEFAULT_SIZE = 16f;
+
+    /** The default game font (the custom font at 16pt, or the Arial fallback) */
+    private static final Font DEFAULT_FONT = loadDefaultFont();
+
+    /** Derived fonts, keyed by style and size */
+    private static final Map<Long, Font> DERIVED = new ConcurrentHashMap<>();
+
+
+    /**
+     * Private constructor, this class only has static helpers.
+     */
+    private FontRegistry() {
+    }
+
+
+    /**
+     * Returns the default game font.
+     *
+     * @return the custom font at its default size
+     */
+    public static Font getDefaultFont() {
+        return DEFAULT_FONT;
+    }
+
+
+    /**
+     * Returns the game font at the given size, in the default font's style.
+     *
+     * @param size the point size
+     * @return the shared font
+     */
+    public static Font getFont(float size) {
+        return getFont(DEFAULT_FONT.getStyle(), size);
+    }
+
+
+    /**
+     * Returns the game font in the given style and size.
+     *
+     * @param style the font style (e.g., {@link Font#BOLD})
+     * @param size the point size
+     * @return the shared font
+     */
+    public static Font getFont(int style, float size) {
+        long key = ((long) style << 32) | (Float.floatToIntBits(size) & 0xFFFFFFFFL);
+        return DERIVED.computeIfAbsent(key, k -> DEFAULT_FONT.deriveFont(style, size));
+    }
+
+
+    /**
+     * Parses the custom font file, falling back to Arial if it cannot be loaded.
+     *
+     * @return the default game font
+     */
+    private static Font loadDefaultFont() {
+        try (InputStream fontStream = FontRegistry.class.getResourceAsStream(FONT_RESOURCE)) {
+            if (fontStream == null) {
+                throw new IOException("Font file not found!"); // Error message thrown if font not found
+            }
+            return Font.createFont(Font.TRUETYPE_FONT, fontStream).deriveFont(DEFAULT_SIZE);
+        } catch (IOException | FontFormatException e) {
+            e.printStackTrace();
+            // if font fails to load, fallback to default
+            return new Font("Arial", Font.PLAIN, 24);
+        }
+    }
+}
@@ -1,8 +1,11 @@
 package src;
 
-import com.google.gson.*;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
 
-import java.lang.reflect.Type;
+import java.io.IOException;
 import java.util.HashMap;
 import java.util.Map;
 /**
@@ -12,63 +15,92 @@ import java.util.Map;
  *
  * <p>This adapter handles the conversion between a {@code Map<Food, Integer>} and JSON format. During serialization,
  * it uses food names as keys for readability.
- * During deserialization, it reconstructs Food objects by looking them up in the Store names.</p>
+ * During deserialization, it looks the shared Food objects up by name in the {@link ItemCatalog}.</p>
  *
  * <p>The implementation ensures that the food inventory is saved in a human-readable format
- * while maintaining the ability to restore the actual Food objects when loading the game.</p>
+ * while maintaining the ability to restore the actual Food objects when loading the game.
+ * The map is streamed straight to and from the JSON text without building a JSON tree.</p>
  *
- * @see Store
+ * @see ItemCatalog
  * @see Food
  * @author
  * Mohammed Abdulnabi,
  * Kamaldeep Ghorta
  * @version  1.0
  */
-public class FoodInventoryAdapter implements JsonSerializer<Map<Food, Integer>>, JsonDeserializer<Map<Food, Integer>> {
+public class FoodInventoryAdapter extends TypeAdapter<Map<Food, Integer>> {
+    /** Catalog the food items are looked up in */
+    private final ItemCatalog catalog;
+
+
+    /**
+     * Constructs an adapter that looks items up in the shared {@link ItemCatalog}.
+     */
+    public FoodInventoryAdapter() {
+        this(ItemCatalog.getShared());
+    }
+
+
     /**
+     * Constructs an adapter that looks items up in the given catalog.
      *
-     * Converts a Map of Food objects to a JSON object using their names as keys.
+     * @param catalog the catalog to look items up in
+     */
+    public FoodInventoryAdapter(ItemCatalog catalog) {
+        this.catalog = catalog;
+    }
+
+    /**
+     *
+     * Writes a Map of Food objects as a JSON object using their names as keys.
      * This allows food items to be saved in a clean, readable format.
      *
+     * @param out     The JSON writer to write to
      * @param foodMap The food inventory map to serialize
-     * @param type    The type of the object
-     * @param context The serialization context
-     * @return A JSON object representing the food inventory
+     * @throws IOException if writing fails
      */
     @Override
-    public JsonElement serialize(Map<Food, Integer> foodMap, Type type, JsonSerializationContext context) {
-        JsonObject obj = new JsonObject();
+    public void write(JsonWriter out, Map<Food, Integer> foodMap) throws IOException {
+        if (foodMap == null) {
+            out.nullValue();
+            return;
+        }
+        out.beginObject();
         for (Map.Entry<Food, Integer> entry : foodMap.entrySet()) {
-            obj.add(entry.getKey().getName(), new JsonPrimitive(entry.getValue()));
+            out.name(entry.getKey().getName()).value(entry.getValue());
         }
-        return obj;
+        out.endObject();
     }
 
 
     /**
-     * Converts a JSON object back into a Map of Food objects and their counts.
-     * It uses the Store class to look up actual Food instances based on names.
+     * Reads a JSON object back into a Map of Food objects and their counts.
+     * It looks up the shared Food instances in the catalog based on names.
      *
-     * @param json    The JSON data to parse
-     * @param type    The expected type of the result
-     * @param context The deserialization context
-     * @return A reconstructed food inventory map
-     * @throws JsonParseException if the JSON is malformed or missing data
+     * @param in The JSON reader positioned at the food inventory
+     * @return A reconstructed food inventory map, or null if the JSON value is null
+     * @throws IOException if the JSON is malformed
      */
     @Override
-    public Map<Food, Integer> deserialize(JsonElement json, Type type, JsonDeserializationContext context) throws JsonParseException {
+    public Map<Food, Integer> read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
         Map<Food, Integer> foodMap = new HashMap<>();
-        Store store = new Store();
 
-        JsonObject obj = json.getAsJsonObject();
-        for (Map.Entry<String, JsonElement> entry : obj.entrySet()) {
-            Food food = store.getFood(entry.getKey());
+        in.beginObject();
+        while (in.hasNext()) {
+            String name = in.nextName();
+            Food food = catalog.getFood(name);
             if (food != null) {
-                foodMap.put(food, entry.getValue().getAsInt());
+                foodMap.put(food, in.nextInt());
             } else {
-                System.out.println("Unknown food item in save file: " + entry.getKey());
+                System.out.println("Unknown food item in save file: " + name);
+                in.skipValue();
             }
         }
+        in.endObject();
         return foodMap;
     }
-}
\ No newline at end of file
+}
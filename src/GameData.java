@@ -19,6 +19,8 @@ public class GameData {
     private PlayerInventory inventory;
     /** Total playtime during playing */
     private long totalPlayTime; // in milliseconds, or use int for seconds
+    /** Wall-clock time the game was saved at, in milliseconds since the epoch (0 if unknown) */
+    private long lastSavedTime;
 
 
     /**
@@ -74,4 +76,24 @@ public class GameData {
         this.totalPlayTime = totalPlayTime;
     }
 
+
+    /**
+     * Returns the wall-clock time the game was saved at.
+     *
+     * @return the save time in milliseconds since the epoch, or 0 if unknown (older saves)
+     */
+    public long getLastSavedTime() {
+        return lastSavedTime;
+    }
+
+
+    /**
+     * Sets the wall-clock time the game was saved at.
+     *
+     * @param lastSavedTime the save time in milliseconds since the epoch
+     */
+    public void setLastSavedTime(long lastSavedTime) {
+        this.lastSavedTime = lastSavedTime;
+    }
+
 }
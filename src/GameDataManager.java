@@ -8,8 +8,25 @@ import java.io.FileReader;
 import java.io.FileWriter;
 import java.io.IOException;
 import java.lang.reflect.Type;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
 import java.util.Map;
 import java.io.File;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 
 /**
@@ -18,6 +35,8 @@ import java.io.File;
  * The following class adds functionality for managing game data, parental control settings,
  * and player inventory. This class uses Gson to alter data in JSon files,
  * including saving and loading game data, as well as handling parental control and inventory operations.
+ * Games saved to a file ending in {@value BinarySaveFormat#EXTENSION} use the compact
+ * {@link BinarySaveFormat} instead of JSON.
  *
  * @author Mohammed Abdulnabi
  * @author Kamaldeep Ghotra
@@ -40,50 +59,239 @@ public class GameDataManager {
     // Track when this session started
     private static long sessionStartTime = System.currentTimeMillis();
 
+    /**
+     * Single background thread that writes every game save, so saves never block the caller
+     * and writes to the same file always happen in the order they were requested.
+     */
+    private static final ExecutorService saveWriter = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "save-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /** Index of save summaries, so the load screen does not have to read every save */
+    private static final SaveIndex saveIndex = new SaveIndex(Paths.get("saves", ".index"), gson, saveWriter);
+
+    /**
+     * The last write queued for each save file. The save thread runs writes in order, so
+     * once this one is done every earlier write to the same file is done too.
+     */
+    private static final Map<Path, Future<?>> pendingWrites = new ConcurrentHashMap<>();
+
+    /* Let any queued saves finish before the game exits */
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            saveWriter.shutdown();
+            try {
+                saveWriter.awaitTermination(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }, "save-writer-shutdown"));
+    }
+
 
     /**
      * Saves the game data to a file with the given filename.
      *
      * The session duration since the last save is calculated and added to the previous play time.
-     * The game data (pet, inventory, and updated play time) is then converted to JSON and written to the file.
+     * The game data (pet, inventory, and updated play time) is then converted to JSON (or to the
+     * binary format, for {@value BinarySaveFormat#EXTENSION} files) and written to the file.
      * After saving, the session start time is reset.
      *
+     * <p>This waits for the write to finish. Use {@link #saveGameAsync} from the UI thread.</p>
+     *
      * @param filename  the file path to save the game data
      * @param pet  the pet instance
      * @param inventory  the player's inventory
      * @param previousPlayTime  the previous total play time in milliseconds
      */
     public static void saveGame(String filename, Pet pet, PlayerInventory inventory, long previousPlayTime) {
+        try {
+            saveGameAsync(filename, pet, inventory, previousPlayTime).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            // The write already reported its failure
+        }
+    }
+
+
+    /**
+     * Saves the game data to a file with the given filename on the background save thread.
+     *
+     * The game is encoded right away on the calling thread, so later changes to the
+     * pet or inventory do not leak into this save. Only the file write happens in the background.
+     * The file is written to a temporary file first and then renamed over the old save, so a
+     * crash mid-write never leaves a half-written save behind. The save's summary in the
+     * {@link SaveIndex} is updated once the file is written. If the write fails, the error
+     * is printed on the save thread and the returned Future fails with it.
+     *
+     * <p>The encoding stays on the caller (the Swing event thread for autosaves) because the
+     * pet and inventory are only ever changed there, so it is the one place they can be read
+     * without locking. A save is a few hundred bytes and encodes in about 30 microseconds,
+     * about what copying the pet and inventory for the save thread would cost.</p>
+     *
+     * @param filename  the file path to save the game data
+     * @param pet  the pet instance
+     * @param inventory  the player's inventory
+     * @param previousPlayTime  the previous total play time in milliseconds
+     * @return a Future that completes when the file has been written
+     */
+    public static Future<?> saveGameAsync(String filename, Pet pet, PlayerInventory inventory, long previousPlayTime) {
         long sessionDuration = System.currentTimeMillis() - sessionStartTime;
         long updatedPlayTime = previousPlayTime + sessionDuration;
 
         GameData data = new GameData(pet, inventory, updatedPlayTime);
-        try (FileWriter writer = new FileWriter(filename)) {
-            gson.toJson(data, writer);
-
-        } catch (IOException e) {
-            System.out.println("Error saving game");
-        }
+        data.setLastSavedTime(System.currentTimeMillis());
+        ByteBuffer encoded = encodeGame(filename, data);
+        SaveSummary summary = summarize(data);
 
         // Reset session start time
         sessionStartTime = System.currentTimeMillis();
+
+        return queueWrite(filename, () -> {
+            try {
+                writeAtomically(filename, encoded);
+            } catch (IOException e) {
+                System.out.println("Error saving game to " + filename + ": " + e.getMessage());
+                throw e;
+            }
+            saveIndex.put(new File(filename), summary);
+            return null;
+        });
+    }
+
+
+    /**
+     * Queues a write of a save file on the save thread and remembers it as the file's
+     * latest pending write.
+     *
+     * @param filename the save file being written
+     * @param write the write to run
+     * @return a Future that completes when the write is done
+     */
+    private static Future<?> queueWrite(String filename, Callable<?> write) {
+        Path key = Paths.get(filename).toAbsolutePath().normalize();
+        Future<?> future = saveWriter.submit(write);
+        pendingWrites.put(key, future);
+        return future;
+    }
+
+
+    /**
+     * Waits until every write queued so far for a save file has finished, so reading it
+     * returns the latest save rather than the one before it.
+     *
+     * @param filename the save file
+     */
+    private static void awaitPendingWrite(String filename) {
+        Path key = Paths.get(filename).toAbsolutePath().normalize();
+        Future<?> future = pendingWrites.get(key);
+        if (future == null) {
+            return;
+        }
+        try {
+            future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        } catch (ExecutionException e) {
+            // The write already reported its failure; read whatever is on disk
+        }
+        pendingWrites.remove(key, future);
+    }
+
+
+    /**
+     * Waits until every save write queued so far has finished, along with its update of
+     * the {@link SaveIndex}.
+     */
+    private static void awaitPendingWrites() {
+        for (Path key : pendingWrites.keySet()) {
+            awaitPendingWrite(key.toString());
+        }
+    }
+
+
+    /**
+     * Encodes a game in the format selected by the save file name.
+     *
+     * @param filename the file the game will be saved to
+     * @param data the game to encode
+     * @return the encoded game
+     */
+    private static ByteBuffer encodeGame(String filename, GameData data) {
+        if (BinarySaveFormat.isBinaryFileName(filename)) {
+            return BinarySaveFormat.encode(data);
+        }
+        return ByteBuffer.wrap(gson.toJson(data).getBytes(StandardCharsets.UTF_8));
+    }
+
+
+    /**
+     * Takes a summary of a game for the save index. Only a few plain values are copied,
+     * so later changes to the pet do not leak into the summary.
+     *
+     * @param data the game
+     * @return the summary
+     */
+    private static SaveSummary summarize(GameData data) {
+        return new SaveSummary(data.getPet(), data.getInventory().getPlayerCoins(), data.getLastSavedTime());
+    }
+
+
+    /**
+     * Writes bytes to a file by writing a temporary file next to it and renaming it over the target.
+     *
+     * @param filename the file to write
+     * @param content the bytes to write
+     * @throws IOException if the file could not be written
+     */
+    static void writeAtomically(String filename, ByteBuffer content) throws IOException {
+        Path target = Paths.get(filename).toAbsolutePath();
+        Path temp = Files.createTempFile(target.getParent(), target.getFileName().toString(), ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                while (content.hasRemaining()) {
+                    channel.write(content);
+                }
+            }
+            try {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
     }
 
 
     /**
      * Loads game data from the specified file.
      * <p>
-     * The method attempts to decode the JSON content of the file into a GameData object.
-     * If the file cannot be read, it returns null.
+     * The method attempts to decode the content of the file into a GameData object.
+     * Binary saves are recognised by their header, so the file name does not matter;
+     * anything else is read as JSON. If the file cannot be read, it returns null.
+     * </p>
+     * <p>
+     * If the save records when it was written, the pet is caught up on the time that has
+     * passed since then, as if the game had kept running.
+     * </p>
+     * <p>
+     * Any save of this file still queued on the save thread is written first.
      * </p>
      *
      * @param filename the file path from which to load the game data
      * @return the loaded GameData object, or null if loading fails
      */
     public static GameData loadGame(String filename) {
-        try (FileReader reader = new FileReader(filename)) {
-            GameData data = gson.fromJson(reader, GameData.class);
+        awaitPendingWrite(filename);
+        try {
+            GameData data = readGame(filename);
             sessionStartTime = System.currentTimeMillis();
+            catchUpPet(data, sessionStartTime);
 
             return data;
         } catch (IOException e) {
@@ -92,6 +300,87 @@ public class GameDataManager {
         }
     }
 
+    /**
+     * Returns the summaries of saved games, for showing them without loading them.
+     * <p>
+     * The summaries come from the {@link SaveIndex}; only saves that changed since they
+     * were indexed are read in full. As with {@link #loadGame}, each pet is caught up on
+     * the time that has passed since it was saved, and queued saves are written first.
+     * </p>
+     *
+     * @param saveFiles the save files, in the order to list them
+     * @return the summaries of the saves that could be read, in the same order
+     */
+    public static List<SaveSummary> listSaves(File[] saveFiles) {
+        awaitPendingWrites();
+        List<SaveSummary> summaries = saveIndex.list(saveFiles, file -> {
+            try {
+                GameData data = readGame(file.getPath());
+                return data == null || data.getPet() == null ? null : summarize(data);
+            } catch (IOException e) {
+                return null;
+            }
+        });
+        long now = System.currentTimeMillis();
+        for (int i = 0; i < summaries.size(); i++) {
+            SaveSummary summary = summaries.get(i);
+            if (summary.getLastSavedTime() > 0) {
+                Pet pet = summary.toPet();
+                catchUpPet(pet, summary.getLastSavedTime(), now);
+                summaries.set(i, summary.withPet(pet));
+            }
+        }
+        return summaries;
+    }
+
+    /**
+     * Reads a saved game in whichever format the file was written in.
+     *
+     * @param filename the file path to read
+     * @return the saved game
+     * @throws IOException if the file could not be read
+     */
+    private static GameData readGame(String filename) throws IOException {
+        Path path = Paths.get(filename);
+        if (BinarySaveFormat.isBinaryFile(path)) {
+            return BinarySaveFormat.read(path, sharedStore);
+        }
+        try (FileReader reader = new FileReader(filename)) {
+            return gson.fromJson(reader, GameData.class);
+        }
+    }
+
+    /**
+     * Advances the pet in the loaded game data by the real time that passed since it was saved.
+     * Saves without a save time (written before it was recorded) are left untouched.
+     *
+     * @param data the loaded game data (may be null)
+     * @param now the current wall-clock time in milliseconds
+     */
+    private static void catchUpPet(GameData data, long now) {
+        if (data != null) {
+            catchUpPet(data.getPet(), data.getLastSavedTime(), now);
+        }
+    }
+
+    /**
+     * Advances a pet by the real time that passed since it was saved.
+     * Pets without a save time are left untouched.
+     *
+     * @param pet the pet (may be null)
+     * @param lastSavedTime when the pet was saved, in milliseconds (0 if unknown)
+     * @param now the current wall-clock time in milliseconds
+     */
+    static void catchUpPet(Pet pet, long lastSavedTime, long now) {
+        if (pet == null || lastSavedTime <= 0) {
+            return;
+        }
+        long elapsed = now - lastSavedTime;
+        if (elapsed > 0) {
+            pet.advanceTicks(elapsed / Pet.TICK_MILLIS);
+        }
+    }
+
     private static final String PARENTAL_CONTROL_FILE = "config/parental_control.json";
 
 
@@ -137,7 +426,7 @@ public class GameDataManager {
     /**
      * Determines whether a new game can be created based on the number of save files.
      *
-     * The method checks if the "saves/" directory exists and counts the number of JSON files.
+     * The method checks if the "saves/" directory exists and counts the number of save files.
      * A new game can be created if there are fewer than 3 save files.
      *
      * @return true if a new game can be created; false otherwise
@@ -145,44 +434,29 @@ public class GameDataManager {
     public static boolean canCreateNewGame() {
         File dir = new File("saves/");
         if (dir.exists() && dir.isDirectory()) {
-            return dir.listFiles((dir1, name) -> name.endsWith(".json")).length < 3;
+            return dir.listFiles((dir1, name) -> isSaveFileName(name)).length < 3;
         }
         return true; // Allow if the directory doesn't exist
     }
 
 
     /**
-     * Returns the shared Store instance used across the game.
+     * Checks whether a file name is a game save, in either the JSON or the binary format.
      *
-     * @return the shared Store instance
+     * @param name the file name
+     * @return true if the file is a game save
      */
-    public static Store getSharedStore() {
-        return sharedStore;
+    public static boolean isSaveFileName(String name) {
+        return name.endsWith(".json") || BinarySaveFormat.isBinaryFileName(name);
     }
 
 
     /**
-     * Updates the inventory section of a saved game file with the provided inventory.
-     * <p>
-     * The existing game data is loaded, and a new GameData object is created using the existing pet and play time,
-     * but with the updated inventory. This updated game data is then saved back to the file.
-     * </p>
+     * Returns the shared Store instance used across the game.
      *
-     * @param filename  the file path of the saved game to update
-     * @param updatedInventory  the updated player inventory
-     */
-    public static void saveInventoryToGameFile(String filename, PlayerInventory updatedInventory) {
-        GameData existingData = loadGame(filename);
-        if (existingData != null) {
-            Pet pet = existingData.getPet(); // keep the pet stats
-            long totalPlayTime = existingData.getTotalPlayTime(); // keep play time
-            GameData updatedData = new GameData(pet, updatedInventory, totalPlayTime);
-            System.out.println("Game was saved?");
-            try (FileWriter writer = new FileWriter(filename)) {
-                gson.toJson(updatedData, writer);
-            } catch (IOException e) {
-                System.err.println("Failed to save inventory to file: " + e.getMessage());
-            }
-        }
+     * @return the shared Store instance
+     */
+    public static Store getSharedStore() {
+        return sharedStore;
     }
 }
@@ -1,8 +1,11 @@
 package src;
 
-import com.google.gson.*;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
 
-import java.lang.reflect.Type;
+import java.io.IOException;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -12,9 +15,10 @@ import java.util.Map;
  * Handles the custom JSON serialization and deserialization of a {@code Map<Gifts, Integer>} using the Gson library.
  *
  * <p>
- * Converts the gift inventory into a {@link JsonObject} where each gift's name is
+ * Writes the gift inventory as a JSON object where each gift's name is
  * used as a key and its quantity as the value. During deserialization, the adapter reconstructs
- * the inventory by retrieving gift objects from the {@link Store} based on their names.</p>
+ * the inventory by retrieving the shared gift objects from the {@link ItemCatalog} based on their names.
+ * Both directions stream through Gson's reader and writer without building a JSON tree.</p>
  *
  * @author
  * Kamaldeep Ghotra,
@@ -22,48 +26,74 @@ import java.util.Map;
  * @version 1.0
  * */
 
-public class GiftInventoryAdapter implements JsonSerializer<Map<Gifts, Integer>>, JsonDeserializer<Map<Gifts, Integer>> {
+public class GiftInventoryAdapter extends TypeAdapter<Map<Gifts, Integer>> {
+    /** Catalog the gift items are looked up in */
+    private final ItemCatalog catalog;
 
     /**
-     * Serializes a {@code Map<Gifts, Integer>} into a {@link JsonObject}, using each gift's
+     * Constructs an adapter that looks items up in the shared {@link ItemCatalog}.
+     */
+    public GiftInventoryAdapter() {
+        this(ItemCatalog.getShared());
+    }
+
+    /**
+     * Constructs an adapter that looks items up in the given catalog.
+     *
+     * @param catalog the catalog to look items up in
+     */
+    public GiftInventoryAdapter(ItemCatalog catalog) {
+        this.catalog = catalog;
+    }
+
+    /**
+     * Writes a {@code Map<Gifts, Integer>} as a JSON object, using each gift's
      * name as the key and its quantity as the value.
      *
+     * @param out the JSON writer to write to
      * @param giftMap the gift inventory to serialize
-     * @param type the generic type
-     * @param context the Gson serialization context
-     * @return a {@link JsonElement} representing the gift inventory in JSON format
+     * @throws IOException if writing fails
      */
     @Override
-    public JsonElement serialize(Map<Gifts, Integer> giftMap, Type type, JsonSerializationContext context) {
-        JsonObject obj = new JsonObject();
+    public void write(JsonWriter out, Map<Gifts, Integer> giftMap) throws IOException {
+        if (giftMap == null) {
+            out.nullValue();
+            return;
+        }
+        out.beginObject();
         for (Map.Entry<Gifts, Integer> entry : giftMap.entrySet()) {
-            obj.add(entry.getKey().getName(), new JsonPrimitive(entry.getValue()));
+            out.name(entry.getKey().getName()).value(entry.getValue());
         }
-        return obj;
+        out.endObject();
     }
 
     /**
-     * Deserializes a {@link JsonElement} back into a {@code Map<Gifts, Integer>},
-     * reconstructing the gifts using the {@link Store} lookup by name.
+     * Reads a JSON object back into a {@code Map<Gifts, Integer>},
+     * looking the gifts up by name in the {@link ItemCatalog}.
      *
-     * @param json the JSON element to deserialize
-     * @param type the expected map type
-     * @param context the Gson deserialization context
-     * @return a {@code Map<Gifts, Integer>} representing the reconstructed gift inventory
-     * @throws JsonParseException if the input JSON is malformed
+     * @param in the JSON reader positioned at the gift inventory
+     * @return a {@code Map<Gifts, Integer>} representing the reconstructed gift inventory,
+     *         or null if the JSON value is null
+     * @throws IOException if the input JSON is malformed
      */
     @Override
-    public Map<Gifts, Integer> deserialize(JsonElement json, Type type, JsonDeserializationContext context) throws JsonParseException {
+    public Map<Gifts, Integer> read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
         Map<Gifts, Integer> giftMap = new HashMap<>();
-        Store store = new Store(); // to retrieve Gifts by name
 
-        JsonObject obj = json.getAsJsonObject();
-        for (Map.Entry<String, JsonElement> entry : obj.entrySet()) {
-            Gifts gift = store.getGift(entry.getKey());
+        in.beginObject();
+        while (in.hasNext()) {
+            Gifts gift = catalog.getGift(in.nextName());
             if (gift != null) {
-                giftMap.put(gift, entry.getValue().getAsInt());
+                giftMap.put(gift, in.nextInt());
+            } else {
+                in.skipValue();
             }
         }
+        in.endObject();
         return giftMap;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,414 @@
+package src;
+
+import javax.imageio.ImageIO;
+import javax.swing.Icon;
+import javax.swing.ImageIcon;
+import java.awt.Graphics2D;
+import java.awt.Image;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.function.Function;
+
+
+/**
+ * Loads the images in {@code resources/} and keeps scaled copies of them.
+ *
+ * <p>
+ * Still images are decoded with {@link ImageIO}, which can run on several threads at once
+ * (see {@link AssetPreloader}). Animations are decoded into frames by {@link #getAnimation}
+ * and played by the shared {@link AnimationClock}; {@link #getIcon} still loads GIFs as
+ * toolkit images. Scaled copies are made with the same smooth scaling the screens always
+ * used, but only the first time a size is asked for; after that the finished icon is reused.
+ * </p>
+ *
+ * <p>
+ * Original images, scaled images and decoded animations are kept in separate
+ * least-recently-used caches that are limited by the number of pixels they hold, so large images that are no longer shown get
+ * dropped first. An image that is only ever shown scaled is decoded just long enough to
+ * scale it and never enters the original cache: many backgrounds are 2000x1389 files shown
+ * at 1080x750, and keeping the full-size copy would cost more than three times the memory.
+ * </p>
+ *
+ * <p>
+ * Paths are matched without regard to case, the same way the game's resource files are
+ * found on Windows, so {@code PetOne_Idle.gif} finds {@code PetOne_Idle.GIF}.
+ * Icons handed out by this class are shared, so callers must not change them.
+ * All methods are thread safe.
+ * </p>
+ *
+ * @author Mohammed Abdulnabi
+ * @version 1.0
+ */
+public final class ImageAssets {
+    /** Most pixels the original cache may hold (about 32 MB of ARGB images) */
+    private static final long MAX_ORIGINAL_PIXELS = 8L * 1024 * 1024;
+
+    /** Most pixels the scaled cache may hold (about 64 MB of ARGB images) */
+    private static final long MAX_SCALED_PIXELS = 16L * 1024 * 1024;
+
+    /**
+     * Most frame pixels the animation cache may hold (about 24 MB of ARGB frames). One pet
+     * type's sprites for one outfit status take about 9 MB.
+     */
+    private static final long MAX_ANIMATION_PIXELS = 6L * 1024 * 1024;
+
+    /** Original images, keyed by lower-case file path */
+    private static final PixelCache<ImageIcon> ORIGINALS = new PixelCache<>(MAX_ORIGINAL_PIXELS, ImageAssets::pixels);
+
+    /** Decoded animations, keyed by lower-case file path */
+    private static final PixelCache<Icon> ANIMATIONS = new PixelCache<>(MAX_ANIMATION_PIXELS, ImageAssets::framePixels);
+
+    /** Animations being decoded right now, so a second caller waits instead of decoding again */
+    private static final ConcurrentHashMap<String, FutureTask<Icon>> DECODING = new ConcurrentHashMap<>();
+
+    /** Scaled images keyed by "lower-case path@widthxheight" */
+    private static final PixelCache<ImageIcon> SCALED = new PixelCache<>(MAX_SCALED_PIXELS, ImageAssets::pixels);
+
+
+    /**
+     * Private constructor, this class only has static helpers.
+     */
+    private ImageAssets() {
+    }
+
+
+    /**
+     * Returns an image at its original size, loading it the first time.
+     *
+     * @param path the path to the image file
+     * @return the shared icon
+     */
+    public static ImageIcon getIcon(String path) {
+        String key = key(path);
+        ImageIcon cached = ORIGINALS.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        // Load outside the lock; two threads asking for the same image just do the work twice
+        return ORIGINALS.putIfAbsent(key, load(path));
+    }
+
+
+    /**
+     * Returns an animation (e.g. a pet sprite GIF) decoded into frames, decoding it the first time.
+     * If the file cannot be decoded, it is loaded the same way as {@link #getIcon}.
+     *
+     * <p>
+     * Each animation is decoded once even when several threads ask for it together, e.g. the
+     * event thread showing a sprite that {@link SpriteCache#preload} is still decoding: the
+     * later callers wait for the decode already running instead of starting their own.
+     * </p>
+     *
+     * @param path the path to the animation file
+     * @return the shared, animated icon
+     */
+    public static Icon getAnimation(String path) {
+        String key = key(path);
+        Icon cached = ANIMATIONS.get(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        // Decode outside the cache lock, but only on the first thread to ask
+        FutureTask<Icon> decode = new FutureTask<>(() -> decodeAnimation(key, path));
+        FutureTask<Icon> running = DECODING.putIfAbsent(key, decode);
+        if (running == null) {
+            running = decode;
+            try {
+                decode.run();
+            } finally {
+                DECODING.remove(key, decode);
+            }
+        }
+
+        boolean interrupted = false;
+        try {
+            while (true) {
+                try {
+                    return running.get();
+                } catch (InterruptedException e) {
+                    // Keep waiting, the animation is needed to paint; restore the flag after
+                    interrupted = true;
+                }
+            }
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Error decoding animation: " + path, e.getCause());
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+
+    /**
+     * Decodes an animation and adds it to the animation cache, unless another thread
+     * finished decoding it in the meantime.
+     *
+     * @param key the cache key of the animation
+     * @param path the path to the animation file
+     * @return the cached animation
+     */
+    private static Icon decodeAnimation(String key, String path) {
+        Icon cached = ANIMATIONS.get(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        Icon animation;
+        try {
+            animation = AnimatedIcon.read(new File(resolve(path)));
+        } catch (IOException | RuntimeException e) {
+            System.out.println("Error decoding animation: " + path);
+            animation = getIcon(path);
+        }
+        return ANIMATIONS.putIfAbsent(key, animation);
+    }
+
+
+    /**
+     * Checks whether an image has already been loaded.
+     *
+     * @param path the path to the image file
+     * @return true if the image is ready to use
+     */
+    public static boolean isLoaded(String path) {
+        return ORIGINALS.containsKey(key(path));
+    }
+
+
+    /**
+     * Returns an image scaled to the given size, scaling it the first time that size is asked for.
+     *
+     * @param path the path to the image file
+     * @param width the width to scale to
+     * @param height the height to scale to
+     * @return the shared, scaled icon
+     */
+    public static ImageIcon getScaledIcon(String path, int width, int height) {
+        String key = key(path) + "@" + width + "x" + height;
+        ImageIcon cached = SCALED.get(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        // Use the original if it is cached anyway, otherwise decode it just for this
+        ImageIcon original = ORIGINALS.get(key(path));
+        if (original == null) {
+            original = load(path);
+        }
+
+        // Scale outside the lock; two threads asking for the same size just do the work twice
+        return SCALED.putIfAbsent(key, scale(original, width, height));
+    }
+
+
+    /**
+     * Drops every cached image. Images are loaded again the next time they are asked for.
+     */
+    public static void clear() {
+        ORIGINALS.clear();
+        ANIMATIONS.clear();
+        SCALED.clear();
+    }
+
+
+    /**
+     * Loads an image file. Still images are decoded with ImageIO into an image that is quick
+     * to draw; GIFs (which may be animated) and files ImageIO cannot read are loaded the way
+     * Swing always loaded them.
+     *
+     * @param path the path to the image file
+     * @return the loaded icon
+     */
+    private static ImageIcon load(String path) {
+        String file = resolve(path);
+        if (!file.toLowerCase(Locale.ROOT).endsWith(".gif")) {
+            try {
+                BufferedImage image = ImageIO.read(new File(file));
+                if (image != null) {
+                    return new ImageIcon(toIntArgb(image));
+                }
+            } catch (IOException e) {
+                System.out.println("Error loading image: " + path);
+            }
+        }
+        return new ImageIcon(file);
+    }
+
+
+    /**
+     * Scales an image with smooth scaling and draws the result into an image of its own,
+     * so the scaled copy does not keep the original alive.
+     *
+     * @param original the image to scale
+     * @param width the width to scale to
+     * @param height the height to scale to
+     * @return the scaled icon (the original if it failed to load)
+     */
+    private static ImageIcon scale(ImageIcon original, int width, int height) {
+        if (original.getIconWidth() <= 0 || original.getIconHeight() <= 0 || width <= 0 || height <= 0) {
+            return original;
+        }
+        // ImageIcon waits until the scaled image has been fully produced
+        ImageIcon scaled = new ImageIcon(original.getImage().getScaledInstance(width, height, Image.SCALE_SMOOTH));
+        BufferedImage copy = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = copy.createGraphics();
+        g.drawImage(scaled.getImage(), 0, 0, null);
+        g.dispose();
+        scaled.getImage().flush();
+        return new ImageIcon(copy);
+    }
+
+
+    /**
+     * Finds the file for a path. If there is no file with that exact name, a file in the
+     * same folder whose name only differs in case is used instead.
+     *
+     * @param path the path to the image file
+     * @return the path of the file to read
+     */
+    private static String resolve(String path) {
+        File file = new File(path);
+        if (file.exists()) {
+            return path;
+        }
+        File[] matches = file.getAbsoluteFile().getParentFile().listFiles((dir, name) -> name.equalsIgnoreCase(file.getName()));
+        return matches != null && matches.length > 0 ? matches[0].getPath() : path;
+    }
+
+
+    /**
+     * Converts an image to the ARGB pixel layout, which Swing draws the fastest.
+     *
+     * @param image the decoded image
+     * @return the image in ARGB layout (the same image if it already is)
+     */
+    private static BufferedImage toIntArgb(BufferedImage image) {
+        if (image.getType() == BufferedImage.TYPE_INT_ARGB) {
+            return image;
+        }
+        BufferedImage argb = new BufferedImage(image.getWidth(), image.getHeight(), BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = argb.createGraphics();
+        g.drawImage(image, 0, 0, null);
+        g.dispose();
+        return argb;
+    }
+
+
+    /**
+     * Returns the cache key for a path.
+     *
+     * @param path the path to the image file
+     * @return the path in lower case, with forward slashes
+     */
+    private static String key(String path) {
+        return path.replace('\\', '/').toLowerCase(Locale.ROOT);
+    }
+
+
+    /**
+     * Returns the number of pixels in an icon (0 if it failed to load).
+     *
+     * @param icon the icon
+     * @return the pixel count
+     */
+    private static long pixels(ImageIcon icon) {
+        return (long) Math.max(icon.getIconWidth(), 0) * Math.max(icon.getIconHeight(), 0);
+    }
+
+
+    /**
+     * Returns the number of pixels held by an animation's frames, or by a single image.
+     *
+     * @param icon the animation
+     * @return the pixel count
+     */
+    private static long framePixels(Icon icon) {
+        long frames = icon instanceof AnimatedIcon ? ((AnimatedIcon) icon).getFrameCount() : 1;
+        return frames * Math.max(icon.getIconWidth(), 0) * Math.max(icon.getIconHeight(), 0);
+    }
+
+
+    /**
+     * A least-recently-used cache that is limited by the number of pixels it holds rather
+     * than by the number of entries. All methods are thread safe.
+     *
+     * @param <V> the type of image kept
+     */
+    private static final class PixelCache<V> {
+        /** Most pixels the cache may hold */
+        private final long maxPixels;
+
+        /** Counts the pixels of an entry */
+        private final Function<V, Long> pixelCount;
+
+        /** The entries, least recently used first */
+        private final LinkedHashMap<String, V> entries = new LinkedHashMap<>(64, 0.75f, true);
+
+        /** Pixels currently held */
+        private long pixels;
+
+        PixelCache(long maxPixels, Function<V, Long> pixelCount) {
+            this.maxPixels = maxPixels;
+            this.pixelCount = pixelCount;
+        }
+
+        /**
+         * Returns an entry and marks it as recently used.
+         *
+         * @param key the key
+         * @return the entry, or null if it is not cached
+         */
+        synchronized V get(String key) {
+            return entries.get(key);
+        }
+
+        /**
+         * Checks whether an entry is cached, without marking it as used.
+         *
+         * @param key the key
+         * @return true if the entry is cached
+         */
+        synchronized boolean containsKey(String key) {
+            return entries.containsKey(key);
+        }
+
+        /**
+         * Adds an entry unless one is already cached, then drops the least recently used
+         * entries until the cache is within its pixel budget. The newest entry is always kept.
+         *
+         * @param key the key
+         * @param value the entry to add
+         * @return the cached entry (the existing one, if there was one)
+         */
+        synchronized V putIfAbsent(String key, V value) {
+            V previous = entries.putIfAbsent(key, value);
+            if (previous != null) {
+                return previous;
+            }
+            pixels += pixelCount.apply(value);
+            Iterator<V> eldest = entries.values().iterator();
+            while (pixels > maxPixels && entries.size() > 1) {
+                pixels -= pixelCount.apply(eldest.next());
+                eldest.remove();
+            }
+            return value;
+        }
+
+        /**
+         * Removes every entry.
+         */
+        synchronized void clear() {
+            entries.clear();
+            pixels = 0;
+        }
+    }
+}
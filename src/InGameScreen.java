@@ -1,13 +1,12 @@
 package src;
 
-import javax.sound.sampled.*;
 import javax.swing.*;
 import java.awt.*;
-import java.io.BufferedInputStream;
 import java.io.File;
 import java.io.IOException;
-import java.io.InputStream;
 import javax.swing.Timer;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 
 
 /**
@@ -34,7 +33,7 @@ import javax.swing.Timer;
  * Kamaldeep Ghotra
  * @version 1.0
  */
-public class InGameScreen extends JLayeredPane {
+public class InGameScreen extends JLayeredPane implements DisposableScreen {
     /** Custom font for styling (for the text labels on buttons) */
     private Font customFont;
 
@@ -65,7 +64,7 @@ public class InGameScreen extends JLayeredPane {
     /** Path to save/load the current game as a file */
     private String saveFilePath;
 
-    /** Label to display pet animations (GIF) */
+    /** Label to display pet animations (GIF). Created once, only its icon changes */
     private JLabel gifLabel;
 
     /** Track when the player starts playing the game */
@@ -98,6 +97,18 @@ public class InGameScreen extends JLayeredPane {
     /** To display how many coins the user has */
     private JLabel coinLabel;
 
+    /** Saves the game in the background whenever it changes */
+    private AutosaveService autosave;
+
+    /** Popup listing the food or toys to use, built the first time it is opened */
+    private InventoryPopup inventoryPopup;
+
+    /** Label showing the food or toy being used beside the pet (unused when the stage draws it) */
+    private JLabel itemGifLabel;
+
+    /** Draws the pet and stat bars when the Java2D renderer is switched on, otherwise null */
+    private PetStage stage;
+
 
     /**
      * Sets up the InGame screen where the user can interact with their pet.
@@ -125,7 +136,14 @@ public class InGameScreen extends JLayeredPane {
         mainPanel.add(this, "InGame");
         setPreferredSize(new Dimension(1080, 750));  // Preferred size matches game window resolution
 
-        // Show the appropriate pet sprite
+        // Draw the pet and stat bars with the stage if the Java2D renderer is switched on
+        if (PetStage.isRequested()) {
+            stage = new PetStage(pet);
+            add(stage, Integer.valueOf(3), 0);  // The layer the sprite label is on
+        }
+
+        // Decode this pet type's sprites in the background, then show the current one
+        SpriteCache.preload(pet.getPetType(), pet.isWearingOutfit());
         initializePetSprite();
 
         // Add the layered background
@@ -149,6 +167,55 @@ public class InGameScreen extends JLayeredPane {
 
         // Start the timer for decaying the pets stats
         startStatDecayTimer();
+
+        // Save changes in the background while the game is played
+        autosave = new AutosaveService(gameData, saveFilePath, AutosaveService.DEFAULT_WINDOW_MILLIS);
+        autosave.start();
+    }
+
+
+    /**
+     * Points this screen at another game (or the same game again) without rebuilding it.
+     *
+     * The buttons, labels, bars and key bindings made by the constructor are kept; only the
+     * values they show are refreshed from the new game data. Any unsaved change to the
+     * previous game is saved first, its inventory popup is closed, and a new play session is
+     * started for the new one.
+     *
+     * @param gameData      The game data to show, including pet and inventory.
+     * @param saveFilePath  The file path used when saving the session.
+     */
+    public void rebind(GameData gameData, String saveFilePath) {
+        // Finish off the previous game before switching
+        stopDecayTimer();
+        autosave.stop();
+
+        // Close the previous game's inventory popup and clear the item shown beside its pet
+        if (inventoryPopup != null) {
+            inventoryPopup.close();
+        }
+        clearItem();
+
+        this.pet = gameData.getPet();
+        this.gameData = gameData;
+        this.saveFilePath = saveFilePath;
+        this.sessionStartTime = System.currentTimeMillis();
+        if (stage != null) {
+            stage.setPet(pet);
+        }
+
+        // Show the new pet's stats, sprite and coins
+        SpriteCache.preload(pet.getPetType(), pet.isWearingOutfit());
+        updateBars();
+        currentSpritePath = "";
+        state = null;
+        updatePetState();
+        refreshCoinDisplay();
+
+        startStatDecayTimer();
+
+        autosave = new AutosaveService(gameData, saveFilePath, AutosaveService.DEFAULT_WINDOW_MILLIS);
+        autosave.start();
     }
 
 
@@ -189,6 +256,11 @@ public class InGameScreen extends JLayeredPane {
         SleepProgressBar = createBar(101, 81, pet.getMaxSleep(), pet.getSleep());
         FullnessProgressBar = createBar(26, 299, pet.getMaxFullness(), pet.getFullness());
         HappinessProgressBar = createBar(101, 299, pet.getMaxHappiness(), pet.getHappiness());
+
+        // The stage's bars go on the same layer, below the bar frames
+        if (stage != null) {
+            add(stage.getBarLayer(), Integer.valueOf(1));
+        }
     }
 
 
@@ -215,6 +287,7 @@ public class InGameScreen extends JLayeredPane {
         // Update the color based on stat level
         updateProgressBarColor(bar, value);
         bar.setBackground(Color.decode("#f9e6c6"));
+        bar.setVisible(stage == null);  // The stage draws the bars itself
 
         // Add the bar to this screen
         add(bar, Integer.valueOf(1));
@@ -273,7 +346,7 @@ public class InGameScreen extends JLayeredPane {
         backButton.setBounds(990, 15, 64, 64);
 
         // Load the home icon image to place on top of button
-        ImageIcon homeIcon = new ImageIcon("resources/home_icon.png");
+        ImageIcon homeIcon = ImageAssets.getIcon("resources/home_icon.png");
 
         // Create a label to hold the icon graphic
         JLabel homeIconLabel = new JLabel(homeIcon);
@@ -290,6 +363,7 @@ public class InGameScreen extends JLayeredPane {
         // Add an action listener that triggers when the back button is clicked
         backButton.addActionListener(e -> {
             stopDecayTimer();  // Stop the stat decay timer
+            autosave.stop();  // Save anything that changed since the last autosave
 
             // Calculate how long the current play session lasted
             long sessionDuration = System.currentTimeMillis() - sessionStartTime;
@@ -318,22 +392,27 @@ public class InGameScreen extends JLayeredPane {
      *
      */
     private void startStatDecayTimer() {
-        // Check if the timer already exists and if its running, return if so
-        if (statDecayTimer != null && statDecayTimer.isRunning()) {
+        // The stage animates while the pet is active
+        if (stage != null) {
+            stage.start();
+        }
+
+        // Check if the timer already exists, restart it if it was stopped
+        if (statDecayTimer != null) {
+            if (!statDecayTimer.isRunning()) {
+                statDecayTimer.start();
+            }
             return;
         }
 
         // Create a new timer that runs every 250ms
-        statDecayTimer = new Timer(250, e -> {
+        statDecayTimer = new Timer(Pet.TICK_MILLIS, e -> {
 
             // Apply stat decay to the pet
             pet.applyDecline();
 
             // Update each progress bar to reflect the new stat values
-            updateBar(HealthProgressBar, pet.getMaxHealth(), pet.getHealth());
-            updateBar(SleepProgressBar, pet.getMaxSleep(), pet.getSleep());
-            updateBar(FullnessProgressBar, pet.getMaxFullness(), pet.getFullness());
-            updateBar(HappinessProgressBar, pet.getMaxHappiness(), pet.getHappiness());
+            updateBars();
 
             // Refresh the coin counter
             refreshCoinDisplay();
@@ -345,12 +424,26 @@ public class InGameScreen extends JLayeredPane {
         SwingUtilities.invokeLater(statDecayTimer::start);
     }
 
+    /**
+     * Updates all four stat bars to the pet's current values.
+     */
+    private void updateBars() {
+        updateBar(HealthProgressBar, pet.getMaxHealth(), pet.getHealth());
+        updateBar(SleepProgressBar, pet.getMaxSleep(), pet.getSleep());
+        updateBar(FullnessProgressBar, pet.getMaxFullness(), pet.getFullness());
+        updateBar(HappinessProgressBar, pet.getMaxHappiness(), pet.getHappiness());
+    }
+
+
     /**
      * Updates a progress bar's maximum value, current value, and visual color.
      *
      * This method is used to refresh a specific stat bar (e.g., health, sleep, etc.)
      * after changes in the pet's state. It ensures the bar reflects the latest values
      * and visually updates its color based on the current percentage.
+     * Most timer ticks leave the stats unchanged, so the bar is only touched
+     * (and repainted) when its value, maximum or colour actually changed.
+     * All stat changes should go through here so the colour never goes stale.
      *
      * @param bar   The {@link JProgressBar} to update.
      * @param max   The maximum value the bar can reach.
@@ -359,6 +452,12 @@ public class InGameScreen extends JLayeredPane {
      * @author Mohammed Abdulnabi
      */
     private void updateBar(JProgressBar bar, int max, int value) {
+        // Nothing to redraw if the stat didn't change
+        if (bar.getMaximum() == max && bar.getValue() == value
+                && getStatColor(value).equals(bar.getForeground())) {
+            return;
+        }
+
         // Set values for the progress bar
         bar.setMaximum(max);
         bar.setValue(value);
@@ -374,6 +473,7 @@ public class InGameScreen extends JLayeredPane {
      * disables specific action buttons depending on the pet’s condition.
      *
      * Once the state is determined, the pet's sprite is updated to reflect it visually.
+     * The buttons are only changed when the state is different from the last call.
      *
      * @author Kamaldeep Ghotra
      * @author Mohammed Abdulnabi
@@ -393,32 +493,32 @@ public class InGameScreen extends JLayeredPane {
             base = "Pet";  // Use default if the type isn't recognized
         }
 
-        // Setting which commands are available during the different states of the pet
-        // Check if the pet is dead
+        // Work out the current state of the pet
+        String newState;
         if (pet.isDead()) {
-            state = "Dead";
-            setButtonsEnabled(false);  // Disable all buttons
-
-            // Check if the pet is sleeping
+            newState = "Dead";
         } else if (pet.isSleeping()) {
-            state = "Sleep";
-            setButtonsEnabled(false);  // Disable all buttons
-
-            // Check if the pet is angry
+            newState = "Sleep";
         } else if (pet.isAngry()) {
-            state = "Angry";
-            feedButton.setEnabled(false);  // Disable feed button
-            vetButton.setEnabled(false);  // Disable vet button
-
-            // Check if the pet is hungry
+            newState = "Angry";
         } else if (pet.isHungry()) {
-            state = "Hungry";
-            setButtonsEnabled(true);
-
-            // If none of the above, pet is in normal state
+            newState = "Hungry";
         } else {
-            state = "Idle";
-            setButtonsEnabled(true);
+            newState = "Idle";  // If none of the above, pet is in normal state
+        }
+
+        // Setting which commands are available during the different states of the pet,
+        // only when the state changed
+        if (!newState.equals(state)) {
+            state = newState;
+            if (state.equals("Dead") || state.equals("Sleep")) {
+                setButtonsEnabled(false);  // Disable all buttons
+            } else if (state.equals("Angry")) {
+                feedButton.setEnabled(false);  // Disable feed button
+                vetButton.setEnabled(false);  // Disable vet button
+            } else {
+                setButtonsEnabled(true);
+            }
         }
         // Update the pet's displayed sprite based on current state and outfit
         updateSprite(pet);
@@ -448,8 +548,8 @@ public class InGameScreen extends JLayeredPane {
     /**
      * Updates the displayed pet animation with a new GIF for a limited duration.
      *
-     * Removes the current animation loads and displays a new GIF from the specified path,
-     * and plays it for a specified length of time.
+     * Swaps the current animation for the GIF at the specified path (loaded through the
+     * {@link SpriteCache}), and plays it for a specified length of time.
      *
      * @param gifPath the file path to the new GIF animation
      * @param duration the time in milliseconds to show the new GIF before reverting
@@ -458,30 +558,11 @@ public class InGameScreen extends JLayeredPane {
      * @author Kamaldeep Ghotra
      */
     private void updateGif(String gifPath, int duration) {
-
-        // Ensure the old GIF is removed properly
-        if (gifLabel != null) {
-            remove(gifLabel);
-            gifLabel = null; // Reset to avoid referencing a removed label
-        }
-
-        // Load new gif and update the global gifLabel
-        ImageIcon newGif = new ImageIcon(gifPath);
-        gifLabel = new JLabel(newGif);
-        gifLabel.setBounds(300, 30, 622, 632);
-        add(gifLabel, Integer.valueOf(3));
-
-        //reload the screen
-        revalidate();
-        repaint();
+        // Show the action animation in place of the current sprite
+        spriteGifs(gifPath);
 
         // Reset back to idle animation after a delay
         Timer revertTimer = new Timer(duration, e -> {
-            if (gifLabel != null) {
-                remove(gifLabel);
-                gifLabel = null;
-            }
-
             // Restore the correct idle animation based on pet type
             String petType = pet.getPetType();
 
@@ -518,10 +599,6 @@ public class InGameScreen extends JLayeredPane {
                     spriteGifs("resources/PetThree_Idle.gif");
                 }
             }
-
-            //reaload the screen
-            revalidate();
-            repaint();
         });
 
 
@@ -541,30 +618,41 @@ public class InGameScreen extends JLayeredPane {
      *
      */
     public static void updateProgressBarColor(JProgressBar progressBar, int health) {
+        progressBar.setForeground(getStatColor(health));
+        progressBar.repaint();
+    }
+
+
+    /**
+     * Returns the colour a stat bar is drawn in for a stat value,
+     * from red (low) to green (high).
+     *
+     * @param value The stat value.
+     * @return The colour of the filled part of the bar.
+     */
+    static Color getStatColor(int value) {
         // Change color based on health percentage
-        if (health <= 10) {
-            progressBar.setForeground(Color.decode("#A94337"));
-        } else if (health <= 20) {
-            progressBar.setForeground(Color.decode("#B54F32"));
-        } else if (health <= 30) {
-            progressBar.setForeground(Color.decode("#C05C2E"));
-        } else if (health <= 40) {
-            progressBar.setForeground(Color.decode("#CB6829"));
-        } else if (health <= 50) {
-            progressBar.setForeground(Color.decode("#D67524"));
-        } else if (health <= 60) {
-            progressBar.setForeground(Color.decode("#E1821F"));
-        } else if (health <= 70) {
-            progressBar.setForeground(Color.decode("#EC8E1A"));
-        } else if (health <= 80) {
-            progressBar.setForeground(Color.decode("#F79B15"));
-        } else if (health <= 90) {
-            progressBar.setForeground(Color.decode("#83B52B"));
+        if (value <= 10) {
+            return Color.decode("#A94337");
+        } else if (value <= 20) {
+            return Color.decode("#B54F32");
+        } else if (value <= 30) {
+            return Color.decode("#C05C2E");
+        } else if (value <= 40) {
+            return Color.decode("#CB6829");
+        } else if (value <= 50) {
+            return Color.decode("#D67524");
+        } else if (value <= 60) {
+            return Color.decode("#E1821F");
+        } else if (value <= 70) {
+            return Color.decode("#EC8E1A");
+        } else if (value <= 80) {
+            return Color.decode("#F79B15");
+        } else if (value <= 90) {
+            return Color.decode("#83B52B");
         } else {
-            progressBar.setForeground(Color.decode("#37A943"));
+            return Color.decode("#37A943");
         }
-
-        progressBar.repaint();
     }
 
 
@@ -581,15 +669,13 @@ public class InGameScreen extends JLayeredPane {
      */
     private void setBackground() {
         // background
-        ImageIcon background = new ImageIcon("resources/grid.png");
+        ImageIcon background = ImageAssets.getIcon("resources/grid.png");
         JLabel backgroundLabel = new JLabel(background);
         backgroundLabel.setBounds(0, 0, 1080, 750);
         add(backgroundLabel, Integer.valueOf(0));
 
         // actual file thing
-        ImageIcon inGameWindow = new ImageIcon("resources/ingamescreen.png");
-        Image scaledWindow = inGameWindow.getImage().getScaledInstance(1080, 750, Image.SCALE_SMOOTH);
-        ImageIcon scaledWindowIcon = new ImageIcon(scaledWindow);
+        ImageIcon scaledWindowIcon = ImageAssets.getScaledIcon("resources/ingamescreen.png", 1080, 750);
 
         // create label
         JLabel windowLabel = new JLabel(scaledWindowIcon);
@@ -600,7 +686,7 @@ public class InGameScreen extends JLayeredPane {
 
         // save icon
         JButton saveButton = MainScreen.buttonCreate(17, 15, 50, 50, "resources/save.png", "resources/save_clicked.png", "Save");
-        ImageIcon saveIcon = new ImageIcon("resources/save_icon.png");
+        ImageIcon saveIcon = ImageAssets.getIcon("resources/save_icon.png");
         JLabel saveLabel = new JLabel(saveIcon);
 
         // Position the icon centered on the button (adjust these values as needed)
@@ -615,59 +701,30 @@ public class InGameScreen extends JLayeredPane {
         add(saveButton, Integer.valueOf(2));
 
         saveButton.addActionListener(e -> {
-            // Save the game
-            GameDataManager.saveGame(
-                    "saves/" + pet.getName() + ".json",
-                    gameData.getPet(),
-                    gameData.getInventory(),
-                    gameData.getTotalPlayTime()
-            );
-
-            // Create custom components
-            JPanel panel = new JPanel(new BorderLayout(10, 10));
-            panel.setBorder(BorderFactory.createEmptyBorder(15, 15, 15, 15));
-            panel.setBackground(new Color(240, 240, 240));
-
-            // Custom message
-            JLabel messageLabel = new JLabel("<html><div style='text-align: center;'>"
-                    + "<font size=4 color='#2E86C1'><b>Game Saved!</b></font><br>"
-                    + "<font size=3 color='#5D6D7E'>Your progress is safe</font></div></html>");
-            messageLabel.setHorizontalAlignment(SwingConstants.CENTER);
-            panel.add(messageLabel, BorderLayout.CENTER);
-
-            // Create a custom button without focus painting
-            JButton okButton = new JButton("Got it!");
-            okButton.setFont(new Font("Arial", Font.BOLD, 14));
-            okButton.setBackground(new Color(52, 152, 219));
-            okButton.setForeground(Color.WHITE);
-            okButton.setFocusPainted(false);  // This removes the focus border
-            okButton.setBorder(BorderFactory.createEmptyBorder(5, 15, 5, 15));
-
-            okButton.addActionListener(ev -> {
-                Window window = SwingUtilities.getWindowAncestor(panel);
-                if (window != null) {
-                    window.dispose();
+            // Save the game in the background and report once the file is written
+            Future<?> save = autosave.saveNow();
+            new SwingWorker<Void, Void>() {
+                @Override
+                protected Void doInBackground() throws Exception {
+                    save.get();
+                    return null;
                 }
-            });
 
-            // Create button panel
-            JPanel buttonPanel = new JPanel(new FlowLayout(FlowLayout.CENTER));
-            buttonPanel.setBackground(new Color(240, 240, 240));
-            buttonPanel.add(okButton);
-            panel.add(buttonPanel, BorderLayout.SOUTH);
-
-            // Create the dialog
-            JDialog dialog = new JDialog((Frame)null, "Save Successful", true);
-            dialog.setContentPane(panel);
-            dialog.setSize(350, 200);
-            dialog.setLocationRelativeTo(this);
-            dialog.setResizable(false);
-            dialog.setVisible(true);
+                @Override
+                protected void done() {
+                    try {
+                        get();
+                        showSavedDialog();
+                    } catch (InterruptedException | ExecutionException ex) {
+                        showStyledDialog("Save Failed", "Your game could not be saved. Please try again.");
+                    }
+                }
+            }.execute();
         });
 
         // stop music button
         JButton musicToggle = MainScreen.buttonCreate(90, 15, 50, 50, "resources/save.png", "resources/save_clicked.png", "");
-        ImageIcon musicIcon = new ImageIcon("resources/Speaker-Crossed.png");
+        ImageIcon musicIcon = ImageAssets.getIcon("resources/Speaker-Crossed.png");
         JLabel musicLabel = new JLabel(musicIcon);
 
         // Position the icon centered on the button (adjust these values as needed)
@@ -697,25 +754,25 @@ public class InGameScreen extends JLayeredPane {
 
     private void healthBars(){
         //Draw and place the health bar UI element
-        ImageIcon healthBar = new ImageIcon("resources/health_bar.png");
+        ImageIcon healthBar = ImageAssets.getIcon("resources/health_bar.png");
         JLabel healthBarLabel = new JLabel(healthBar);
         healthBarLabel.setBounds(-145, -30, 350, 350);
         add(healthBarLabel, Integer.valueOf(2));
 
         //Draw and place the sleepBar UI element
-        ImageIcon sleepBar = new ImageIcon("resources/sleep_bar.png");
+        ImageIcon sleepBar = ImageAssets.getIcon("resources/sleep_bar.png");
         JLabel sleepBarLabel = new JLabel(sleepBar);
         sleepBarLabel.setBounds(-70, -30,350, 350);
         add(sleepBarLabel, Integer.valueOf(2));
 
         //Draw and place the hungerBar UI element
-        ImageIcon hungerBar = new ImageIcon("resources/hunger_bar.png");
+        ImageIcon hungerBar = ImageAssets.getIcon("resources/hunger_bar.png");
         JLabel hungerBarLabel = new JLabel(hungerBar);
         hungerBarLabel.setBounds(-145, 190, 350, 350);
         add(hungerBarLabel, Integer.valueOf(2));
 
         //Draw and place the happiness_bar UI element
-        ImageIcon happiness_bar = new ImageIcon("resources/happiness_bar.png");
+        ImageIcon happiness_bar = ImageAssets.getIcon("resources/happiness_bar.png");
         JLabel happinessBarLabel = new JLabel(happiness_bar);
         happinessBarLabel.setBounds(-70, 190, 350, 350);
         add(happinessBarLabel, Integer.valueOf(2));
@@ -739,42 +796,23 @@ public class InGameScreen extends JLayeredPane {
         shopButton = MainScreen.buttonCreate(30, 550, 128, 128, "resources/command_button.png", "resources/command_button_clicked.png", "Shop");
 
 
-        // When clicked, save current game, load latest data, and refresh the store screen
+        // When clicked, save any changes and open the store. The store shares this screen's
+        // game data, so purchases show up here without reloading the save file
         shopButton.addActionListener(e -> {
-
-            //save the game when the store button is clicked
-            GameDataManager.saveGame(saveFilePath, gameData.getPet(), gameData.getInventory(), gameData.getTotalPlayTime());
-
-            // Reload fresh game data
-            GameData updatedGameData = GameDataManager.loadGame(saveFilePath);
-
-            // Remove old StoreScreen if it exists
-            for (Component comp : mainPanel.getComponents()) {
-                if (comp instanceof StoreScreen) {
-                    mainPanel.remove(comp);
-                    break;
-                }
-            }
-
-            // Create new StoreScreen with updated game data
-            Store store = GameDataManager.getSharedStore();
-            StoreScreen storeScreen = new StoreScreen(customFont, cardLayout, mainPanel, store, updatedGameData, saveFilePath);
-
-            //show the the new store/
-            mainPanel.add(storeScreen, "Shop");
+            autosave.saveIfDirty();
             cardLayout.show(mainPanel, "Shop");
         });
 
 
 
         // Icon + label for Shop
-        ImageIcon shopIcon = new ImageIcon("resources/store_icon.png");
+        ImageIcon shopIcon = ImageAssets.getIcon("resources/store_icon.png");
         JLabel shopIconLabel = new JLabel(shopIcon);
         shopIconLabel.setBounds(30 + (128 - 44)/2, 545 + (128 - 38)/2, 44, 38);
         add(shopIconLabel, Integer.valueOf(3));
         add(shopButton, Integer.valueOf(2));
         JLabel shopTextLabel = new JLabel("SHOP");
-        shopTextLabel.setFont(customFont.deriveFont(Font.BOLD, 14f));
+        shopTextLabel.setFont(FontRegistry.getFont(Font.BOLD, 14f));
         shopTextLabel.setForeground(Color.BLACK);
         shopTextLabel.setBounds(30, 530 + 128 + 5, 128, 20);
         shopTextLabel.setHorizontalAlignment(SwingConstants.CENTER);
@@ -785,13 +823,13 @@ public class InGameScreen extends JLayeredPane {
         //create style and place the feed button
         feedButton = MainScreen.buttonCreate(210,550,128,128, "resources/command_button.png", "resources/command_button_clicked.png", "");
         feedButton.addActionListener(e -> showInventoryPopup(feedButton, "Feed"));
-        ImageIcon feedIcon = new ImageIcon("resources/feed_icon.png");
+        ImageIcon feedIcon = ImageAssets.getIcon("resources/feed_icon.png");
         JLabel feedIconLabel = new JLabel(feedIcon);
         feedIconLabel.setBounds(210 + (128 - 39)/2, 545 + (128 - 38)/2, 39, 38);
         add(feedIconLabel, Integer.valueOf(3));
         add(feedButton, Integer.valueOf(2));
         JLabel feedTextLabel = new JLabel("FEED");
-        feedTextLabel.setFont(customFont.deriveFont(Font.BOLD, 14f));
+        feedTextLabel.setFont(FontRegistry.getFont(Font.BOLD, 14f));
         feedTextLabel.setForeground(Color.BLACK);
         feedTextLabel.setBounds(210, 530 + 128 + 5, 128, 20);
         feedTextLabel.setHorizontalAlignment(SwingConstants.CENTER);
@@ -801,13 +839,13 @@ public class InGameScreen extends JLayeredPane {
         //create style and place the play button
         playButton = MainScreen.buttonCreate(390,550, 128,128, "resources/command_button.png", "resources/command_button_clicked.png", "");
         playButton.addActionListener(e -> showInventoryPopup(playButton, "Play"));
-        ImageIcon playIcon = new ImageIcon("resources/play_icon.png");
+        ImageIcon playIcon = ImageAssets.getIcon("resources/play_icon.png");
         JLabel playIconLabel = new JLabel(playIcon);
         playIconLabel.setBounds(390 + (128 - 47)/2, 545 + (128 - 58)/2, 47, 58);
         add(playIconLabel, Integer.valueOf(3));
         add(playButton, Integer.valueOf(2));
         JLabel playTextLabel = new JLabel("PLAY");
-        playTextLabel.setFont(customFont.deriveFont(Font.BOLD, 14f));
+        playTextLabel.setFont(FontRegistry.getFont(Font.BOLD, 14f));
         playTextLabel.setForeground(Color.BLACK);
         playTextLabel.setBounds(390, 530 + 128 + 5, 128, 20);
         playTextLabel.setHorizontalAlignment(SwingConstants.CENTER);
@@ -816,7 +854,7 @@ public class InGameScreen extends JLayeredPane {
         // === GIFT BUTTON ===================================================================================================================================================================================//
         //create style and place the gift button
         giveGiftButton = MainScreen.buttonCreate(560, 550, 128,128, "resources/command_button.png", "resources/command_button_clicked.png", "");
-        ImageIcon giftIcon = new ImageIcon("resources/gift_icon.png");
+        ImageIcon giftIcon = ImageAssets.getIcon("resources/gift_icon.png");
         JLabel giftIconLabel = new JLabel(giftIcon);
         giftIconLabel.setBounds(560 + (128 - 50)/2, 545 + (128 - 47)/2, 50, 47);
         add(giftIconLabel, Integer.valueOf(3));
@@ -845,7 +883,7 @@ public class InGameScreen extends JLayeredPane {
 
         //Stylizes and places the gidt button on the screen.
         JLabel giftTextLabel = new JLabel("GIFT");
-        giftTextLabel.setFont(customFont.deriveFont(Font.BOLD, 14f));
+        giftTextLabel.setFont(FontRegistry.getFont(Font.BOLD, 14f));
         giftTextLabel.setForeground(Color.BLACK);
         giftTextLabel.setBounds(560, 530 + 128 + 5, 128, 20);
         giftTextLabel.setHorizontalAlignment(SwingConstants.CENTER);
@@ -863,13 +901,11 @@ public class InGameScreen extends JLayeredPane {
             PlayerInventory inventory = gameData.getInventory();
             //execute the excervise logic
             inventory.exercisePet(pet);
-            //play the exercise sound and adjust voluem
-            MusicPlayer.playSoundEffect("resources/exercise_sound.wav");
+            //adjust the volume and play the exercise sound
             MusicPlayer.setSfxVolume(0.07f);
+            MusicPlayer.playSoundEffect("resources/exercise_sound.wav");
             //update all the bar graphs
-            HealthProgressBar.setValue(pet.getHealth());
-            FullnessProgressBar.setValue(pet.getFullness());
-            SleepProgressBar.setValue(pet.getSleep());
+            updateBars();
 
             // Add this to update coin display
             refreshCoinDisplay();
@@ -878,7 +914,7 @@ public class InGameScreen extends JLayeredPane {
 
 
         //display the exercise icon
-        ImageIcon exerciseIcon = new ImageIcon("resources/exercise_icon.png");
+        ImageIcon exerciseIcon = ImageAssets.getIcon("resources/exercise_icon.png");
         JLabel exerciseIconLabel = new JLabel(exerciseIcon);
         exerciseIconLabel.setBounds(730 + (128 - 50)/2, 545 + (128 - 47)/2, 50, 47);
         add(exerciseIconLabel, Integer.valueOf(3));
@@ -886,7 +922,7 @@ public class InGameScreen extends JLayeredPane {
 
         //display the icon label
         JLabel exerciseTextLabel = new JLabel("EXERCISE");
-        exerciseTextLabel.setFont(customFont.deriveFont(Font.BOLD, 14f));
+        exerciseTextLabel.setFont(FontRegistry.getFont(Font.BOLD, 14f));
         exerciseTextLabel.setForeground(Color.BLACK);
         exerciseTextLabel.setBounds(730, 530 + 128 + 5, 128, 20);
         exerciseTextLabel.setHorizontalAlignment(SwingConstants.CENTER);
@@ -897,9 +933,9 @@ public class InGameScreen extends JLayeredPane {
         vetButton = MainScreen.buttonCreate(900,550,128,128, "resources/command_button.png", "resources/command_button_clicked.png", "");
         vetButton.addActionListener(e -> {
 
-            //Play the healing sound
-            MusicPlayer.playSoundEffect("resources/heal_sound.wav");
+            //Play the healing sound (volume first, it applies to sounds started after it)
             MusicPlayer.setSfxVolume(0.07f);
+            MusicPlayer.playSoundEffect("resources/heal_sound.wav");
 
             // Get PlayerInventory
             PlayerInventory inventory = gameData.getInventory();
@@ -908,7 +944,7 @@ public class InGameScreen extends JLayeredPane {
             //Check the cooldownf or the vet
             if (inventory.takePetToVet(pet, currentTime)) {
                 // update the progress bar if no cooldown
-                HealthProgressBar.setValue(pet.getHealth());
+                updateBars();
                 //update coins
                 refreshCoinDisplay();
             } else {
@@ -922,13 +958,13 @@ public class InGameScreen extends JLayeredPane {
         });
 
         //Display and show the vet button and icon
-        ImageIcon vetIcon = new ImageIcon("resources/vet_icon.png");
+        ImageIcon vetIcon = ImageAssets.getIcon("resources/vet_icon.png");
         JLabel vetIconLabel = new JLabel(vetIcon);
         vetIconLabel.setBounds(900 + (128 - 47)/2, 545 + (128 - 47)/2, 47, 44);
         add(vetIconLabel, Integer.valueOf(3));
         add(vetButton, Integer.valueOf(2));
         JLabel vetTextLabel = new JLabel("VET");
-        vetTextLabel.setFont(customFont.deriveFont(Font.BOLD, 14f));
+        vetTextLabel.setFont(FontRegistry.getFont(Font.BOLD, 14f));
         vetTextLabel.setForeground(Color.BLACK);
         vetTextLabel.setBounds(900, 530 + 128 + 5, 128, 20);
         vetTextLabel.setHorizontalAlignment(SwingConstants.CENTER);
@@ -988,9 +1024,10 @@ public class InGameScreen extends JLayeredPane {
 
 
     /**
-     * Displays a popup inventory menu above the selected command button this shows up to six usable items
+     * Displays a popup inventory menu above the selected command button that shows the usable
      * food or toys that the player owns. Items are displayed in a grid with their icons
      * and quantities, and clicking an item will apply it to the pet and play an animation.
+     * The popup is built the first time and reused after that; opening it only fills its cells.
      *
      * @param sourceButton   The button that triggered this popup, used to anchor its position.
      * @param inventoryType  Either "Feed" or "Play" — determines which inventory items to display.
@@ -999,213 +1036,153 @@ public class InGameScreen extends JLayeredPane {
      * @author Kamaldeep Ghotra
      */
     private void showInventoryPopup(JButton sourceButton, String inventoryType) {
-        // inventory popup
-        ImageIcon originalIcon = new ImageIcon("resources/inventory_popup.png");
-        Image scaledImage = originalIcon.getImage().getScaledInstance(originalIcon.getIconWidth()/2, originalIcon.getIconHeight()/2, Image.SCALE_SMOOTH);
-        ImageIcon popupIcon = new ImageIcon(scaledImage);
-        JLabel popupLabel = new JLabel(popupIcon);
-
-        // Original close button implementation
-        JButton closeButton = MainScreen.buttonCreate(380, 60, 100, 100, "resources/save.png", "resources/save_clicked.png", "");
-
-        // X label on top of close button
-        JLabel xLabel = new JLabel("X");
-        xLabel.setFont(customFont.deriveFont(Font.BOLD, 19f));
-        xLabel.setForeground(Color.BLACK);
-        xLabel.setBounds(423, 100, 20, 20);
-        xLabel.setHorizontalAlignment(SwingConstants.CENTER);
-
-        // inventory JLayeredPane
-        JLayeredPane inventoryPane = new JLayeredPane();
-        inventoryPane.setPreferredSize(new Dimension(popupIcon.getIconWidth(), popupIcon.getIconHeight()));
-
-        // add components to inventoryPane - background first
-        popupLabel.setBounds(0, 30, popupIcon.getIconWidth(), popupIcon.getIconHeight());
-        inventoryPane.add(popupLabel, JLayeredPane.DEFAULT_LAYER); // Bottom layer
-        inventoryPane.add(closeButton, JLayeredPane.MODAL_LAYER);
-        inventoryPane.add(xLabel, JLayeredPane.POPUP_LAYER);
-
-        // Create inventory grid squares
-        ImageIcon squareIcon = new ImageIcon("resources/inventory_item_square_1.png");
-        int startX = 100;
-        int startY = 140;
-        int squareWidth = 90;
-        int squareHeight = 90;
-        int horizontalGap = 20;
-        int verticalGap = 15;
-
-        JLabel[] squares = new JLabel[6];
-        for (int i = 0; i < 6; i++) {
-            int row = i / 3;
-            int col = i % 3;
-            squares[i] = new JLabel(squareIcon);
-            squares[i].setBounds(
-                    startX + col * (squareWidth + horizontalGap),
-                    startY + row * (squareHeight + verticalGap),
-                    squareWidth,
-                    squareHeight
-            );
-            inventoryPane.add(squares[i], JLayeredPane.PALETTE_LAYER);
+        // Build the popup and the item GIF label once
+        if (inventoryPopup == null) {
+            inventoryPopup = new InventoryPopup();
+            inventoryPopup.setOnClose(this::clearItem); // Clear any displayed GIF
+            add(inventoryPopup, JLayeredPane.POPUP_LAYER);
+
+            // Create a label for the item GIF that will appear beside the pet (the stage draws it itself)
+            if (stage == null) {
+                itemGifLabel = new JLabel();
+                itemGifLabel.setBounds(330, 200, 405, 393); // Position beside the pet
+                add(itemGifLabel, Integer.valueOf(4)); // Higher layer than pet
+            }
         }
 
         // Position the popup
-        int popupX = sourceButton.getX() + (sourceButton.getWidth() - popupIcon.getIconWidth())/2;
-        int popupY = sourceButton.getY() - popupIcon.getIconHeight() + 110;
-        popupX = Math.max(0, Math.min(popupX, getWidth() - popupIcon.getIconWidth()));
-        popupY = Math.max(0, Math.min(popupY, getHeight() - popupIcon.getIconHeight()));
-        inventoryPane.setBounds(popupX, popupY, popupIcon.getIconWidth(), popupIcon.getIconHeight());
-        add(inventoryPane, JLayeredPane.POPUP_LAYER);
-
-        // Create a label for the item GIF that will appear beside the pet
-        JLabel itemGifLabel = new JLabel();
-        itemGifLabel.setBounds(330, 200, 405, 393); // Position beside the pet
-        add(itemGifLabel, Integer.valueOf(4)); // Higher layer than pet
+        int popupX = sourceButton.getX() + (sourceButton.getWidth() - inventoryPopup.getWidth())/2;
+        int popupY = sourceButton.getY() - inventoryPopup.getHeight() + 110;
+        popupX = Math.max(0, Math.min(popupX, getWidth() - inventoryPopup.getWidth()));
+        popupY = Math.max(0, Math.min(popupY, getHeight() - inventoryPopup.getHeight()));
+
+        PlayerInventory inventory = gameData.getInventory();
 
         // Handle food items
         if (inventoryType.equals("Feed")) {
-            PlayerInventory inventory = gameData.getInventory();
-            int itemIndex = 0;
-
-            for (int i = 0; i < inventory.getFoodInventory().keySet().size(); i++) {
-                Food food = (Food) inventory.getFoodInventory().keySet().toArray()[i];
-                int quantity = inventory.getFoodCount(food);
-                if (quantity <= 0 || itemIndex >= 6) continue;
-
-                JLabel square = squares[itemIndex];
-
-                // Load and scale food icon to 40x40
-                String iconPath = "resources/food_" + food.getName().replace(" ", "_").toLowerCase() + ".png";
-                ImageIcon originalFoodIcon = new ImageIcon(iconPath);
-                Image scaledFoodImage = originalFoodIcon.getImage().getScaledInstance(40, 40, Image.SCALE_SMOOTH);
-
-                // Create food button with scaled icon
-                JButton foodButton = new JButton(new ImageIcon(scaledFoodImage));
-                foodButton.setBounds(
-                        square.getX() + (square.getWidth() - 40) / 2,
-                        square.getY() + (square.getHeight() - 40) / 2,
-                        40,
-                        40
-                );
-                foodButton.setContentAreaFilled(false);
-                foodButton.setBorderPainted(false);
-                foodButton.setFocusPainted(false);
-
-                // Quantity label
-                JLabel quantityLabel = new JLabel("x" + quantity);
-                quantityLabel.setFont(customFont.deriveFont(12f));
-                quantityLabel.setForeground(Color.BLACK);
-                quantityLabel.setBounds(square.getX() + square.getWidth() - 25, square.getY() + square.getHeight() - 20, 25, 15);
-
-                inventoryPane.add(foodButton, JLayeredPane.MODAL_LAYER);
-                inventoryPane.add(quantityLabel, JLayeredPane.MODAL_LAYER);
-
-                foodButton.addActionListener(e -> {
-                    itemGifLabel.setBounds(330, 200, 405, 393); // Food position
-                    // Show the food GIF beside the pet
-                    String foodGifPath = "resources/food_" + food.getName().replace(" ", "_").toLowerCase() + ".gif";
-                    ImageIcon foodGif = new ImageIcon(foodGifPath);
-                    itemGifLabel.setIcon(foodGif);
-
-                    boolean fed = inventory.feedPet(pet, food);
-                    if (fed) {
-                        FullnessProgressBar.setValue(pet.getFullness());
-                        playSound("eating_sound.wav");
-                        updateGif(getGifPath("Eating"),1500);
-                        refreshCoinDisplay(); // Add this to update coin display
-
-                        // Remove the food GIF after 1.5 seconds
-                        Timer gifTimer = new Timer(1500, ev -> {
-                            itemGifLabel.setIcon(null);
-                        });
-                        gifTimer.setRepeats(false);
-                        gifTimer.start();
-
-                        remove(inventoryPane);
-                        revalidate();
-                        repaint();
-                    } else {
-                        showStyledDialog("No Food", "Out of " + food.getName() + "!");
-                    }
-                });
-                itemIndex++;
-            }
+            inventoryPopup.open(inventory.getOwnedFood(),
+                    food -> ImageAssets.getScaledIcon("resources/food_" + itemFileName(food.getName()) + ".png", 40, 40),
+                    inventory::getFoodCount,
+                    this::feedFromPopup,
+                    popupX, popupY);
         }
 
         // Handle toy items
         if (inventoryType.equals("Play")) {
-            PlayerInventory inventory = gameData.getInventory();
-            int itemIndex = 0;
-
-            for (int i = 0; i < inventory.getToyInventory().keySet().size(); i++) {
-                Toys toy = (Toys) inventory.getToyInventory().keySet().toArray()[i];
-                int quantity = inventory.getToyCount(toy);
-                if (quantity <= 0 || itemIndex >= 6) continue;
-
-                JLabel square = squares[itemIndex];
-
-                // Load and scale toy icon to 40x40
-                String iconPath = "resources/toy_" + toy.getName().replace(" ", "_").toLowerCase() + ".png";
-                ImageIcon originalToyIcon = new ImageIcon(iconPath);
-                Image scaledToyImage = originalToyIcon.getImage().getScaledInstance(40, 40, Image.SCALE_SMOOTH);
-
-                // Create toy button with scaled icon
-                JButton toyButton = new JButton(new ImageIcon(scaledToyImage));
-                toyButton.setBounds(square.getX() + (square.getWidth() - 40) / 2, square.getY() + (square.getHeight() - 40) / 2, 40, 40);
-                toyButton.setContentAreaFilled(false);
-                toyButton.setBorderPainted(false);
-                toyButton.setFocusPainted(false);
-
-
-                inventoryPane.add(toyButton, JLayeredPane.MODAL_LAYER);
-
-                // In the toy button action listener (play action)
-                toyButton.addActionListener(e -> {
-                    itemGifLabel.setBounds(430, 350, 100, 100);
-
-                    // Show the toy GIF
-                    String toyPngPath = "resources/toy_" + toy.getName().replace(" ", "_").toLowerCase() + ".png";
-                    ImageIcon originalToyPNG = new ImageIcon(toyPngPath);
-                    Image scaledToyPNG = originalToyPNG.getImage().getScaledInstance(80, 80, Image.SCALE_SMOOTH);
-                    itemGifLabel.setIcon(new ImageIcon(scaledToyPNG));
-
-                    if (inventory.hasToy(toy)) {
-                        pet.increaseHappiness(25);
-                        HappinessProgressBar.setValue(pet.getHappiness());
-                        playSound("play_sound.wav");
-                        updateGif(getGifPath("Playing"),1500);
-
-                        // Add coin reward for playing
-                        inventory.setPlayerCoins(inventory.getPlayerCoins() + 100);
-                        refreshCoinDisplay(); // Update the coin display
-
-                        // Remove the toy GIF after 1.5 seconds
-                        Timer gifTimer = new Timer(1500, ev -> {
-                            itemGifLabel.setIcon(null);
-                        });
-                        gifTimer.setRepeats(false);
-                        gifTimer.start();
-
-                        remove(inventoryPane);
-                        revalidate();
-                        repaint();
-                    } else {
-                        showStyledDialog("No Toy", "You don't have " + toy.getName() + "!");
-                    }
-                });
-                itemIndex++;
-            }
+            inventoryPopup.open(inventory.getOwnedToys(),
+                    toy -> ImageAssets.getScaledIcon("resources/toy_" + itemFileName(toy.getName()) + ".png", 40, 40),
+                    null,
+                    this::playFromPopup,
+                    popupX, popupY);
         }
+    }
 
-        // Original close button action
-        closeButton.addActionListener(e -> {
-            remove(inventoryPane);
-            itemGifLabel.setIcon(null); // Clear any displayed GIF
-            revalidate();
-            repaint();
-        });
 
-        revalidate();
-        repaint();
+    /**
+     * Feeds the pet a food chosen in the inventory popup, showing the food beside the pet.
+     *
+     * @param food The food that was clicked.
+     */
+    private void feedFromPopup(Food food) {
+        PlayerInventory inventory = gameData.getInventory();
+        // Show the food GIF beside the pet
+        showItem(ImageAssets.getAnimation("resources/food_" + itemFileName(food.getName()) + ".gif"),
+                new Rectangle(330, 200, 405, 393)); // Food position
+
+        boolean fed = inventory.feedPet(pet, food);
+        if (fed) {
+            updateBars();
+            playSound("eating_sound.wav");
+            updateGif(getGifPath("Eating"),1500);
+            refreshCoinDisplay(); // Add this to update coin display
+
+            // Remove the food GIF after 1.5 seconds
+            Timer gifTimer = new Timer(1500, ev -> {
+                clearItem();
+            });
+            gifTimer.setRepeats(false);
+            gifTimer.start();
+
+            inventoryPopup.close();
+        } else {
+            showStyledDialog("No Food", "Out of " + food.getName() + "!");
+        }
+    }
+
+
+    /**
+     * Plays with the pet using a toy chosen in the inventory popup, showing the toy beside the pet.
+     *
+     * @param toy The toy that was clicked.
+     */
+    private void playFromPopup(Toys toy) {
+        PlayerInventory inventory = gameData.getInventory();
+
+        // Show the toy image
+        showItem(ImageAssets.getScaledIcon("resources/toy_" + itemFileName(toy.getName()) + ".png", 80, 80),
+                new Rectangle(430, 350, 100, 100));
+
+        if (inventory.hasToy(toy)) {
+            pet.increaseHappiness(25);
+            updateBars();
+            playSound("play_sound.wav");
+            updateGif(getGifPath("Playing"),1500);
+
+            // Add coin reward for playing
+            inventory.setPlayerCoins(inventory.getPlayerCoins() + 100);
+            refreshCoinDisplay(); // Update the coin display
+
+            // Remove the toy image after 1.5 seconds
+            Timer gifTimer = new Timer(1500, ev -> {
+                clearItem();
+            });
+            gifTimer.setRepeats(false);
+            gifTimer.start();
+
+            inventoryPopup.close();
+        } else {
+            showStyledDialog("No Toy", "You don't have " + toy.getName() + "!");
+        }
+    }
+
+
+    /**
+     * Shows the food or toy being used beside the pet, in the item label or, when the
+     * Java2D renderer is on, drawn by the stage.
+     *
+     * @param icon   The food or toy image (may be animated).
+     * @param bounds Where on the screen to show it.
+     */
+    private void showItem(Icon icon, Rectangle bounds) {
+        if (stage != null) {
+            stage.setEffect(icon, bounds);
+        } else {
+            itemGifLabel.setBounds(bounds);
+            itemGifLabel.setIcon(icon);
+        }
+    }
+
+
+    /**
+     * Stops showing the food or toy beside the pet.
+     */
+    private void clearItem() {
+        if (stage != null) {
+            stage.setEffect(null, null);
+        } else if (itemGifLabel != null) {
+            itemGifLabel.setIcon(null);
+        }
+    }
+
+
+    /**
+     * Turns an item name into the form used in its image file names (e.g. "Lamb Chop" to "lamb_chop").
+     *
+     * @param itemName The name of the item.
+     * @return The name in lower case, with underscores for spaces.
+     */
+    private static String itemFileName(String itemName) {
+        return itemName.replace(" ", "_").toLowerCase();
     }
 
     //
@@ -1229,17 +1206,8 @@ public class InGameScreen extends JLayeredPane {
         // Only update if sprite has changed
         if (spritePath.equals(currentSpritePath)) return;
 
-        // Remove old label
-        if (gifLabel != null) remove(gifLabel);
-
-        ImageIcon gifIcon = new ImageIcon(spritePath);
-        gifLabel = new JLabel(gifIcon);
-        gifLabel.setBounds(300, 30, 622, 632);
-        add(gifLabel, Integer.valueOf(3));
+        showSprite(SpriteCache.getSprite(spritePath));
         currentSpritePath = spritePath;
-
-        revalidate();
-        repaint();
     }
 
     /**
@@ -1273,28 +1241,35 @@ public class InGameScreen extends JLayeredPane {
     }
 
     /**
-     * Updates the pet's sprite by loading and displaying a new GIF.
-     * If there's already a sprite showing, it gets removed and replaced with the new one.
+     * Updates the pet's sprite by displaying a new GIF.
+     * The GIF comes from the {@link SpriteCache}, so it is only read from disk the first time.
      * Used whenever the pet's state or outfit changes.
      *
      * @param spriteFilePath The file path to the new GIF you want to show.
      * @author Mohammed Abdulnbi
      */
     private void spriteGifs(String spriteFilePath) {
-        //If the sprite is loaded and not null
-        if (gifLabel != null) {
-            remove(gifLabel); // Remove existing GIF before adding a new one
-        }
-
-        //access the new pet from the directory and load it.
-        ImageIcon gifIcon = new ImageIcon(spriteFilePath);
-        gifLabel = new JLabel(gifIcon);
-        gifLabel.setBounds(300, 30, 622, 632);
-        add(gifLabel, Integer.valueOf(3));
+        showSprite(SpriteCache.getSprite(spriteFilePath));
+    }
 
-        //reload
-        revalidate();
-        repaint();
+    /**
+     * Shows a sprite in the pet label. The label is created and added the first time;
+     * after that only its icon is swapped, so changing sprites needs no layout pass.
+     * When the Java2D renderer is on, the sprite is handed to the stage instead.
+     *
+     * @param sprite the sprite to show
+     */
+    private void showSprite(Icon sprite) {
+        if (stage != null) {
+            stage.setSprite(sprite);
+        } else if (gifLabel == null) {
+            gifLabel = new JLabel(sprite);
+            gifLabel.setBounds(300, 30, 622, 632);
+            add(gifLabel, Integer.valueOf(3));
+            gifLabel.repaint();
+        } else {
+            gifLabel.setIcon(sprite);
+        }
     }
 
 
@@ -1308,35 +1283,36 @@ public class InGameScreen extends JLayeredPane {
         if (statDecayTimer != null) {
             statDecayTimer.stop();
         }
+        if (stage != null) {
+            stage.stop();
+        }
+    }
+
+
+    /**
+     * Stops the decay timer and the autosave (saving any last changes)
+     * when the screen is thrown away.
+     */
+    @Override
+    public void dispose() {
+        stopDecayTimer();
+        autosave.stop();
+        if (stage != null) {
+            stage.dispose();
+        }
     }
 
 
     /**
      * Plays a sound effect from the specified file path.
-     * This method loads the audio file, opens a clip, and starts playback immediately.
-     * If an error occurs (e.g. file not found or unsupported format), the stack trace is printed.
+     * The sound is decoded once and played through the shared audio mixer
+     * (see {@link MusicPlayer#playSoundEffect(String)}).
      *
-     * @param soundFilePath The relative or absolute path to the audio file to play.
+     * @param soundFilePath The classpath location of the audio file to play.
      * @author Aya Abdulnabi
      */
     private void playSound(String soundFilePath) {
-        try {
-            InputStream raw = getClass().getResourceAsStream("/" + soundFilePath);
-            if (raw == null) {
-                System.out.println("Sound file not found: " + soundFilePath);
-                return;
-            }
-
-            BufferedInputStream buffered = new BufferedInputStream(raw);
-            AudioInputStream audioInputStream = AudioSystem.getAudioInputStream(buffered);
-
-            Clip clip = AudioSystem.getClip();
-            clip.open(audioInputStream);
-            clip.start();
-        } catch (Exception e) {
-            // Suppress stack trace and show a simple message
-            System.out.println("Could not play sound: " + soundFilePath + " (" + e.getMessage() + ")");
-        }
+        MusicPlayer.playSoundEffect(soundFilePath);
     }
 
 
@@ -1349,9 +1325,7 @@ public class InGameScreen extends JLayeredPane {
     public void displayCoins(){
 
         // Load and scale the coin display image
-        ImageIcon originalCoinIcon = new ImageIcon("resources/coins_display.png");
-        Image scaledCoinImage = originalCoinIcon.getImage().getScaledInstance(200, 46, Image.SCALE_SMOOTH);
-        ImageIcon scaledCoinIcon = new ImageIcon(scaledCoinImage);
+        ImageIcon scaledCoinIcon = ImageAssets.getScaledIcon("resources/coins_display.png", 200, 46);
 
         // create the label with scaled image
         JLabel coinDisplayLabel = new JLabel(scaledCoinIcon);
@@ -1362,7 +1336,7 @@ public class InGameScreen extends JLayeredPane {
 
         //create and style the coin label.
         coinLabel = new JLabel(String.valueOf(coins));
-        coinLabel.setFont(customFont.deriveFont(Font.BOLD, 17f));
+        coinLabel.setFont(FontRegistry.getFont(Font.BOLD, 17f));
         coinLabel.setForeground(Color.BLACK);
 
         coinLabel.setBounds(890, 470, 100, 30);
@@ -1379,21 +1353,70 @@ public class InGameScreen extends JLayeredPane {
     /**
      * Updates the coin label on the screen to reflect the player's current coin count.
      * This method gets the latest coin value from the GameData's PlayerInventory
-     * and updates the label accordingly.
+     * and updates the label accordingly. Only the label itself is redrawn,
+     * and only when the number changed.
      */
     public void refreshCoinDisplay() {
         // if the label exists
         if (coinLabel != null) {
             //get the coins from the player inventory
-            coinLabel.setText(String.valueOf(gameData.getInventory().getPlayerCoins()));
+            String coins = String.valueOf(gameData.getInventory().getPlayerCoins());
 
-            //update the display.
-            revalidate();
-            repaint();
+            // setText repaints just the label
+            if (!coins.equals(coinLabel.getText())) {
+                coinLabel.setText(coins);
+            }
         }
     }
 
 
+    /**
+     * Shows the dialog telling the player their game was saved.
+     */
+    private void showSavedDialog() {
+        // Create custom components
+        JPanel panel = new JPanel(new BorderLayout(10, 10));
+        panel.setBorder(BorderFactory.createEmptyBorder(15, 15, 15, 15));
+        panel.setBackground(new Color(240, 240, 240));
+
+        // Custom message
+        JLabel messageLabel = new JLabel("<html><div style='text-align: center;'>"
+                + "<font size=4 color='#2E86C1'><b>Game Saved!</b></font><br>"
+                + "<font size=3 color='#5D6D7E'>Your progress is safe</font></div></html>");
+        messageLabel.setHorizontalAlignment(SwingConstants.CENTER);
+        panel.add(messageLabel, BorderLayout.CENTER);
+
+        // Create a custom button without focus painting
+        JButton okButton = new JButton("Got it!");
+        okButton.setFont(new Font("Arial", Font.BOLD, 14));
+        okButton.setBackground(new Color(52, 152, 219));
+        okButton.setForeground(Color.WHITE);
+        okButton.setFocusPainted(false);  // This removes the focus border
+        okButton.setBorder(BorderFactory.createEmptyBorder(5, 15, 5, 15));
+
+        okButton.addActionListener(ev -> {
+            Window window = SwingUtilities.getWindowAncestor(panel);
+            if (window != null) {
+                window.dispose();
+            }
+        });
+
+        // Create button panel
+        JPanel buttonPanel = new JPanel(new FlowLayout(FlowLayout.CENTER));
+        buttonPanel.setBackground(new Color(240, 240, 240));
+        buttonPanel.add(okButton);
+        panel.add(buttonPanel, BorderLayout.SOUTH);
+
+        // Create the dialog
+        JDialog dialog = new JDialog((Frame)null, "Save Successful", true);
+        dialog.setContentPane(panel);
+        dialog.setSize(350, 200);
+        dialog.setLocationRelativeTo(this);
+        dialog.setResizable(false);
+        dialog.setVisible(true);
+    }
+
+
     /**
      * Displays a custom-styled modal dialog with a title and message, centered on the current component.
      * The dialog features a modern, flat design with a single "OK" button to dismiss it.
@@ -1420,7 +1443,7 @@ public class InGameScreen extends JLayeredPane {
 
         // Create and style the OK button
         JButton okButton = new JButton("OK");
-        okButton.setFont(customFont.deriveFont(Font.BOLD, 14f));
+        okButton.setFont(FontRegistry.getFont(Font.BOLD, 14f));
         okButton.setBackground(new Color(52, 152, 219));
         okButton.setForeground(Color.WHITE);
         okButton.setFocusPainted(false);
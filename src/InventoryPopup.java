@@ -0,0 +1,233 @@
+package src;
+
+import javax.swing.Icon;
+import javax.swing.ImageIcon;
+import javax.swing.JButton;
+import javax.swing.JLabel;
+import javax.swing.JLayeredPane;
+import javax.swing.SwingConstants;
+import java.awt.Color;
+import java.awt.Container;
+import java.awt.Dimension;
+import java.awt.Font;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.IntConsumer;
+import java.util.function.ToIntFunction;
+
+
+/**
+ * The popup on the in-game screen that lists the food or toys the player can use.
+ *
+ * <p>
+ * The popup is built once, with a fixed grid of item cells. Each time it is opened the
+ * cells are filled in place from an ordered list of items: the icon, quantity and item of a
+ * cell are swapped, but no buttons, labels or listeners are created. When there are more
+ * items than cells, arrow buttons page through them.
+ * </p>
+ *
+ * @author Aya Abdulnabi
+ * @author Mohammed Abdulnabi
+ * @version 1.0
+ */
+public class InventoryPopup extends JLayeredPane {
+    /** Number of item cells on one page */
+    public static final int CELLS_PER_PAGE = 6;
+
+    /** Number of columns in the item grid */
+    private static final int COLUMNS = 3;
+
+    /** Size the item icons are scaled to */
+    private static final int ITEM_ICON_SIZE = 40;
+
+    /** Size of a grid square */
+    private static final int SQUARE_SIZE = 90;
+
+    /** Buttons showing the item of each cell */
+    private final JButton[] itemButtons = new JButton[CELLS_PER_PAGE];
+
+    /** Labels showing the quantity of each cell's item */
+    private final JLabel[] quantityLabels = new JLabel[CELLS_PER_PAGE];
+
+    /** Button to show the previous page of items */
+    private final JButton prevButton;
+
+    /** Button to show the next page of items */
+    private final JButton nextButton;
+
+    /** Items being listed */
+    private List<?> items = Collections.emptyList();
+
+    /** Icons of the items being listed, by position in the list */
+    private Function<Integer, Icon> iconOf;
+
+    /** Quantities of the items being listed, by position in the list (null to hide them) */
+    private ToIntFunction<Integer> quantityOf;
+
+    /** Uses the item at a position in the list */
+    private IntConsumer useItem;
+
+    /** The page being shown */
+    private int page;
+
+    /** Called when the player closes the popup with the close button */
+    private Runnable onClose = () -> { };
+
+
+    /**
+     * Builds the popup: the background, the close button, the grid squares, the item cells
+     * and the page arrows. The popup is not shown until {@link #open} is called.
+     */
+    public InventoryPopup() {
+        // inventory popup background
+        ImageIcon originalIcon = ImageAssets.getIcon("resources/inventory_popup.png");
+        ImageIcon popupIcon = ImageAssets.getScaledIcon("resources/inventory_popup.png", originalIcon.getIconWidth()/2, originalIcon.getIconHeight()/2);
+        JLabel popupLabel = new JLabel(popupIcon);
+        popupLabel.setBounds(0, 30, popupIcon.getIconWidth(), popupIcon.getIconHeight());
+        setPreferredSize(new Dimension(popupIcon.getIconWidth(), popupIcon.getIconHeight()));
+        setSize(popupIcon.getIconWidth(), popupIcon.getIconHeight());
+        add(popupLabel, JLayeredPane.DEFAULT_LAYER); // Bottom layer
+
+        // Close button with an X label on top
+        JButton closeButton = MainScreen.buttonCreate(380, 60, 100, 100, "resources/save.png", "resources/save_clicked.png", "");
+        closeButton.addActionListener(e -> {
+            close();
+            onClose.run();
+        });
+        JLabel xLabel = new JLabel("X");
+        xLabel.setFont(FontRegistry.getFont(Font.BOLD, 19f));
+        xLabel.setForeground(Color.BLACK);
+        xLabel.setBounds(423, 100, 20, 20);
+        xLabel.setHorizontalAlignment(SwingConstants.CENTER);
+        add(closeButton, JLayeredPane.MODAL_LAYER);
+        add(xLabel, JLayeredPane.POPUP_LAYER);
+
+        // Grid squares, each with an item button and a quantity label
+        ImageIcon squareIcon = ImageAssets.getIcon("resources/inventory_item_square_1.png");
+        int startX = 100;
+        int startY = 140;
+        int horizontalGap = 20;
+        int verticalGap = 15;
+        for (int i = 0; i < CELLS_PER_PAGE; i++) {
+            int x = startX + (i % COLUMNS) * (SQUARE_SIZE + horizontalGap);
+            int y = startY + (i / COLUMNS) * (SQUARE_SIZE + verticalGap);
+
+            JLabel square = new JLabel(squareIcon);
+            square.setBounds(x, y, SQUARE_SIZE, SQUARE_SIZE);
+            add(square, JLayeredPane.PALETTE_LAYER);
+
+            JButton itemButton = new JButton();
+            itemButton.setBounds(x + (SQUARE_SIZE - ITEM_ICON_SIZE) / 2, y + (SQUARE_SIZE - ITEM_ICON_SIZE) / 2, ITEM_ICON_SIZE, ITEM_ICON_SIZE);
+            itemButton.setContentAreaFilled(false);
+            itemButton.setBorderPainted(false);
+            itemButton.setFocusPainted(false);
+            int cell = i;
+            itemButton.addActionListener(e -> useItem.accept(page * CELLS_PER_PAGE + cell));
+            itemButtons[i] = itemButton;
+            add(itemButton, JLayeredPane.MODAL_LAYER);
+
+            JLabel quantityLabel = new JLabel();
+            quantityLabel.setFont(FontRegistry.getFont(12f));
+            quantityLabel.setForeground(Color.BLACK);
+            quantityLabel.setBounds(x + SQUARE_SIZE - 25, y + SQUARE_SIZE - 20, 25, 15);
+            quantityLabels[i] = quantityLabel;
+            add(quantityLabel, JLayeredPane.MODAL_LAYER);
+        }
+
+        // Page arrows, only shown when there is more than one page
+        prevButton = createPageButton("resources/prev_page.png", 62, 224, -1);
+        nextButton = createPageButton("resources/next_page.png", 412, 224, 1);
+
+        setVisible(false);
+    }
+
+
+    /**
+     * Opens the popup listing the given items.
+     *
+     * @param items     The items to list, in the order to show them.
+     * @param icons     Gives the icon to show for an item.
+     * @param quantities Gives the quantity to show for an item, or null to show no quantities.
+     * @param onUse     Called with the item when its cell is clicked.
+     * @param x         The x position of the popup.
+     * @param y         The y position of the popup.
+     * @param <T>       The type of item.
+     */
+    public <T> void open(List<T> items, Function<T, Icon> icons, ToIntFunction<T> quantities, Consumer<T> onUse, int x, int y) {
+        this.items = items;
+        this.iconOf = index -> icons.apply(items.get(index));
+        this.quantityOf = quantities == null ? null : index -> quantities.applyAsInt(items.get(index));
+        this.useItem = index -> onUse.accept(items.get(index));
+        this.page = 0;
+        setLocation(x, y);
+        showPage();
+        setVisible(true);
+    }
+
+
+    /**
+     * Sets what happens when the player closes the popup with the close button.
+     *
+     * @param onClose the action to run
+     */
+    public void setOnClose(Runnable onClose) {
+        this.onClose = onClose;
+    }
+
+
+    /**
+     * Hides the popup.
+     */
+    public void close() {
+        if (isVisible()) {
+            setVisible(false);
+            Container parent = getParent();
+            if (parent != null) {
+                parent.repaint(getX(), getY(), getWidth(), getHeight());
+            }
+        }
+    }
+
+
+    /**
+     * Fills the cells with the items on the current page and shows or hides the page arrows.
+     */
+    private void showPage() {
+        int first = page * CELLS_PER_PAGE;
+        for (int i = 0; i < CELLS_PER_PAGE; i++) {
+            int index = first + i;
+            boolean filled = index < items.size();
+            itemButtons[i].setIcon(filled ? iconOf.apply(index) : null);
+            itemButtons[i].setVisible(filled);
+            quantityLabels[i].setText(filled && quantityOf != null ? "x" + quantityOf.applyAsInt(index) : "");
+        }
+        prevButton.setVisible(page > 0);
+        nextButton.setVisible(first + CELLS_PER_PAGE < items.size());
+    }
+
+
+    /**
+     * Creates a page arrow button.
+     *
+     * @param imagePath The arrow image.
+     * @param x         The x position of the button.
+     * @param y         The y position of the button.
+     * @param direction -1 to go back a page, 1 to go forward.
+     * @return the button
+     */
+    private JButton createPageButton(String imagePath, int x, int y, int direction) {
+        JButton button = new JButton(ImageAssets.getIcon(imagePath));
+        button.setBounds(x, y, 28, 28);
+        button.setContentAreaFilled(false);
+        button.setBorderPainted(false);
+        button.setFocusPainted(false);
+        button.addActionListener(e -> {
+            page += direction;
+            showPage();
+        });
+        add(button, JLayeredPane.MODAL_LAYER);
+        return button;
+    }
+}
@@ -0,0 +1,139 @@
+package src;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+
+/**
+ * The fixed list of every food, toy and gift in the game.
+ *
+ * <p>
+ * The catalog is built once and shared by every {@link Store} and every save loader.
+ * Each item exists exactly once, so an item read from a save is the very same object the
+ * store sells, and looking one up by name never creates anything. The maps are
+ * unmodifiable; prices and descriptions only change here.
+ * </p>
+ *
+ * @author Kamaldeep Ghotra
+ * @author Mohammed Abdulnabi
+ * @version 1.0
+ */
+public final class ItemCatalog {
+    /** The one catalog shared across the game */
+    private static final ItemCatalog SHARED = new ItemCatalog();
+
+    /** Maps to the food item based on ID */
+    private final Map<String, Food> foodMap;
+    /** Maps to the gift item based on ID */
+    private final Map<String, Gifts> giftsMap;
+    /** Maps to the toys item based on ID */
+    private final Map<String, Toys> toysMap;
+
+
+    /**
+     * Builds the catalog with the default food, toy, and gift items.
+     */
+    private ItemCatalog() {
+        /* Load in Default food items */
+        Map<String, Food> food = new HashMap<>();
+        food.put("Orange", new Food("Orange", 50, 5, "A tangy, sweet taste!"));
+        food.put("Bunny Cookie", new Food("Bunny Cookie", 60, 6, "Jumps around in your mouth!"));
+        food.put("Swiss Roll", new Food("Swiss Roll", 200, 20, "Sweet swirls of joy"));
+        food.put("Carrot Cake", new Food("Carrot Cake", 350, 35, "With uncomfortably orange carrot icing"));
+        food.put("Lamb Chop", new Food("Lamb Chop", 1100, 100, "The fanciest bite in town!"));
+        food.put("Chicken", new Food("Chicken",  650,65, "A complete feast for your soul"));
+
+        /* Load in Default toy items */
+        Map<String, Toys> toys = new HashMap<>();
+        toys.put("Wand", new Toys("Wand",199, "For aspiring magicians!"));
+        toys.put("Stuffed Animal", new Toys("Stuffed Animal",299, "Slightly lumpy from all that love!"));
+        toys.put("Unicorn Balloon", new Toys("Unicorn Balloon",349, "Hold on tight so it doesn't fly away!"));
+        toys.put("Fan", new Toys("Fan",249, "Who knew wind could be this fun?"));
+        toys.put("Basketball", new Toys("Basketball",199, "Perfect for indoor slam dunks"));
+        toys.put("Guitar", new Toys("Guitar",299,"Perfect  for shredding... literally!"));
+
+        /* Load in default gifts */
+        Map<String, Gifts> gifts = new HashMap<>();
+        gifts.put("outfit1", new Gifts("outfit1", 3000));
+        gifts.put("outfit2", new Gifts("outfit2", 3000));
+        gifts.put("outfit3", new Gifts("outfit3", 3000));
+
+        foodMap = Collections.unmodifiableMap(food);
+        toysMap = Collections.unmodifiableMap(toys);
+        giftsMap = Collections.unmodifiableMap(gifts);
+    }
+
+
+    /**
+     * Returns the catalog shared across the game.
+     *
+     * @return the shared catalog
+     */
+    public static ItemCatalog getShared() {
+        return SHARED;
+    }
+
+
+    /**
+     * Returns every food item, keyed by name.
+     *
+     * @return an unmodifiable map of food names to Food objects
+     */
+    public Map<String, Food> getAllFood() {
+        return foodMap;
+    }
+
+
+    /**
+     * Returns every toy item, keyed by name.
+     *
+     * @return an unmodifiable map of toy names to Toys objects
+     */
+    public Map<String, Toys> getAllToys() {
+        return toysMap;
+    }
+
+
+    /**
+     * Returns every gift item, keyed by name.
+     *
+     * @return an unmodifiable map of gift names to Gifts objects
+     */
+    public Map<String, Gifts> getAllGifts() {
+        return giftsMap;
+    }
+
+
+    /**
+     * Looks up a food item by name.
+     *
+     * @param name the name of the food
+     * @return the shared Food object, or null if there is none
+     */
+    public Food getFood(String name) {
+        return foodMap.get(name);
+    }
+
+
+    /**
+     * Looks up a toy by name.
+     *
+     * @param name the name of the toy
+     * @return the shared Toys object, or null if there is none
+     */
+    public Toys getToy(String name) {
+        return toysMap.get(name);
+    }
+
+
+    /**
+     * Looks up a gift by name.
+     *
+     * @param name the name of the gift
+     * @return the shared Gifts object, or null if there is none
+     */
+    public Gifts getGift(String name) {
+        return giftsMap.get(name);
+    }
+}
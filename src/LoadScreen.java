@@ -5,6 +5,7 @@ import java.awt.*;
 import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
 import java.io.File;
+import java.util.List;
 import java.util.Objects;
 
 /**
@@ -56,15 +57,13 @@ public class LoadScreen extends JLayeredPane {
         setPreferredSize(new Dimension(1080, 750)); // preferred size matches game window resolution
 
         // Background setup
-        ImageIcon background = new ImageIcon("resources/grid.png");
+        ImageIcon background = ImageAssets.getIcon("resources/grid.png");
         JLabel backgroundLabel = new JLabel(background);
         backgroundLabel.setBounds(0, 0, 1080, 750);
         add(backgroundLabel, Integer.valueOf(0));
 
         // Main load screen overlay
-        ImageIcon fileLoad = new ImageIcon("resources/save_load_screen.png");
-        Image scaledLoad = fileLoad.getImage().getScaledInstance(1080, 750, Image.SCALE_SMOOTH);
-        ImageIcon scaledLoadIcon = new ImageIcon(scaledLoad);
+        ImageIcon scaledLoadIcon = ImageAssets.getScaledIcon("resources/save_load_screen.png", 1080, 750);
         JLabel loadLabel = new JLabel(scaledLoadIcon);
         loadLabel.setBounds(0, 0, 1080, 750);
         add(loadLabel, Integer.valueOf(1)); // Add this layer above the grid background
@@ -72,7 +71,7 @@ public class LoadScreen extends JLayeredPane {
         // "LOAD" text overlay
         JLabel loadText = new JLabel("LOAD");
         loadText.setForeground(Color.WHITE);
-        loadText.setFont(customFont.deriveFont(24f));
+        loadText.setFont(FontRegistry.getFont(24f));
         // Fix the position of the text and set the vertical and horizontal alignments to the centre
         loadText.setBounds(800, 70, 192, 64);
         loadText.setVerticalAlignment(SwingConstants.CENTER);
@@ -104,109 +103,107 @@ public class LoadScreen extends JLayeredPane {
         add(homeText, Integer.valueOf(2));
         add(homeButton, Integer.valueOf(2));
 
-        // Load the save files and display them
-        File[] saveFiles = getSaveFiles();
+        // Get a summary of each save file from the save index (a save is only read in full when chosen)
+        List<SaveSummary> saves = GameDataManager.listSaves(getSaveFiles());
 
         // Create UI elements for each save file (there can only be 3 max)
-        for (int i = 0; i < Math.min(3, saveFiles.length); i++) {
-            final String filePath = saveFiles[i].getAbsolutePath();
-
-            // Load game data from the file path
-            GameData gameData = GameDataManager.loadGame(filePath);
-            if (gameData != null) {
-                // Get the pet name, the health, as well as coins
-                String petName = gameData.getPet().getName();
-                int petHealth = gameData.getPet().getHealth();
-                int playerCoins = gameData.getInventory().getPlayerCoins();
-
-                // Create a scaled version of the default load button
-                ImageIcon defaultIcon = scaleImageIcon(BUTTON_IMG, 798, 138);
-
-                // Determine the type of pet and display a specific icon depending on the type
-                String petIconLocation = "";
-                if (Objects.equals(gameData.getPet().getPetType(), "PetOption1")){
-                    petIconLocation = "resources/PetOption1Icon.PNG";
-                } else if (Objects.equals(gameData.getPet().getPetType(), "PetOption2")){
-                    petIconLocation = "resources/PetOption2Icon.PNG";
-                } else {
-                    petIconLocation = "resources/PetOption3Icon.PNG";
-                }
+        for (int i = 0; i < Math.min(3, saves.size()); i++) {
+            SaveSummary summary = saves.get(i);
+            final String filePath = summary.getFile().getAbsolutePath();
+
+            // Get the pet name, the health, as well as coins
+            String petName = summary.getPetName();
+            int petHealth = summary.getHealth();
+            int playerCoins = summary.getCoins();
+
+            // Create a scaled version of the default load button
+            ImageIcon defaultIcon = scaleImageIcon(BUTTON_IMG, 798, 138);
+
+            // Determine the type of pet and display a specific icon depending on the type
+            String petIconLocation = "";
+            if (Objects.equals(summary.getPetType(), "PetOption1")){
+                petIconLocation = "resources/PetOption1Icon.PNG";
+            } else if (Objects.equals(summary.getPetType(), "PetOption2")){
+                petIconLocation = "resources/PetOption2Icon.PNG";
+            } else {
+                petIconLocation = "resources/PetOption3Icon.PNG";
+            }
 
-                // Create, scale, and position the icon
-                ImageIcon petIcon = scaleImageIcon(petIconLocation, 220, 200);
-                JLabel petIconLabel = new JLabel(petIcon);
-                petIconLabel.setBounds(100, 135 + (i * 170), 200, 200);
-                add(petIconLabel, Integer.valueOf(3));
-
-                // Create interactive save file button
-                final JButton saveButton = new JButton(defaultIcon);
-                saveButton.setBounds(141, 174 + (i * 170), 798, 138);
-                saveButton.setBorderPainted(false);
-                saveButton.setContentAreaFilled(false);
-                saveButton.setFocusPainted(false);
-
-                // Add a click handler in order to load saves
-                saveButton.addMouseListener(new MouseAdapter() {
-                    @Override
-                    public void mouseClicked(MouseEvent e) {
-                        // Play sound effect
-                        MusicPlayer.playSoundEffect("resources/button_clicked.wav");
-                        if (!MainScreen.getParentalControl().isPlayAllowedNow()) {
-                            // Check the parental control screen
-                            showStyledDialog("Playtime Restricted",
-                                    "Playtime is currently restricted.\nPlease try again during allowed hours.");
-                            return;
-                        }
-
-                        // Load and switch to game if successful
-                        GameData loadedGame = GameDataManager.loadGame(filePath);
-                        if (loadedGame != null) {
-                            switchToInGameScreen(loadedGame, filePath);
-                        }
+            // Create, scale, and position the icon
+            ImageIcon petIcon = scaleImageIcon(petIconLocation, 220, 200);
+            JLabel petIconLabel = new JLabel(petIcon);
+            petIconLabel.setBounds(100, 135 + (i * 170), 200, 200);
+            add(petIconLabel, Integer.valueOf(3));
+
+            // Create interactive save file button
+            final JButton saveButton = new JButton(defaultIcon);
+            saveButton.setBounds(141, 174 + (i * 170), 798, 138);
+            saveButton.setBorderPainted(false);
+            saveButton.setContentAreaFilled(false);
+            saveButton.setFocusPainted(false);
+
+            // Add a click handler in order to load saves
+            saveButton.addMouseListener(new MouseAdapter() {
+                @Override
+                public void mouseClicked(MouseEvent e) {
+                    // Play sound effect
+                    MusicPlayer.playSoundEffect("resources/button_clicked.wav");
+                    if (!MainScreen.getParentalControl().isPlayAllowedNow()) {
+                        // Check the parental control screen
+                        showStyledDialog("Playtime Restricted",
+                                "Playtime is currently restricted.\nPlease try again during allowed hours.");
+                        return;
                     }
-                });
-
-                add(saveButton, Integer.valueOf(2));
-
-                // Create a panel for pet stats to display
-                JPanel labelPanel = new JPanel(new GridBagLayout());
-                labelPanel.setOpaque(false);
-                labelPanel.setBounds(saveButton.getBounds());
-
-                // Create a new GridBagConstrains to control the component layout
-                GridBagConstraints gbc = new GridBagConstraints();
-                gbc.gridx = 0;
-                gbc.gridy = GridBagConstraints.RELATIVE;
-                gbc.anchor = GridBagConstraints.CENTER;
-                gbc.insets = new Insets(2, 0, 2, 0);
-
-                // Pet name label
-                JLabel nameLabel = new JLabel(petName);
-                nameLabel.setFont(customFont.deriveFont(Font.BOLD, 20f));
-                nameLabel.setForeground(Color.decode("#7392B2"));
-
-                // Pet health stats label
-                JLabel healthLabel = new JLabel("Health: " + petHealth);
-                healthLabel.setFont(customFont.deriveFont(16f));
-                healthLabel.setForeground(Color.BLACK);
-
-                // Coin amount label
-                JLabel coinsLabel = new JLabel("Coins: " + playerCoins);
-                coinsLabel.setFont(customFont.deriveFont(16f));
-                coinsLabel.setForeground(Color.BLACK);
-
-                // Add all labels to the panel
-                labelPanel.add(nameLabel, gbc);
-                labelPanel.add(healthLabel, gbc);
-                labelPanel.add(coinsLabel, gbc);
-
-                add(labelPanel, Integer.valueOf(3));
-            }
+
+                    // Load and switch to game if successful
+                    GameData loadedGame = GameDataManager.loadGame(filePath);
+                    if (loadedGame != null) {
+                        switchToInGameScreen(loadedGame, filePath);
+                    }
+                }
+            });
+
+            add(saveButton, Integer.valueOf(2));
+
+            // Create a panel for pet stats to display
+            JPanel labelPanel = new JPanel(new GridBagLayout());
+            labelPanel.setOpaque(false);
+            labelPanel.setBounds(saveButton.getBounds());
+
+            // Create a new GridBagConstrains to control the component layout
+            GridBagConstraints gbc = new GridBagConstraints();
+            gbc.gridx = 0;
+            gbc.gridy = GridBagConstraints.RELATIVE;
+            gbc.anchor = GridBagConstraints.CENTER;
+            gbc.insets = new Insets(2, 0, 2, 0);
+
+            // Pet name label
+            JLabel nameLabel = new JLabel(petName);
+            nameLabel.setFont(FontRegistry.getFont(Font.BOLD, 20f));
+            nameLabel.setForeground(Color.decode("#7392B2"));
+
+            // Pet health stats label
+            JLabel healthLabel = new JLabel("Health: " + petHealth);
+            healthLabel.setFont(FontRegistry.getFont(16f));
+            healthLabel.setForeground(Color.BLACK);
+
+            // Coin amount label
+            JLabel coinsLabel = new JLabel("Coins: " + playerCoins);
+            coinsLabel.setFont(FontRegistry.getFont(16f));
+            coinsLabel.setForeground(Color.BLACK);
+
+            // Add all labels to the panel
+            labelPanel.add(nameLabel, gbc);
+            labelPanel.add(healthLabel, gbc);
+            labelPanel.add(coinsLabel, gbc);
+
+            add(labelPanel, Integer.valueOf(3));
         }
     }
 
     /**
-     * Helper method used to scale an image icon to specified dimensions
+     * Helper method used to scale an image icon to specified dimensions.
+     * Scaled icons are cached by {@link ImageAssets}, so rebuilding the screen does not scale again.
      *
      * @param path file path to the original image
      * @param width desired output width
@@ -215,10 +212,8 @@ public class LoadScreen extends JLayeredPane {
      * @author Mohammed Abdulnabi
      */
     private ImageIcon scaleImageIcon(String path, int width, int height) {
-        // Get the image from the specified path and scale it
-        ImageIcon icon = new ImageIcon(path);
-        Image img = icon.getImage().getScaledInstance(width, height, Image.SCALE_SMOOTH);
-        return new ImageIcon(img);
+        // Get the image from the specified path, scaled
+        return ImageAssets.getScaledIcon(path, width, height);
     }
 
     /**
@@ -230,7 +225,7 @@ public class LoadScreen extends JLayeredPane {
     private File[] getSaveFiles() {
         File dir = new File(SAVE_DIR);
         if (dir.exists() && dir.isDirectory()) {
-            return dir.listFiles((dir1, name) -> name.endsWith(".json"));
+            return dir.listFiles((dir1, name) -> GameDataManager.isSaveFileName(name));
         }
         return new File[0];
     }
@@ -243,9 +238,7 @@ public class LoadScreen extends JLayeredPane {
      * @author Mohammed Abdulnabi
      */
     private void switchToInGameScreen(GameData gameData, String filePath) {
-        InGameScreen inGameScreen = new InGameScreen(customFont, cardLayout, mainPanel, gameData, filePath);
-        mainPanel.add(inGameScreen, "InGameScreen");
-        cardLayout.show(mainPanel, "InGameScreen");
+        MainScreen.showInGameScreen(gameData, filePath);
     }
 
     /**
@@ -278,7 +271,7 @@ public class LoadScreen extends JLayeredPane {
 
         // Create a dropdown that contains all the save files
         JComboBox<String> saveComboBox = new JComboBox<>(saveNames);
-        saveComboBox.setFont(customFont.deriveFont(14f));
+        saveComboBox.setFont(FontRegistry.getFont(14f));
         panel.add(saveComboBox, BorderLayout.SOUTH);
 
         // Show the different options of the save files
@@ -308,7 +301,7 @@ public class LoadScreen extends JLayeredPane {
 
         // Create a confirmation button
         JButton yesButton = new JButton("Yes");
-        yesButton.setFont(customFont.deriveFont(Font.BOLD, 14f));
+        yesButton.setFont(FontRegistry.getFont(Font.BOLD, 14f));
         yesButton.setBackground(new Color(52, 152, 219));
         yesButton.setForeground(Color.WHITE);
         yesButton.setFocusPainted(false);
@@ -316,7 +309,7 @@ public class LoadScreen extends JLayeredPane {
 
         // Create a no confirmation button
         JButton noButton = new JButton("No");
-        noButton.setFont(customFont.deriveFont(Font.BOLD, 14f));
+        noButton.setFont(FontRegistry.getFont(Font.BOLD, 14f));
         noButton.setBackground(new Color(231, 76, 60));
         noButton.setForeground(Color.WHITE);
         noButton.setFocusPainted(false);
@@ -377,7 +370,7 @@ public class LoadScreen extends JLayeredPane {
 
         // Create an OK button with the specific font and what it does
         JButton okButton = new JButton("OK");
-        okButton.setFont(customFont.deriveFont(Font.BOLD, 14f));
+        okButton.setFont(FontRegistry.getFont(Font.BOLD, 14f));
         okButton.setBackground(new Color(52, 152, 219));
         okButton.setForeground(Color.WHITE);
         okButton.setFocusPainted(false);
@@ -409,17 +402,8 @@ public class LoadScreen extends JLayeredPane {
      * @author Kamaldeep Ghorta
      */
     private void refreshLoadScreen() {
-        // remove the current instance
-        mainPanel.remove(this);
-
-        // Create a new instance
-        LoadScreen newLoadScreen = new LoadScreen(customFont, mainPanel, cardLayout);
-
-        // add the new load screen into the panel
-        mainPanel.add(newLoadScreen, "LoadScreen");
-
-        // Switch to the updated LoadScreen
-        cardLayout.show(mainPanel, "LoadScreen");
+        // Release this instance and switch to a newly built LoadScreen
+        MainScreen.reloadScreen("Load");
 
         // Force the UI to update
         mainPanel.revalidate();
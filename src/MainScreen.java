@@ -1,15 +1,12 @@
 package src;
 
-import javax.sound.sampled.*;
 import javax.swing.*;
 import java.awt.*;
 import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
 import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
-import java.io.BufferedInputStream;
-import java.io.IOException;
-import java.io.InputStream;
+import java.util.concurrent.TimeUnit;
 
 /**
  * The {@code MainScreen} class represents the entry point for the game.
@@ -39,30 +36,40 @@ public class MainScreen extends JFrame {
     private static CardLayout cardLayout;
     /** Main container panel that holds all the screens */
     private static JPanel mainPanel;
+    /** Builds and caches the screens shown in the main panel */
+    private static ScreenManager screens;
     /** Custom font used throughout the entire class */
     private static Font customFont;
     /** Label for the password popup (parental controls) */
     private static JLabel passwordLabel;
     /** Overlay for dialogs */
     private static JLabel overlayLabel;
-    /** Reference to tutorial screen instance */
-    private static TutorialScreen tutorialScreen;
     /** Parental control manager instance */
     private static ParentalControl parentalControl;
-    /** Reference to parental control screen instance */
-    private static ParentalControlScreen parentalControlScreen;
-    /** Sound clip for button click sound effect*/
-    private static Clip buttonClickSound;
     /** Current game screen instance */
     private static InGameScreen inGameScreen;
+    /** Store screen, shares the game data of the current game screen */
+    private static StoreScreen storeScreen;
+    /** Images the home screen shows, loaded before it appears */
+    private static final String[] HOME_SCREEN_IMAGES = {
+            "resources/grid.png", "resources/windowsicon.png", "resources/MainScreenImg.png",
+            "resources/opacity.png", "resources/button.png", "resources/button_clicked.png",
+            "resources/white_button.png", "resources/white_button_clicked.png",
+            "resources/save.png", "resources/save_clicked.png", "resources/Speaker-Crossed.png",
+            "resources/Purple.png"
+    };
+    /** Full-screen backgrounds that other screens show scaled to the window size */
+    private static final String[] SCALED_BACKGROUNDS = {
+            "resources/new_game.png", "resources/save_load_screen.png", "resources/ingamescreen.png"
+    };
 
     /**
      * Constructs the main application window and initializes all components.
      * Performs the following setup:
      * 1. Loads custom font
-     * 2. Initializes sound effects
-     * 3. Sets up background music
-     * 4. Creates all game screens
+     * 2. Sets up background music
+     * 3. Preloads all images while showing a loading bar
+     * 4. Registers the game screens, which are built when first shown
      * 5. Configures window properties
      *
      * @author Aya Abdulnabi
@@ -70,78 +77,98 @@ public class MainScreen extends JFrame {
      * @author Kamaldeep Ghotra
      */
     MainScreen() {
-        // Try-catch statement in order to load the font
-        try {
-            InputStream fontStream = getClass().getResourceAsStream("/Early GameBoy.ttf");
-            if (fontStream == null) {
-                throw new IOException("Font file not found!"); // Error message thrown if font not found
-            }
-            customFont = Font.createFont(Font.TRUETYPE_FONT, fontStream).deriveFont(16f);
-        } catch (IOException | FontFormatException e) {
-            e.printStackTrace();
-            // if font fails to load, fallback to default
-            customFont = new Font("Arial", Font.PLAIN, 24); // Fallback font
-        }
+        // Load the font (parsed once and shared by every screen)
+        customFont = FontRegistry.getDefaultFont();
 
-        // Try-catch statement to load in the button-click sound effect
-        try {
-            InputStream soundStream = getClass().getResourceAsStream("/button_clicked.wav");
-            if (soundStream != null) {
-                AudioInputStream audioInputStream = AudioSystem.getAudioInputStream(new BufferedInputStream(soundStream));
-                buttonClickSound = AudioSystem.getClip();
-                buttonClickSound.open(audioInputStream);
-            }
-        } catch (UnsupportedAudioFileException | IOException | LineUnavailableException e) {
-            e.printStackTrace();
-            System.out.println("Could not load button click sound");
-        }
 
+        // Publish the audio stats (JMX, and a log line if asked for) before any sound plays
+        AudioStats.install();
 
         // Background music player
         MusicPlayer.playBackgroundMusic("background_music.wav");
         MusicPlayer.setVolume(0.2f);
 
+        // Decode the sound effects in the background, so the first click doesn't wait on a file
+        MusicPlayer.preloadSoundEffects("button_clicked.wav", "resources/button_clicked.wav",
+                "eating_sound.wav", "play_sound.wav", "resources/exercise_sound.wav",
+                "resources/heal_sound.wav", "resources/error_button_sound.wav");
+
         // Window configuration
         this.setTitle("Virtual Pet");
         this.setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
         this.setResizable(false);
         this.setSize(1080, 750);
 
+        // Load the home screen's images on worker threads while a loading bar is shown;
+        // every other screen loads its images when it is first built
+        showLoadingProgress(AssetPreloader.start(HOME_SCREEN_IMAGES));
+
+        // Then scale the full-screen backgrounds in the background at the size they are shown,
+        // without keeping their 2000x1389 originals
+        AssetPreloader.startScaled(1080, 750, SCALED_BACKGROUNDS);
+
         // Screen management setup
         cardLayout = new CardLayout();
         mainPanel = new JPanel(cardLayout);
 
-        // Creation of the actual screens
-        JLayeredPane homeScreen = createMainScreen();
-        tutorialScreen = new TutorialScreen(customFont);
-        JLayeredPane newGameScreen = new NewGameScreen(customFont, cardLayout, mainPanel);
-        JLayeredPane loadScreen = new LoadScreen(customFont, mainPanel, cardLayout);
-        JLayeredPane creditScreen = new CreditScreen(customFont, cardLayout, mainPanel);
-        Store store = GameDataManager.getSharedStore();
-
-        // Adding the screens to the main panel
-        mainPanel.add(homeScreen, "Home");
-        mainPanel.add(tutorialScreen, "Tutorial");
-        mainPanel.add(newGameScreen, "New Game");
-        mainPanel.add(creditScreen, "Credit");
-
         // Parental control setup
         parentalControl = GameDataManager.loadParentalControlSettings();
-        parentalControlScreen = new ParentalControlScreen(customFont, cardLayout, mainPanel, parentalControl);
-        mainPanel.add(parentalControlScreen, "ParentalControlScreen");
-        mainPanel.add(parentalControlScreen, "ParentalControlScreen");
+
+        // Register the screens, each one is built the first time it is shown
+        screens = new ScreenManager(mainPanel, cardLayout, ScreenManager.DEFAULT_CACHE_SIZE);
+        screens.registerPinned("Home", MainScreen::createMainScreen);
+        screens.register("Tutorial", () -> new TutorialScreen(customFont));
+        screens.register("New Game", () -> new NewGameScreen(customFont, cardLayout, mainPanel));
+        screens.register("Load", () -> new LoadScreen(customFont, mainPanel, cardLayout));
+        screens.register("Credit", () -> new CreditScreen(customFont, cardLayout, mainPanel));
+        screens.register("ParentalControlScreen", () -> new ParentalControlScreen(customFont, cardLayout, mainPanel, parentalControl));
         this.add(mainPanel);
 
         // Show the home screen by default
-        cardLayout.show(mainPanel, "Home");
+        screens.show("Home");
 
         // Setting up the window icon
-        ImageIcon iconImage = new ImageIcon("resources/Purple.png");
+        ImageIcon iconImage = ImageAssets.getIcon("resources/Purple.png");
         this.setIconImage(iconImage.getImage());
 
         this.setVisible(true);
     }
 
+    /**
+     * Shows a loading bar in the window until the preloader has loaded its images.
+     * Called from the startup thread, so the window keeps painting while it waits.
+     *
+     * @param preloader the running image preloader
+     */
+    private void showLoadingProgress(AssetPreloader preloader) {
+        JPanel loadingPanel = new JPanel(null);
+        loadingPanel.setBackground(Color.BLACK);
+
+        JLabel loadingLabel = new JLabel("LOADING...", SwingConstants.CENTER);
+        loadingLabel.setFont(customFont);
+        loadingLabel.setForeground(Color.WHITE);
+        loadingLabel.setBounds(340, 300, 400, 40);
+        loadingPanel.add(loadingLabel);
+
+        JProgressBar progressBar = new JProgressBar(0, Math.max(preloader.getTotal(), 1));
+        progressBar.setBounds(340, 350, 400, 24);
+        loadingPanel.add(progressBar);
+
+        this.add(loadingPanel);
+        this.setVisible(true);
+
+        try {
+            // Update the bar every 50 ms until every image is loaded
+            while (!preloader.awaitDone(50, TimeUnit.MILLISECONDS)) {
+                int completed = preloader.getCompleted();
+                SwingUtilities.invokeLater(() -> progressBar.setValue(completed));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        this.remove(loadingPanel);
+    }
+
     /**
      * Creates a button with specified images + sounds
      *
@@ -157,8 +184,8 @@ public class MainScreen extends JFrame {
      */
     public static JButton buttonCreate(int x, int y, int width, int height, String defaultImageSource, String pressedImageSource, String location) {
         // Load the default image and the image when pressed
-        ImageIcon defaultImage = new ImageIcon(defaultImageSource);
-        ImageIcon pressedImage = new ImageIcon(pressedImageSource);
+        ImageIcon defaultImage = ImageAssets.getIcon(defaultImageSource);
+        ImageIcon pressedImage = ImageAssets.getIcon(pressedImageSource);
         JButton buttonLabel = new JButton(defaultImage);
         buttonLabel.setBounds(x, y, width, height);
 
@@ -188,21 +215,11 @@ public class MainScreen extends JFrame {
             public void actionPerformed(ActionEvent e) {
                 MusicPlayer.playSoundEffect("button_clicked.wav");
                 if (location.equals("Load")) {
-                    // Refresh load screen
-                    Component[] components = mainPanel.getComponents();
-                    for (int i = 0; i < components.length; i++) {
-                        if (components[i] instanceof LoadScreen) {
-                            mainPanel.remove(components[i]);
-                            break;
-                        }
-                    }
-
                     // Rebuild LoadScreen with updated data
-                    JLayeredPane refreshedLoadScreen = new LoadScreen(customFont, mainPanel, cardLayout);
-                    mainPanel.add(refreshedLoadScreen, "Load");
+                    screens.reload("Load");
                 }
 
-                cardLayout.show(mainPanel, location);
+                screens.show(location);
             }
         });
 
@@ -245,20 +262,19 @@ public class MainScreen extends JFrame {
 
 
         // Set up the background for the main screen
-        ImageIcon background = new ImageIcon("resources/grid.png");
+        ImageIcon background = ImageAssets.getIcon("resources/grid.png");
         JLabel backgroundLabel = new JLabel(background);
         backgroundLabel.setBounds(0, 0, 1080, 750);
         layeredPane.add(backgroundLabel, Integer.valueOf(0));
 
         // Main artwork
-        ImageIcon windowsImage = new ImageIcon("resources/windowsicon.png");
+        ImageIcon windowsImage = ImageAssets.getIcon("resources/windowsicon.png");
         int width = windowsImage.getIconWidth() + 100;
         int height = windowsImage.getIconHeight() + 100;
-        Image scaledWindow = windowsImage.getImage().getScaledInstance(width, height, Image.SCALE_SMOOTH);
-        ImageIcon windowIcon = new ImageIcon(scaledWindow);
+        ImageIcon windowIcon = ImageAssets.getScaledIcon("resources/windowsicon.png", width, height);
 
         // Sprites displayed on the screen
-        ImageIcon main_art = new ImageIcon("resources/MainScreenImg.png");
+        ImageIcon main_art = ImageAssets.getIcon("resources/MainScreenImg.png");
         JLabel artLabel = new JLabel(main_art);
         artLabel.setBounds(512, 127, main_art.getIconWidth(), main_art.getIconHeight()); // Set proper x,y coordinates
         layeredPane.add(artLabel, Integer.valueOf(2));
@@ -267,7 +283,7 @@ public class MainScreen extends JFrame {
         layeredPane.add(windowsLabel, Integer.valueOf(1));
 
         // Overlay setup so when password popup is on screen, everything behind it becomes less clear
-        ImageIcon overlayImage = new ImageIcon("resources/opacity.png");
+        ImageIcon overlayImage = ImageAssets.getIcon("resources/opacity.png");
         overlayLabel = new JLabel(overlayImage);
         overlayLabel.setBounds(0, 0, 1080, 750);
         overlayLabel.setVisible(false);
@@ -275,8 +291,7 @@ public class MainScreen extends JFrame {
 
         // Button creation for each screen and styling
         JButton tutorialButton = buttonCreate(240, 430, 192, 64, "resources/button.png", "resources/button_clicked.png", "Tutorial");
-        tutorialButton.addActionListener(e -> tutorialScreen.resetToGiveGift());
-        cardLayout.show(mainPanel, "Tutorial");
+        tutorialButton.addActionListener(e -> ((TutorialScreen) screens.get("Tutorial")).resetToGiveGift());
         JLabel tutorialLabel = buttonText("Tutorial", 270, 430, 192, 64);
         layeredPane.add(tutorialLabel, Integer.valueOf(2));
         layeredPane.add(tutorialButton, Integer.valueOf(2));
@@ -300,7 +315,7 @@ public class MainScreen extends JFrame {
         JButton parentalControlButton = buttonCreate(850, 620, 192, 64, "resources/button.png", "resources/button_clicked.png", "");
         parentalControlButton.addActionListener(e -> showPasswordPopup(layeredPane));
         JLabel homeText = new JLabel("PARENTAL CONTROL");
-        homeText.setFont(customFont.deriveFont(11f));
+        homeText.setFont(FontRegistry.getFont(11f));
         homeText.setForeground(Color.WHITE);
         homeText.setBounds(850,620,192,64);
         homeText.setHorizontalAlignment(SwingConstants.CENTER);
@@ -311,24 +326,22 @@ public class MainScreen extends JFrame {
         // Password UI elements
         JLabel passwordTextLabel = new JLabel("ENTER PASSWORD");
         passwordTextLabel.setFont(customFont);
-        passwordTextLabel.setFont(customFont.deriveFont(23f));
+        passwordTextLabel.setFont(FontRegistry.getFont(23f));
         passwordTextLabel.setForeground(Color.BLACK); // Set text color
         passwordTextLabel.setBounds(380, 290, 800, 30);
         passwordTextLabel.setVisible(false); // Initially hidden
         layeredPane.add(passwordTextLabel, Integer.valueOf(4));
-        ImageIcon passwordIcon = new ImageIcon("resources/password_popup.png");
         int desiredWidth = 1000;
         int desiredHeight = 664;
 
-        Image scaledPassword = passwordIcon.getImage().getScaledInstance(desiredWidth, desiredHeight, Image.SCALE_SMOOTH);
-        passwordLabel = new JLabel(new ImageIcon(scaledPassword));
+        passwordLabel = new JLabel(ImageAssets.getScaledIcon("resources/password_popup.png", desiredWidth, desiredHeight));
         passwordLabel.setBounds(20, 66, desiredWidth, desiredHeight);
         passwordLabel.setVisible(false);
         layeredPane.add(passwordLabel, Integer.valueOf(3));
 
         // Music toggle button
         JButton musicToggle = MainScreen.buttonCreate(20, 15, 50, 50, "resources/save.png", "resources/save_clicked.png", "");
-        ImageIcon musicIcon = new ImageIcon("resources/Speaker-Crossed.png");
+        ImageIcon musicIcon = ImageAssets.getIcon("resources/Speaker-Crossed.png");
         JLabel musicLabel = new JLabel(musicIcon);
 
         // Position the icon centered on the button (adjust these values as needed)
@@ -416,9 +429,8 @@ public class MainScreen extends JFrame {
 
             // Verify if the password matches the one already set up
             if (parentalControl.authenticate(enteredPassword)) {
+                screens.show("ParentalControlScreen");
                 MainScreen.updateParentalStatLabels();
-
-                cardLayout.show(mainPanel, "ParentalControlScreen");
             } else {
                 JOptionPane.showMessageDialog(parentPane, "Incorrect password!", "Access Denied", JOptionPane.ERROR_MESSAGE);
             }
@@ -453,12 +465,24 @@ public class MainScreen extends JFrame {
      *
      */
     public static void updateParentalStatLabels() {
-        if (parentalControlScreen != null) {
-            parentalControlScreen.updateStatLabels();
+        if (screens.isBuilt("ParentalControlScreen")) {
+            ((ParentalControlScreen) screens.get("ParentalControlScreen")).updateStatLabels();
         }
     }
 
 
+    /**
+     * Throws away a screen and shows a freshly built one in its place,
+     * e.g. to show the load screen again after a save was deleted.
+     *
+     * @param name The card name of the screen
+     */
+    public static void reloadScreen(String name) {
+        screens.reload(name);
+        screens.show(name);
+    }
+
+
     /**
      * Transitions to the game screen with the specified game data.
      *
@@ -467,35 +491,21 @@ public class MainScreen extends JFrame {
      *
      */
     public static void showInGameScreen(GameData gameData, String saveFilePath) {
-        // Remove existing in game screen
-        Component[] components = mainPanel.getComponents();
-        for (int i = 0; i < components.length; i++) {
-            if (components[i] instanceof InGameScreen) {
-                mainPanel.remove(components[i]);
-                break;
-            }
-        }
-
-        // Create a new InGameScreen adn add it
-        inGameScreen = new InGameScreen(customFont, cardLayout, mainPanel, gameData, saveFilePath);
-        mainPanel.add(inGameScreen, "InGame");
-
-        // Initialize the store screen
-        Store store = GameDataManager.getSharedStore();
-        JLayeredPane shopScreen = new StoreScreen(customFont, cardLayout, mainPanel, store, gameData,saveFilePath);
-
-        // Remove existing shop screen
-        components = mainPanel.getComponents();
-        for (int i = 0; i < components.length; i++) {
-            if (components[i] instanceof StoreScreen) {
-                mainPanel.remove(components[i]);
-                break;
-            }
+        // The first game builds the InGame and Shop screens, later games reuse them
+        if (inGameScreen == null) {
+            inGameScreen = new InGameScreen(customFont, cardLayout, mainPanel, gameData, saveFilePath);
+            screens.add("InGame", inGameScreen);
+
+            Store store = GameDataManager.getSharedStore();
+            storeScreen = new StoreScreen(customFont, cardLayout, mainPanel, store, gameData, saveFilePath);
+            screens.add("Shop", storeScreen);
+        } else {
+            inGameScreen.rebind(gameData, saveFilePath);
+            storeScreen.rebind(gameData, saveFilePath);
         }
 
-        mainPanel.add(shopScreen, "Shop");
         // Switch to InGame screen
-        cardLayout.show(mainPanel, "InGame");
+        screens.show("InGame");
         inGameScreen.refreshCoinDisplay();
     }
 
@@ -1,12 +1,10 @@
 package src;
 
-import javax.sound.sampled.*;
-import java.io.BufferedInputStream;
 import java.io.File;
-import java.io.IOException;
 import java.io.InputStream;
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * The {@code MusicPlayer} class manages all audios played throughout the game
@@ -14,14 +12,14 @@ import java.util.Map;
  *
  * <p>Key features include:
  * <ul>
- *   <li>Background music playback with looping</li>
- *   <li>Sound effect management with caching</li>
+ *   <li>Background music streamed from its file with gapless looping</li>
+ *   <li>Sound effects decoded once (ahead of time if preloaded) and mixed through one audio line</li>
  *   <li>Independent volume control for music and SFX</li>
  *   <li>Audio resource loading from classpath</li>
  * </ul>
  *
- * <p>This class integrates {@link Clip} for audio playback and
- * {@link FloatControl} to adjust the audio.
+ * <p>This class plays everything through the shared {@link AudioMixer}:
+ * sound effects as decoded {@link SoundBuffer}s and the music as a {@link MusicStream}.
  *
  * AI WAS USED IN ORDER TO HELP DEBUG + HELP LEARN MORE ABOUT THE CLASSES IT USES
  * @author Aya Abdulnabi
@@ -29,98 +27,126 @@ import java.util.Map;
  * @version 1.0
  */
 public class MusicPlayer {
-    /** Clip instance to for background music playback */
-    private static Clip backgroundMusic;
+    /** Stream playing the background music */
+    private static MusicStream backgroundMusic;
     /** Flag to indicate if background music is playing or not */
     private static boolean isPlaying = false;
     /** Float used to adjust the volume of the background music */
     private static float volume = 0.1f;
     /** Float used to adjust the volume of sound effects*/
-    private static float sfxVolume = 0.1f;
-    /** Cache for loaded sounds and reloading */
-    private static Map<String, Clip> soundEffects = new HashMap<>();
+    private static volatile float sfxVolume = 0.1f;
+    /** Highest sound effect volume, which plays an effect at the volume of its file */
+    private static final float MAX_SFX_VOLUME = 0.5f;
+    /** Cache for decoded sounds, so each file is only decoded once (shared with the preloader) */
+    private static final Map<String, SoundBuffer> soundEffects = new ConcurrentHashMap<>();
 
     /**
      * Plays background music from the specified file path, it stops
      * any currently playing music before starting new track.
+     * The file is streamed a little at a time and loops without a gap.
      *
      * @param filePath Path to the audio file
      */
     public static void playBackgroundMusic(String filePath) {
-        try {
-            // Stop if already existing music is playing
-            if (backgroundMusic != null && backgroundMusic.isRunning()) {
-                backgroundMusic.stop();
-            }
-
-            // Load audio from the file path if found
-            InputStream raw = MusicPlayer.class.getResourceAsStream("/" + filePath);
-            if (raw == null) {
-                System.out.println("Background music file not found: " + filePath);
-                return;
-            }
-            // Set up audio stream and clip
-            BufferedInputStream buffered = new BufferedInputStream(raw);
-            AudioInputStream audioInputStream = AudioSystem.getAudioInputStream(buffered);
-            backgroundMusic = AudioSystem.getClip();
-            backgroundMusic.open(audioInputStream);
-
-            // Set the volume, continously loop and let it play
-            setVolume(volume);
-            backgroundMusic.loop(Clip.LOOP_CONTINUOUSLY);
-            isPlaying = true;
+        // Stop if already existing music is playing
+        if (backgroundMusic != null) {
+            backgroundMusic.close();
+        }
 
-        } catch (UnsupportedAudioFileException | IOException | LineUnavailableException e) {
-            System.out.println("Unable to play background music: " + e.getMessage());
+        // Check the music is there before starting a reader for it
+        if (MusicPlayer.class.getResource("/" + filePath) == null) {
+            System.out.println("Background music file not found: " + filePath);
+            backgroundMusic = null;
+            isPlaying = false;
+            return;
         }
+
+        // Set the volume, continously loop and let it play
+        backgroundMusic = new MusicStream(filePath, AudioMixer.getShared());
+        setVolume(volume);
+        backgroundMusic.start();
+        isPlaying = true;
     }
 
     /**
-     * Plays a sound effect from the specified file path
+     * Plays a sound effect from the specified file path at the current
+     * sound effect volume. The file is decoded the first time it is needed
+     * (unless it was preloaded), and then played from memory by the
+     * shared {@link AudioMixer}, so several effects can overlap.
      *
      * @param filePath Path to the sound effect file
      *
      */
     public static void playSoundEffect(String filePath) {
-        try {
-            // Check to see if sound effect is already cached or not
-            Clip clip = soundEffects.get(filePath);
+        long triggered = System.nanoTime();
+        // Check to see if sound effect is already cached, decode it if not
+        SoundBuffer sound = soundEffects.computeIfAbsent(filePath, MusicPlayer::loadSoundEffect);
+        if (sound == null) {
+            return;
+        }
 
-            if (clip == null) {
-                // Load new sound effect from the file path
-                InputStream raw = MusicPlayer.class.getResourceAsStream("/" + filePath);
-                if (raw == null) {
-                    System.out.println("Sound not found: " + filePath);
-                    return;
-                }
-                // Set up audio stream and clip
-                BufferedInputStream buffered = new BufferedInputStream(raw);
-                AudioInputStream audioInputStream = AudioSystem.getAudioInputStream(buffered);
-                clip = AudioSystem.getClip();
-                clip.open(audioInputStream);
+        // Play from beginning, scaled so the max sfx volume is the file's own volume
+        AudioMixer.getShared().play(sound, sfxVolume / MAX_SFX_VOLUME, triggered);
 
-                // Cache it for reuse
-                soundEffects.put(filePath, clip);
-            }
+        // Time the caller (usually the EDT) was held up, including any decoding or line opening
+        AudioStats.get().recordTrigger(System.nanoTime() - triggered);
+    }
 
-            // Play from beginning
-            clip.setFramePosition(0);
-            clip.start();
+    /**
+     * Decodes sound effects into the cache on a background thread, so playing
+     * them later doesn't have to wait for the file to be read. Effects that
+     * are already cached are skipped.
+     *
+     * @param filePaths Paths to the sound effect files
+     * @return a future that completes once every effect has been decoded
+     *
+     */
+    public static CompletableFuture<Void> preloadSoundEffects(String... filePaths) {
+        CompletableFuture<Void> done = new CompletableFuture<>();
+        Thread preloader = new Thread(() -> {
+            for (String filePath : filePaths) {
+                soundEffects.computeIfAbsent(filePath, MusicPlayer::loadSoundEffect);
+            }
+            done.complete(null);
+        }, "sfx-preloader");
+        preloader.setDaemon(true);
+        preloader.start();
+        return done;
+    }
 
+    /**
+     * Decodes a sound effect from the classpath.
+     *
+     * @param filePath Path to the sound effect file
+     * @return the decoded sound, or null if it could not be loaded
+     *
+     */
+    private static SoundBuffer loadSoundEffect(String filePath) {
+        InputStream raw = MusicPlayer.class.getResourceAsStream("/" + filePath);
+        if (raw == null) {
+            System.out.println("Sound not found: " + filePath);
+            return null;
+        }
+        long decoding = System.nanoTime();
+        try (InputStream in = raw) {
+            SoundBuffer sound = SoundBuffer.decode(in);
+            AudioStats.get().recordDecode(System.nanoTime() - decoding);
+            return sound;
         } catch (Exception e) {
-            System.out.println("Error playing sound effect: " + filePath + " (" + e.getMessage() + ")");
+            System.out.println("Error loading sound effect: " + filePath + " (" + e.getMessage() + ")");
+            return null;
         }
     }
 
     /**
-     * Sets the volume level for sound effects.
-     * Between 0.0 (silent) and 0.5 (max).
+     * Sets the volume level for sound effects started from now on.
+     * Between 0.0 (silent) and 0.5 (max, the volume of the file itself).
      *
      * @param volumeLevel Desired volume level
      *
      */
     public static void setSfxVolume(float volumeLevel) {
-        sfxVolume = Math.max(0.0f, Math.min(0.5f, volumeLevel));
+        sfxVolume = Math.max(0.0f, Math.min(MAX_SFX_VOLUME, volumeLevel));
     }
 
     /**
@@ -132,10 +158,9 @@ public class MusicPlayer {
      */
     public static void setVolume(float volumeLevel) {
         volume = Math.max(0.0f, Math.min(1.0f, volumeLevel));
-        if (backgroundMusic != null && backgroundMusic.isControlSupported(FloatControl.Type.MASTER_GAIN)) {
-            FloatControl gainControl = (FloatControl) backgroundMusic.getControl(FloatControl.Type.MASTER_GAIN);
-            float dB = (float) (Math.log(volume) / Math.log(10.0) * 20.0);
-            gainControl.setValue(dB);
+        if (backgroundMusic != null) {
+            // The level scales the samples directly, the same as a gain of 20*log10(level) dB
+            backgroundMusic.setVolume(volume);
         }
     }
 
@@ -144,8 +169,8 @@ public class MusicPlayer {
      *
      */
     public static void stopBackgroundMusic() {
-        if (backgroundMusic != null && backgroundMusic.isRunning()) {
-            backgroundMusic.stop();
+        if (backgroundMusic != null && backgroundMusic.isPlaying()) {
+            backgroundMusic.pause();
             isPlaying = false;
         }
     }
@@ -161,7 +186,7 @@ public class MusicPlayer {
             stopBackgroundMusic();
         } else {
             if (backgroundMusic != null) {
-                backgroundMusic.loop(Clip.LOOP_CONTINUOUSLY);
+                backgroundMusic.resume();
                 isPlaying = true;
             }
         }
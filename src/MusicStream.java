@@ -0,0 +1,276 @@
+package src;
+
+import javax.sound.sampled.AudioInputStream;
+import javax.sound.sampled.AudioSystem;
+import javax.sound.sampled.UnsupportedAudioFileException;
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+
+/**
+ * Background music played straight from its file, a little at a time, through the
+ * {@link AudioMixer}.
+ *
+ * <p>
+ * A reader thread decodes the file in small chunks into a ring buffer of about
+ * {@link #RING_FRAMES} frames, and the mixer thread plays from the other end of the
+ * ring. Only the ring and one read chunk are ever in memory, never the whole track.
+ * When the reader gets to the end of the file it opens it again and carries on filling
+ * the same ring, so the loop plays without a gap as long as the reader stays ahead.
+ * If it ever falls behind, the missing samples are played as silence and counted.
+ * </p>
+ *
+ * <p>
+ * Pausing takes the stream out of the mixer and leaves the reader waiting on a full
+ * ring; resuming picks up exactly where it left off.
+ * </p>
+ *
+ * @author Aya Abdulnabi
+ * @author Kamaldeep Ghotra
+ * @version 1.0
+ */
+public final class MusicStream implements AudioMixer.Voice {
+    /** Frames held in the ring buffer (about 0.75 seconds, 128 KB) */
+    public static final int RING_FRAMES = 32768;
+
+    /** Bytes read from the file at a time */
+    private static final int READ_BYTES = 16384;
+
+    /** Classpath location of the music file */
+    private final String filePath;
+
+    /** Mixer the stream plays through */
+    private final AudioMixer mixer;
+
+    /** Interleaved left/right samples waiting to be played */
+    private final short[] ring = new short[RING_FRAMES * 2];
+
+    /** Lock the reader waits on while the ring is full */
+    private final Object space = new Object();
+
+    /** Total samples written into the ring by the reader */
+    private volatile long written;
+
+    /** Total samples taken out of the ring by the mixer */
+    private volatile long played;
+
+    /** Volume the music plays at, 1.0 being the file's own volume */
+    private volatile float volume = 1.0f;
+
+    /** Whether the music is paused */
+    private volatile boolean paused = true;
+
+    /** Whether the stream is in the mixer (or on its way in) */
+    private final AtomicBoolean mixing = new AtomicBoolean();
+
+    /** Whether the stream has been closed */
+    private volatile boolean closed;
+
+    /** Number of times the mixer found the ring empty */
+    private volatile long underruns;
+
+
+    /**
+     * Constructs a stream for a music file. Nothing is read until {@link #start()}.
+     *
+     * @param filePath classpath location of the music file
+     * @param mixer the mixer to play through
+     */
+    public MusicStream(String filePath, AudioMixer mixer) {
+        this.filePath = filePath;
+        this.mixer = mixer;
+    }
+
+
+    /**
+     * Starts the reader thread and starts playing.
+     */
+    public void start() {
+        Thread reader = new Thread(this::readLoop, "music-reader");
+        reader.setDaemon(true);
+        reader.start();
+        resume();
+    }
+
+
+    /**
+     * Pauses the music.
+     */
+    public void pause() {
+        // The mixer drops the stream the next time it asks for samples
+        paused = true;
+    }
+
+
+    /**
+     * Resumes the music where it was paused.
+     */
+    public void resume() {
+        if (closed) {
+            return;
+        }
+        paused = false;
+        // Only add the stream if the mixer has dropped it (or never had it)
+        if (mixing.compareAndSet(false, true) && !mixer.addStream(this)) {
+            mixing.set(false);
+        }
+    }
+
+
+    /**
+     * Checks whether the music is playing.
+     *
+     * @return true unless the music is paused or closed
+     */
+    public boolean isPlaying() {
+        return !paused && !closed;
+    }
+
+
+    /**
+     * Stops the music for good and ends the reader thread.
+     */
+    public void close() {
+        closed = true;
+        paused = true;
+        synchronized (space) {
+            space.notifyAll();
+        }
+    }
+
+
+    /**
+     * Sets the volume of the music.
+     *
+     * @param volume the volume, from 0.0 (silent) to 1.0 (the file's own volume)
+     */
+    public void setVolume(float volume) {
+        this.volume = volume;
+    }
+
+
+    /**
+     * Returns how many times the music ran out of decoded samples.
+     *
+     * @return the number of underruns
+     */
+    public long getUnderruns() {
+        return underruns;
+    }
+
+
+    /**
+     * Adds the next frames of music from the ring to the mix. Called on the mixer thread.
+     *
+     * @param mix interleaved left/right sums to add to
+     * @param frames the number of frames to add
+     * @return false once the music is paused or closed
+     */
+    @Override
+    public boolean mixInto(int[] mix, int frames) {
+        if (paused) {
+            mixing.set(false);
+            // Keep going if resume() was called just now and left the stream to us
+            if (paused || !mixing.compareAndSet(false, true)) {
+                return false;
+            }
+        }
+        long start = played;
+        int wanted = frames * 2;
+        int count = (int) Math.min(wanted, written - start);
+        if (count < wanted && start > 0) {
+            // Ran dry after playing had begun (not just waiting for the first read)
+            underruns++;
+            AudioStats.get().recordMusicUnderrun();
+        }
+
+        int gain = Math.round(volume * 256);
+        for (int i = 0; i < count; i++) {
+            mix[i] += (ring[(int) ((start + i) % ring.length)] * gain) >> 8;
+        }
+        played = start + count;
+        synchronized (space) {
+            space.notifyAll();
+        }
+        return true;
+    }
+
+
+    /**
+     * The reader thread: keeps the ring topped up from the file, opening it again each
+     * time it runs out so the music loops.
+     */
+    private void readLoop() {
+        byte[] chunk = new byte[READ_BYTES];
+        while (!closed) {
+            InputStream raw = MusicStream.class.getResourceAsStream("/" + filePath);
+            if (raw == null) {
+                System.out.println("Background music file not found: " + filePath);
+                return;
+            }
+            long before = written;
+            try (AudioInputStream in = AudioSystem.getAudioInputStream(AudioMixer.FORMAT,
+                    AudioSystem.getAudioInputStream(new BufferedInputStream(raw)))) {
+                int filled = 0;
+                int read;
+                while (!closed && (read = in.read(chunk, filled, chunk.length - filled)) != -1) {
+                    filled += read;
+                    // Only hand over whole frames, keep any leftover bytes for the next read
+                    int whole = filled - filled % 4;
+                    if (!write(chunk, whole)) {
+                        return;
+                    }
+                    System.arraycopy(chunk, whole, chunk, 0, filled - whole);
+                    filled -= whole;
+                }
+            } catch (UnsupportedAudioFileException | IOException | IllegalArgumentException e) {
+                System.out.println("Unable to play background music: " + e.getMessage());
+                return;
+            }
+            if (written == before) {
+                // Nothing in the file, don't spin reopening it
+                return;
+            }
+        }
+    }
+
+
+    /**
+     * Copies decoded bytes into the ring, waiting for the mixer to make room as needed.
+     *
+     * @param bytes 16-bit little-endian stereo samples
+     * @param length the number of bytes to copy (whole frames only)
+     * @return false if the stream was closed while waiting
+     */
+    private boolean write(byte[] bytes, int length) {
+        int samples = length / 2;
+        int done = 0;
+        while (done < samples) {
+            synchronized (space) {
+                while (!closed && written - played == ring.length) {
+                    try {
+                        space.wait();
+                    } catch (InterruptedException e) {
+                        return false;
+                    }
+                }
+            }
+            if (closed) {
+                return false;
+            }
+            long free = ring.length - (written - played);
+            int count = (int) Math.min(free, samples - done);
+            long position = written;
+            for (int i = 0; i < count; i++) {
+                int b = (done + i) * 2;
+                ring[(int) ((position + i) % ring.length)] = (short) ((bytes[b] & 0xFF) | (bytes[b + 1] << 8));
+            }
+            // Publish the samples only once they are in the ring
+            written = position + count;
+            done += count;
+        }
+        return true;
+    }
+}
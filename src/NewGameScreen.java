@@ -102,9 +102,7 @@ public class NewGameScreen extends JLayeredPane {
      */
     private JLayeredPane backgroundScreen(String idCardPet, JLayeredPane screenSource) {
         // Set up the background for the screen
-        ImageIcon background = new ImageIcon("resources/new_game.png");
-        Image scaledBG = background.getImage().getScaledInstance(1080, 750, Image.SCALE_SMOOTH);
-        JLabel backgroundLabel = new JLabel(new ImageIcon(scaledBG));
+        JLabel backgroundLabel = new JLabel(ImageAssets.getScaledIcon("resources/new_game.png", 1080, 750));
         backgroundLabel.setBounds(0, 0, 1080, 750);
         screenSource.add(backgroundLabel, Integer.valueOf(0));
 
@@ -112,17 +110,16 @@ public class NewGameScreen extends JLayeredPane {
         JLabel newGameLabel = new JLabel("NEW GAME");
         newGameLabel.setHorizontalAlignment(SwingConstants.CENTER);
         newGameLabel.setVerticalAlignment(SwingConstants.CENTER);
-        newGameLabel.setFont(customFont.deriveFont(24f));
+        newGameLabel.setFont(FontRegistry.getFont(24f));
         newGameLabel.setForeground(Color.WHITE);
         newGameLabel.setBounds(270,50,192,64);
         add(newGameLabel, Integer.valueOf(2));
 
         // Scale the ID card
-        ImageIcon idCard = new ImageIcon(idCardPet);
+        ImageIcon idCard = ImageAssets.getIcon(idCardPet);
         int width = idCard.getIconWidth() - 1000;
         int height = idCard.getIconHeight() - 700;
-        Image scaledID = idCard.getImage().getScaledInstance(width, height, Image.SCALE_SMOOTH);
-        JLabel idCardLabel = new JLabel(new ImageIcon(scaledID));
+        JLabel idCardLabel = new JLabel(ImageAssets.getScaledIcon(idCardPet, width, height));
         idCardLabel.setBounds(35, 30, width, height);
         screenSource.add(idCardLabel, Integer.valueOf(4));
 
@@ -140,8 +137,8 @@ public class NewGameScreen extends JLayeredPane {
      */
     private JLayeredPane arrowButtons(JLayeredPane screenSource, int petNum) {
         // Load in the default arrow icons
-        ImageIcon rightArrowImage = new ImageIcon("resources/right_arrow.png");
-        ImageIcon leftArrowImage = new ImageIcon("resources/left_arrow.png");
+        ImageIcon rightArrowImage = ImageAssets.getIcon("resources/right_arrow.png");
+        ImageIcon leftArrowImage = ImageAssets.getIcon("resources/left_arrow.png");
         JLabel rightArrowLabel = new JLabel(rightArrowImage);
         JLabel leftArrowLabel = new JLabel(leftArrowImage);
         rightArrowLabel.setBounds(868, 365, 32, 32);
@@ -202,18 +199,17 @@ public class NewGameScreen extends JLayeredPane {
      */
     private JLabel[] displayPopup(JLayeredPane sourceScreen) {
         // Overlay to "blur" the main background
-        ImageIcon overlayIcon = new ImageIcon("resources/opacity.png");
+        ImageIcon overlayIcon = ImageAssets.getIcon("resources/opacity.png");
         JLabel overlayLabel = new JLabel(overlayIcon);
         overlayLabel.setBounds(0, 0, 1080, 750);
         overlayLabel.setVisible(false);
         sourceScreen.add(overlayLabel, Integer.valueOf(5));
 
         // Name popup to name the pet with styling
-        ImageIcon popupIcon = new ImageIcon("resources/password_popup.png");
+        ImageIcon popupIcon = ImageAssets.getIcon("resources/password_popup.png");
         int width = popupIcon.getIconWidth() - 1000;
         int height = popupIcon.getIconHeight() - 664;
-        Image scaledPopup = popupIcon.getImage().getScaledInstance(width, height, Image.SCALE_SMOOTH);
-        JLabel popUpLabel = new JLabel(new ImageIcon(scaledPopup));
+        JLabel popUpLabel = new JLabel(ImageAssets.getScaledIcon("resources/password_popup.png", width, height));
         popUpLabel.setBounds(20, 66, width, height);
         popUpLabel.setVisible(false);
         sourceScreen.add(popUpLabel, Integer.valueOf(6));
@@ -323,7 +319,7 @@ public class NewGameScreen extends JLayeredPane {
 
         // Add "NAME YOUR PET:" text label with styling
         JLabel nameLabel = new JLabel("NAME YOUR PET:");
-        nameLabel.setFont(customFont.deriveFont(24f));
+        nameLabel.setFont(FontRegistry.getFont(24f));
         nameLabel.setForeground(Color.BLACK);
         nameLabel.setBounds(210, 310, 650, 40);
         nameLabel.setHorizontalAlignment(SwingConstants.CENTER);
@@ -50,16 +50,12 @@ public class ParentalControlScreen extends JLayeredPane {
         this.parentalControl = parentalControl;
 
         // Background setup
-        ImageIcon gridBackground = new ImageIcon("resources/grid.png");
-        Image scaledGrid = gridBackground.getImage().getScaledInstance(1080, 750, Image.SCALE_SMOOTH);
-        JLabel gridLabel = new JLabel(new ImageIcon(scaledGrid));
+        JLabel gridLabel = new JLabel(ImageAssets.getScaledIcon("resources/grid.png", 1080, 750));
         gridLabel.setBounds(0, 0, 1080, 750);
         add(gridLabel, Integer.valueOf(0));
 
         // Add parental control window on top of grid
-        ImageIcon windowBg = new ImageIcon("resources/parentalcontrol_background.png");
-        Image scaledWindowBg = windowBg.getImage().getScaledInstance(1011, 600, Image.SCALE_SMOOTH);
-        JLabel windowLabel = new JLabel(new ImageIcon(scaledWindowBg));
+        JLabel windowLabel = new JLabel(ImageAssets.getScaledIcon("resources/parentalcontrol_background.png", 1011, 600));
         windowLabel.setBounds(0, 60, 1080, 750);
         add(windowLabel, Integer.valueOf(1));
 
@@ -78,11 +74,11 @@ public class ParentalControlScreen extends JLayeredPane {
         // Labels to display total play time and average play time
         JLabel totalPlayLabel = createLabel("TOTAL PLAY TIME:", 240, 245, 300, 40);
         totalPlayValue = createLabel(formatMillis(parentalControl.getTotalPlayTime()), 250, 328, 400, 40);
-        totalPlayValue.setFont(customFont.deriveFont(40f));
+        totalPlayValue.setFont(FontRegistry.getFont(40f));
 
         JLabel avgPlayLabel = createLabel("AVERAGE PLAY TIME", 220, 419, 300, 40);
         avgPlayValue = createLabel(formatMillis(parentalControl.getAveragePlayTime()), 250, 498, 500, 40);
-        avgPlayValue.setFont(customFont.deriveFont(40f));
+        avgPlayValue.setFont(FontRegistry.getFont(40f));
 
         // Add all play time statistic labels to the layered pane
         add(totalPlayLabel, Integer.valueOf(2));
@@ -95,21 +91,21 @@ public class ParentalControlScreen extends JLayeredPane {
         // Resets stats, set play time, revive pet button and styling
         JButton resetStatsButton = MainScreen.buttonCreate(620,190, 192, 64, "resources/white_button.png", "resources/white_button_clicked.png", "");
         resetStatsButton.setText("RESET STATS");
-        resetStatsButton.setFont(customFont.deriveFont(13f));
+        resetStatsButton.setFont(FontRegistry.getFont(13f));
         resetStatsButton.setForeground(Color.decode("#7392B2"));
         resetStatsButton.setHorizontalTextPosition(SwingConstants.CENTER);
         resetStatsButton.setVerticalTextPosition(SwingConstants.CENTER);
 
         JButton setPlayTimeButton = MainScreen.buttonCreate(620, 320, 192, 64, "resources/white_button.png", "resources/white_button_clicked.png", "");
         setPlayTimeButton.setText("SET PLAY TIME");
-        setPlayTimeButton.setFont(customFont.deriveFont(12f));
+        setPlayTimeButton.setFont(FontRegistry.getFont(12f));
         setPlayTimeButton.setForeground(Color.decode("#7392B2"));
         setPlayTimeButton.setHorizontalTextPosition(SwingConstants.CENTER);
         setPlayTimeButton.setVerticalTextPosition(SwingConstants.CENTER);
 
         JButton revivePetButton = MainScreen.buttonCreate(620, 440, 192, 62, "resources/white_button.png", "resources/white_button_clicked.png", "");
         revivePetButton.setText("REVIVE PET");
-        revivePetButton.setFont(customFont.deriveFont(13f));
+        revivePetButton.setFont(FontRegistry.getFont(13f));
         revivePetButton.setForeground(Color.decode("#7392B2"));
         revivePetButton.setHorizontalTextPosition(SwingConstants.CENTER);
         revivePetButton.setVerticalTextPosition(SwingConstants.CENTER);
@@ -154,7 +150,7 @@ public class ParentalControlScreen extends JLayeredPane {
         // Reset play time button styling
         JButton resetPlayTimeButton = MainScreen.buttonCreate(620, 560, 192, 64, "resources/white_button.png", "resources/white_button_clicked.png", "");
         resetPlayTimeButton.setText("RESET PLAY TIME");
-        resetPlayTimeButton.setFont(customFont.deriveFont(11f));
+        resetPlayTimeButton.setFont(FontRegistry.getFont(11f));
         resetPlayTimeButton.setForeground(Color.decode("#7392B2"));
         resetPlayTimeButton.setHorizontalTextPosition(SwingConstants.CENTER);
         resetPlayTimeButton.setVerticalTextPosition(SwingConstants.CENTER);
@@ -2,6 +2,7 @@ package src;
 
 import com.google.gson.annotations.SerializedName;
 
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -34,8 +35,8 @@ public class Pet {
     @SerializedName("name")
     private String name;
 
-    /** Map that holds different types of pets and their declinerate multipliers */
-    private final Map<String, PetType> petTypeMap;
+    /** Shared type entry that holds this pet's declinerate multipliers (null if the type is unknown) */
+    private transient PetType type;
 
     /** Type of the pet */
     @SerializedName("petType")
@@ -98,8 +99,21 @@ public class Pet {
     @SerializedName("currentOutfit")
     private String currentOutfit;
 
-    /** Used to track how often applyDecline() is called */
-    private static int declineCounter = 0;
+    /** How many applyDecline() calls make up one actual decline step */
+    static final int DECLINE_INTERVAL = 15;
+
+    /** How many milliseconds of real time one applyDecline() call stands for */
+    static final int TICK_MILLIS = 250;
+
+    /**
+     * Used to track how often applyDecline() is called on this pet. Kept per pet so that
+     * several pets alive at once each decay at the right rate, and so that pets ticked on
+     * different threads do not share one counter.
+     */
+    private transient int declineCounter = 0;
+
+    /** Counts every change to the pet's saved state, so autosave can tell when it needs writing */
+    private transient int modCount = 0;
 
     /** Stores which outfits are allowed per pet type */
     private static final Map<String, String> allowedOutfits = new HashMap<>();
@@ -116,7 +130,7 @@ public class Pet {
      * Constructs a new Pet with its initial values and behavior types.
      *
      * This constructor initializes all the pet's stats, states, cooldowns,
-     * and also sets up the predefined pet type behavior multipliers.
+     * and links the pet to its shared type behavior multipliers.
      * It calls {@code setPetType(petType)} at the end to update decline rates accordingly.
      *
      * @param name  The name of the pet.
@@ -154,14 +168,6 @@ public class Pet {
         this.name = name;
         this.petType = petType;
 
-        /*  Initialize map that links pet types with decline rate multipliers */
-        this.petTypeMap = new HashMap<>();
-
-        /* Decline behaviour for each pet */
-        petTypeMap.put("PetOption1", new PetType(.5F,.9F,.5F,.5F));
-        petTypeMap.put("PetOption2",  new PetType(.6F,.4F,.6F,.9F));
-        petTypeMap.put("PetOption3",  new PetType(.5F,.5F,.9F,.6F));
-
         /* Initialize stat values */
         this.name = name;
         this.health = health;
@@ -219,6 +225,7 @@ public class Pet {
      * @param lastVetVisitTime The new timestamp (in seconds) of the vet visit.
      */
     public void setLastVetVisitTime(int lastVetVisitTime) {
+        modCount++;
         this.lastVetVisitTime = lastVetVisitTime;
     }
 
@@ -240,6 +247,7 @@ public class Pet {
      * @param vetCooldownDuration The cooldown duration in seconds.
      */
     public void setVetCooldownDuration(int vetCooldownDuration) {
+        modCount++;
         this.vetCooldownDuration = vetCooldownDuration;
     }
 
@@ -260,6 +268,7 @@ public class Pet {
      * @param lastPlayTime The new value representing the last play time in seconds.
      */
     public void setLastPlayTime(int lastPlayTime) {
+        modCount++;
         this.lastPlayTime = lastPlayTime;
     }
 
@@ -281,10 +290,22 @@ public class Pet {
      * @param playCooldownDuration The number of seconds the pet must wait before playing again.
      */
     public void setPlayCooldownDuration(int playCooldownDuration) {
+        modCount++;
         this.playCooldownDuration = playCooldownDuration;
     }
 
 
+    /**
+     * Returns a counter that goes up every time the pet's saved state changes.
+     * Comparing two readings tells whether the pet needs saving again.
+     *
+     * @return the pet's modification count
+     */
+    public int getModCount() {
+        return modCount;
+    }
+
+
     /**
      * Retrieves the name of the pet.
      *
@@ -304,6 +325,7 @@ public class Pet {
      */
 
     public int increaseHappiness(int amount) {
+        modCount++;
         happiness = Math.min(happiness + amount, maxHappiness);
         return happiness;
     }
@@ -318,6 +340,7 @@ public class Pet {
      */
 
     public int decreaseHappiness(int amount) {
+        modCount++;
         happiness = Math.max(happiness - amount, 0);
         return happiness;
     }
@@ -332,6 +355,7 @@ public class Pet {
      */
 
     public int increaseFullness(int amount) {
+        modCount++;
         fullness = Math.min(fullness + amount, maxFullness);
         return fullness;
     }
@@ -345,6 +369,7 @@ public class Pet {
      * @return the updated fullness value after the decrease
      */
     public int decreaseFullness(int amount) {
+        modCount++;
         fullness = Math.max(fullness - amount, 0);
         return fullness;
     }
@@ -358,6 +383,7 @@ public class Pet {
      * @return the updated health value after the increase
      */
     public int increaseHealth(int amount) {
+        modCount++;
         health = Math.min(health + amount, maxHealth);
         return health;
     }
@@ -372,6 +398,7 @@ public class Pet {
      */
 
     public int decreaseHealth(int amount) {
+        modCount++;
         health = Math.max(health - amount, 0);
         return health;
     }
@@ -386,6 +413,7 @@ public class Pet {
      */
 
     public int increaseSleep(int amount) {
+        modCount++;
         sleep = Math.min(sleep + amount, maxSleep);
         return sleep;
     }
@@ -400,6 +428,7 @@ public class Pet {
      */
 
     public int decreaseSleep(int amount) {
+        modCount++;
         sleep = Math.max(sleep - amount, 0);
         return sleep;
     }
@@ -449,12 +478,23 @@ public class Pet {
 
     /**
      * Returns the map that holds all defined pet types and their corresponding stat multipliers.
+     * The map is the shared registry from {@link PetType#getRegistry()} and cannot be modified.
      *
      * @return a map of pet type names to their PetType configurations
      */
 
     public Map<String, PetType> getPetTypeMap() {
-        return petTypeMap;
+        return PetType.getRegistry();
+    }
+
+
+    /**
+     * Returns the shared type entry for this pet.
+     *
+     * @return the pet's PetType, or null if its type is not recognized
+     */
+    public PetType getType() {
+        return type;
     }
 
 
@@ -527,22 +567,15 @@ public class Pet {
      * to base stat decline values.
      */
     public void updateRatesBasedOfType() {
-        PetType type = petTypeMap.get(this.petType);  // Get PetType object for current pet from Map
-
+        modCount++;
         // If the pet type doesn't exist, leave
         if (type == null) return;
 
-        // Set default base decline rates (these can be constants or tuned)
-        int baseHealth = 5;
-        int baseFullness = 5;
-        int baseSleep = 5;
-        int baseHappiness = 5;
-
-        // Apply multipliers from the selected PetType
-        this.healthDeclineRate = Math.round(baseHealth * type.getHealthDeclineMultiplier());
-        this.fullnessDeclineRate = Math.round(baseFullness * type.getFullnessDeclineMultiplier());
-        this.sleepDeclineRate = Math.round(baseSleep * type.getSleepDeclineMultiplier());
-        this.happinessDeclineRate = Math.round(baseHappiness * type.getHappinessDeclineMultiplier());
+        // Apply the rates from the selected PetType (base rate scaled by its multipliers)
+        this.healthDeclineRate = type.getHealthDeclineRate();
+        this.fullnessDeclineRate = type.getFullnessDeclineRate();
+        this.sleepDeclineRate = type.getSleepDeclineRate();
+        this.happinessDeclineRate = type.getHappinessDeclineRate();
     }
 
 
@@ -612,6 +645,27 @@ public class Pet {
     }
 
 
+    /**
+     * Returns the stored dead flag without recomputing it from health, which is what
+     * {@link #applyDeclineStep()} checks before declining the pet.
+     *
+     * @return true if the pet is marked as dead
+     */
+    boolean isMarkedDead() {
+        return isDead;
+    }
+
+
+    /**
+     * Returns how many applyDecline() calls have been counted towards the next decline step.
+     *
+     * @return the decline counter, from 0 to {@link #DECLINE_INTERVAL} - 1
+     */
+    int getDeclineCounter() {
+        return declineCounter;
+    }
+
+
     /**
      * Sets the dead status of the pet.
      *
@@ -621,6 +675,7 @@ public class Pet {
      * @param isDead true if the pet should be marked as dead, false otherwise.
      */
     public void setDead(boolean isDead) {
+        modCount++;
         this.isDead = isDead;
     }
 
@@ -634,6 +689,7 @@ public class Pet {
      */
 
     public void setSleeping(boolean isSleeping) {
+        modCount++;
         this.isSleeping = isSleeping;
     }
 
@@ -647,6 +703,7 @@ public class Pet {
      * @param isHungry true if the pet is hungry; false otherwise.
      */
     public void setHungry(boolean isHungry) {
+        modCount++;
         this.isHungry = isHungry;
     }
 
@@ -660,6 +717,7 @@ public class Pet {
      * @param rate The new health decline rate to assign.
      */
     public void setHealthDeclineRate(int rate) {
+        modCount++;
         this.healthDeclineRate = rate;
     }
 
@@ -672,6 +730,7 @@ public class Pet {
      * @param rate The new fullness decline rate to assign.
      */
     public void setFullnessDeclineRate(int rate) {
+        modCount++;
         this.fullnessDeclineRate = rate;
     }
 
@@ -685,6 +744,7 @@ public class Pet {
      */
 
     public void setSleepDeclineRate(int rate) {
+        modCount++;
         this.sleepDeclineRate = rate;
     }
 
@@ -697,6 +757,7 @@ public class Pet {
      * @param rate The new happiness decline rate to assign.
      */
     public void setHappinessDeclineRate(int rate) {
+        modCount++;
         this.happinessDeclineRate = rate;
     }
 
@@ -710,6 +771,7 @@ public class Pet {
      * @param happiness The new happiness value to assign.
      */
     public void setHappiness(int happiness) {
+        modCount++;
         this.happiness = happiness;
     }
 
@@ -757,15 +819,17 @@ public class Pet {
 
     /**
      * Sets the pet type and updates the stat decline rates based on the selected type.
-     * If the given type does not exist in the petTypeMap, it prints an error message.
+     * If the given type does not exist in the PetType registry, it prints an error message.
      *
      * @param petType The type of the pet.
      */
     public void setPetType(String petType) {
-        // Check if the provided pet type exists in the map of valid pet types
-        if (petTypeMap.containsKey(petType)) {
-            // Set the pet type (if valid)
-            this.petType = petType;
+        // Check if the provided pet type exists in the registry of valid pet types
+        PetType newType = PetType.forName(petType);
+        if (newType != null) {
+            // Set the pet type (if valid), sharing the registry's name string
+            this.type = newType;
+            this.petType = newType.getName();
             updateRatesBasedOfType();
         } else {
             // If the type is not recognized, print an error message for debugging
@@ -789,56 +853,216 @@ public class Pet {
         declineCounter++;
 
         // Only apply stat decline every 15 calls to slow down decay
-        if(declineCounter % 15 == 0)
+        if(declineCounter >= DECLINE_INTERVAL)
         {
-            // Do nothing if the pet is already dead
-            if (isDead) return;
-
-            // 1. Passive stat changes depending on sleep state
-            if (!isSleeping) {
-                // If awake, reduce fullness and sleep
-                decreaseFullness(fullnessDeclineRate);
-                decreaseSleep(sleepDeclineRate);
-
-                // If starving (fullness is 0), happiness drops faster
-                decreaseHappiness(fullness <= 0 ? happinessDeclineRate * 2 : happinessDeclineRate);
-            } else {
-                // Regenerate sleep while sleeping
-                increaseSleep(sleepDeclineRate);
-            }
+            declineCounter = 0;  // Start counting towards the next step
+            applyDeclineStep();
+        }
+    }
 
-            // 2. Hunger check
-            if (fullness <= 0) {
-                // If starving, mark as hungry and reduce health
-                isHungry = true;
-                decreaseHealth(healthDeclineRate);
-            } else {
-                // If not starving, set isHungry to false
-                isHungry = false;
-            }
 
-            // 3. Update happiness status
-            isHappy = happiness > 0;
-
-            // 4. Sleep logic
-            if (sleep <= 0) {
-                // If sleep reaches 0, pet gets sick (health penalty) and is forced to sleep
-                decreaseHealth(healthDeclineRate);
-                sleep = 0;
-                isSleeping = true;
-            } else if (sleep >= maxSleep) {
-                isSleeping = false; // Wakes up when rested
+    /**
+     * Applies a single stat decline step, without the every-15-calls gating done by
+     * {@link #applyDecline()}. Used by drivers such as {@link PetSimulation} that
+     * schedule the decline steps themselves.
+     */
+    void applyDeclineStep() {
+        // Do nothing if the pet is already dead
+        if (isDead) return;
+        modCount++;
+
+        // 1. Passive stat changes depending on sleep state
+        if (!isSleeping) {
+            // If awake, reduce fullness and sleep
+            decreaseFullness(fullnessDeclineRate);
+            decreaseSleep(sleepDeclineRate);
+
+            // If starving (fullness is 0), happiness drops faster
+            decreaseHappiness(fullness <= 0 ? happinessDeclineRate * 2 : happinessDeclineRate);
+        } else {
+            // Regenerate sleep while sleeping
+            increaseSleep(sleepDeclineRate);
+        }
+
+        // 2. Hunger check
+        if (fullness <= 0) {
+            // If starving, mark as hungry and reduce health
+            isHungry = true;
+            decreaseHealth(healthDeclineRate);
+        } else {
+            // If not starving, set isHungry to false
+            isHungry = false;
+        }
+
+        // 3. Update happiness status
+        isHappy = happiness > 0;
+
+        // 4. Sleep logic
+        if (sleep <= 0) {
+            // If sleep reaches 0, pet gets sick (health penalty) and is forced to sleep
+            decreaseHealth(healthDeclineRate);
+            sleep = 0;
+            isSleeping = true;
+        } else if (sleep >= maxSleep) {
+            isSleeping = false; // Wakes up when rested
+        }
+
+        // 5. Check Death
+        if (health <= 0) {
+            health = 0;
+            isDead = true;
+        }
+    }
+
+
+    /**
+     * Advances the pet by the given number of applyDecline() calls at once, as if the
+     * in-game timer had kept running. Used to catch a pet up on time that passed while
+     * the game was closed.
+     *
+     * @param ticks the number of applyDecline() calls to apply (must not be negative)
+     */
+    public void advanceTicks(long ticks) {
+        if (ticks < 0) {
+            throw new IllegalArgumentException("ticks must not be negative: " + ticks);
+        }
+
+        // Work out how many decline steps land in these ticks, keeping the counter's phase
+        long counted = declineCounter + ticks;
+        declineCounter = (int) (counted % DECLINE_INTERVAL);
+        advanceDeclineSteps(counted / DECLINE_INTERVAL);
+    }
+
+
+    /**
+     * Applies the given number of decline steps without stepping through them one by one.
+     *
+     * The steps are split into runs in which nothing changes direction: the pet stays awake
+     * or asleep, stays fed or starving, and its sleep and health stay above 0. Each run is
+     * applied in one go, and only the steps where something switches (sleep hits 0 and forces
+     * sleep, sleep refills and wakes the pet, fullness hits 0 and happiness starts dropping
+     * twice as fast, or health hits 0) are applied with {@link #applyDeclineStep()}. Once the
+     * pet settles into a repeating sleep cycle, whole cycles are skipped. The work done only
+     * depends on the pet's stats and rates, not on the number of steps.
+     *
+     * @param steps the number of decline steps to apply (must not be negative)
+     */
+    public void advanceDeclineSteps(long steps) {
+        if (steps < 0) {
+            throw new IllegalArgumentException("steps must not be negative: " + steps);
+        }
+
+        // Stats at the last time the pet woke up, used to spot a repeating sleep cycle
+        long[] lastWake = null;
+        long stepsAtLastWake = 0;
+
+        while (steps > 0 && !isDead) {
+            long run = Math.min(regularRunLength(), steps);
+            if (run > 0) {
+                // Nothing switches during these steps, apply them all at once
+                applyRegularRun(run);
+                steps -= run;
+                continue;
             }
 
-            // 5. Check Death
-            if (health <= 0) {
-                health = 0;
-                isDead = true;
+            // Something switches on this step, so apply it exactly
+            boolean wasSleeping = isSleeping;
+            applyDeclineStep();
+            steps--;
+
+            // When the pet wakes up, check if it is back where it was at the last wake up
+            if (wasSleeping && !isSleeping) {
+                long[] wake = {health, sleep, fullness, happiness};
+                if (lastWake != null && Arrays.equals(wake, lastWake)) {
+                    // Stats repeat every cycle from here on, skip all the whole cycles
+                    steps %= stepsAtLastWake - steps;
+                }
+                lastWake = wake;
+                stepsAtLastWake = steps;
             }
         }
     }
 
 
+    /**
+     * Works out how many of the next decline steps can be applied together because
+     * nothing switches during them.
+     *
+     * @return the number of steps in the run (0 if the very next step switches something)
+     */
+    private long regularRunLength() {
+        if (health <= 0) return 0;
+
+        long run = Long.MAX_VALUE;
+        boolean starving = fullness <= 0;
+
+        if (!isSleeping) {
+            // Sleep must stay above 0, otherwise the pet is forced to sleep
+            if (sleep <= 0) return 0;
+            if (sleepDeclineRate > 0) run = Math.min(run, (sleep - 1) / sleepDeclineRate);
+
+            // Fullness must stay above 0, otherwise the pet starts starving
+            if (!starving && fullnessDeclineRate > 0) run = Math.min(run, (fullness - 1) / fullnessDeclineRate);
+
+            // Health must stay above 0 while starving
+            if (starving && healthDeclineRate > 0) run = Math.min(run, (health - 1) / healthDeclineRate);
+        } else {
+            // Sleep must stay below max, otherwise the pet wakes up
+            if (sleep + sleepDeclineRate >= maxSleep) return 0;
+            if (sleepDeclineRate > 0) run = Math.min(run, (maxSleep - sleep - 1) / sleepDeclineRate);
+
+            // Health must stay above 0 while starving or exhausted
+            int healthLoss = healthLossWhileSleeping();
+            if (healthLoss > 0) run = Math.min(run, (health - 1) / healthLoss);
+        }
+        return run;
+    }
+
+
+    /**
+     * Returns how much health a sleeping pet loses per step: once for starving,
+     * and once more if it sleeps with its sleep stuck at 0.
+     *
+     * @return the health lost per step while sleeping
+     */
+    private int healthLossWhileSleeping() {
+        int loss = 0;
+        if (fullness <= 0) loss += healthDeclineRate;
+        if (sleep + sleepDeclineRate <= 0) loss += healthDeclineRate;
+        return loss;
+    }
+
+
+    /**
+     * Applies a run of decline steps in which nothing switches, as worked out by
+     * {@link #regularRunLength()}.
+     *
+     * @param run the number of steps to apply
+     */
+    private void applyRegularRun(long run) {
+        modCount++;
+        boolean starving = fullness <= 0;
+
+        if (!isSleeping) {
+            // Awake: fullness, sleep and happiness drop every step
+            if (!starving) fullness -= (int) (run * fullnessDeclineRate);
+            sleep -= (int) (run * sleepDeclineRate);
+            happiness = (int) Math.max(happiness - run * (starving ? happinessDeclineRate * 2L : happinessDeclineRate), 0);
+
+            // Starving pets lose health every step
+            if (starving) health -= (int) (run * healthDeclineRate);
+        } else {
+            // Asleep: only sleep comes back, and health drops if starving or exhausted
+            health -= (int) (run * healthLossWhileSleeping());
+            sleep = Math.max(sleep + (int) (run * sleepDeclineRate), 0);
+        }
+
+        // Same flags every step of the run
+        isHungry = starving;
+        isHappy = happiness > 0;
+    }
+
+
     /**
      * Checks if the pet is currently wearing an outfit.
      *
@@ -907,6 +1131,7 @@ public class Pet {
      *
      */
     public boolean setOutfit(String outfitName) {
+        modCount++;
         // If the outfit is null or empty, remove the current outfit
         if (outfitName == null || outfitName.isEmpty()) {
             this.currentOutfit = null;
@@ -941,6 +1166,7 @@ public class Pet {
      */
     public void removeOutfit() {
         if (this.currentOutfit != null && !this.currentOutfit.isEmpty()) {
+            modCount++;
             System.out.println("Removing outfit: " + this.currentOutfit);
             this.currentOutfit = null;
         }
@@ -953,6 +1179,7 @@ public class Pet {
      *
      */
     public void resetState() {
+        modCount++;
             this.isDead = false;
             this.isSleeping = false;
             this.isHungry = false;
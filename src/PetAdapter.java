@@ -1,116 +1,141 @@
 package src;
 
-import com.google.gson.*;
-import java.lang.reflect.Type;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
 /**
  * Code Derived and adapted from;
  * https://stackoverflow.com/questions/68011041/how-to-serialize-hashmapobject-object-with-gson
  *
- * A custom JsonSerializer and JsonDeserializer implementation for the Pet class
+ * A custom Gson TypeAdapter implementation for the Pet class
  * This adapter handles the conversion between Pet objects and their JSON representation,
- * allowing for custom serialization and deserialization logic.
+ * allowing for custom serialization and deserialization logic. Pets are written and read
+ * field by field through Gson's streaming writer and reader, without building a JSON tree.
  *
  * @author
  * Kamaldeep Ghorta,
  * Mohammed Abdulnabi
  * @version 1.0
  */
-public class PetAdapter implements JsonSerializer<Pet>, JsonDeserializer<Pet> {
+public class PetAdapter extends TypeAdapter<Pet> {
 
     /**
-     * Serializes a Pet object into its JSON representation
+     * Writes a Pet object as JSON
      *
+     * @param out the JSON writer to write to
      * @param pet the Pet object that needs to be serialized
-     * @param type the type of the object to be serialized
-     * @param context the serialization context
-     * @return a JsonElement representing the serialized Pet object
+     * @throws IOException if writing fails
      */
     @Override
-    public JsonElement serialize(Pet pet, Type type, JsonSerializationContext context) {
-        // Create a JSON object to hold all pet properties
-        JsonObject obj = new JsonObject();
+    public void write(JsonWriter out, Pet pet) throws IOException {
+        if (pet == null) {
+            out.nullValue();
+            return;
+        }
+        out.beginObject();
         // Add all properties of a pet into the JSON object
-        obj.addProperty("name", pet.getName());
-        obj.addProperty("petType", pet.getPetType());
-        obj.addProperty("health", pet.getHealth());
-        obj.addProperty("sleep", pet.getSleepiness());
-        obj.addProperty("fullness", pet.getFullness());
-        obj.addProperty("happiness", pet.getHappiness());
+        out.name("name").value(pet.getName());
+        out.name("petType").value(pet.getPetType());
+        out.name("health").value(pet.getHealth());
+        out.name("sleep").value(pet.getSleepiness());
+        out.name("fullness").value(pet.getFullness());
+        out.name("happiness").value(pet.getHappiness());
         // Add the maximum values for their statistics
-        obj.addProperty("maxHealth", pet.getMaxHealth());
-        obj.addProperty("maxSleep", pet.getMaxSleep());
-        obj.addProperty("maxFullness", pet.getMaxFullness());
-        obj.addProperty("maxHappiness", pet.getMaxHappiness());
+        out.name("maxHealth").value(pet.getMaxHealth());
+        out.name("maxSleep").value(pet.getMaxSleep());
+        out.name("maxFullness").value(pet.getMaxFullness());
+        out.name("maxHappiness").value(pet.getMaxHappiness());
         // Add decline rates for pet attrtibutes
-        obj.addProperty("healthDeclineRate", pet.getHealthDeclineRate());
-        obj.addProperty("fullnessDeclineRate", pet.getFullnessDeclineRate());
-        obj.addProperty("sleepDeclineRate", pet.getSleepDeclineRate());
-        obj.addProperty("happinessDeclineRate", pet.getHappinessDeclineRate());
+        out.name("healthDeclineRate").value(pet.getHealthDeclineRate());
+        out.name("fullnessDeclineRate").value(pet.getFullnessDeclineRate());
+        out.name("sleepDeclineRate").value(pet.getSleepDeclineRate());
+        out.name("happinessDeclineRate").value(pet.getHappinessDeclineRate());
         // Set the flags of teh different states a pet can be in
-        obj.addProperty("isSleeping", pet.isSleeping());
-        obj.addProperty("isHungry", pet.isHungry());
-        obj.addProperty("isHappy", pet.isHappy());
-        obj.addProperty("isDead", pet.isDead());
+        out.name("isSleeping").value(pet.isSleeping());
+        out.name("isHungry").value(pet.isHungry());
+        out.name("isHappy").value(pet.isHappy());
+        out.name("isDead").value(pet.isDead());
         //Time-related properties
-        obj.addProperty("lastVetVisitTime", pet.getLastVetVisitTime());
-        obj.addProperty("vetCooldownDuration", pet.getVetCooldownDuration());
-        obj.addProperty("lastPlayTime", pet.getLastPlayTime());
-        obj.addProperty("playCooldownDuration", pet.getPlayCooldownDuration());
-        // Outfit property
-        obj.addProperty("currentOutfit", pet.getCurrentOutfit());
-
-        return obj;
+        out.name("lastVetVisitTime").value(pet.getLastVetVisitTime());
+        out.name("vetCooldownDuration").value(pet.getVetCooldownDuration());
+        out.name("lastPlayTime").value(pet.getLastPlayTime());
+        out.name("playCooldownDuration").value(pet.getPlayCooldownDuration());
+        // Outfit property (left out of the file when there is none)
+        out.name("currentOutfit").value(pet.getCurrentOutfit());
+        out.endObject();
     }
 
     /**
-     * Deserializes a JSON element into a Pet object.
+     * Reads a Pet object from JSON.
+     * Fields may appear in any order; unknown fields are skipped.
      *
-     * @param json the JSON element deserialize
-     * @param typeOfT the type of the object to deserialize
-     * @param context the deserialization context
-     * @return a Pet object constructed from the JSON data
-     * @throws JsonParseException if there is an error parsing the JSON
+     * @param in the JSON reader positioned at the pet
+     * @return a Pet object constructed from the JSON data, or null if the JSON value is null
+     * @throws IOException if there is an error parsing the JSON
      */
     @Override
-    public Pet deserialize(JsonElement json, Type typeOfT, JsonDeserializationContext context) throws JsonParseException {
-        JsonObject obj = json.getAsJsonObject();
+    public Pet read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
 
-        // Read value from JSON with defaut for PetType missing
-        String name = obj.get("name").getAsString();
-        String petType = obj.has("petType") && !obj.get("petType").isJsonNull() ? obj.get("petType").getAsString() : "Dog";  // Default if missing
+        String name = null;
+        String petType = "Dog";  // Default if missing
+        String outfit = null;
+        int health = 0, sleep = 0, fullness = 0, happiness = 0;
+        int maxHealth = 0, maxSleep = 0, maxFullness = 0, maxHappiness = 0;
+        int healthDeclineRate = 0, fullnessDeclineRate = 0, sleepDeclineRate = 0, happinessDeclineRate = 0;
+        boolean isSleeping = false, isHungry = false, isHappy = false, isDead = false;
+        int lastVetVisitTime = 0, vetCooldownDuration = 0, lastPlayTime = 0, playCooldownDuration = 0;
 
-        // Read numeric attributes
-        int health = obj.get("health").getAsInt();
-        int sleep = obj.get("sleep").getAsInt();
-        int fullness = obj.get("fullness").getAsInt();
-        int happiness = obj.get("happiness").getAsInt();
-        // Read maximum attribute values
-        int maxHealth = obj.get("maxHealth").getAsInt();
-        int maxSleep = obj.get("maxSleep").getAsInt();
-        int maxFullness = obj.get("maxFullness").getAsInt();
-        int maxHappiness = obj.get("maxHappiness").getAsInt();
-        // Read decline rate values
-        int healthDeclineRate = obj.get("healthDeclineRate").getAsInt();
-        int fullnessDeclineRate = obj.get("fullnessDeclineRate").getAsInt();
-        int sleepDeclineRate = obj.get("sleepDeclineRate").getAsInt();
-        int happinessDeclineRate = obj.get("happinessDeclineRate").getAsInt();
-        // Read states of pet as a boolean
-        boolean isSleeping = obj.get("isSleeping").getAsBoolean();
-        boolean isHungry = obj.get("isHungry").getAsBoolean();
-        boolean isHappy = obj.get("isHappy").getAsBoolean();
-        boolean isDead = obj.get("isDead").getAsBoolean();
-        // Read time-related properties
-        int lastVetVisitTime = obj.get("lastVetVisitTime").getAsInt();
-        int vetCooldownDuration = obj.get("vetCooldownDuration").getAsInt();
-        int lastPlayTime = obj.get("lastPlayTime").getAsInt();
-        int playCooldownDuration = obj.get("playCooldownDuration").getAsInt();
-        // Read optional outfit
-        String outfit = obj.has("currentOutfit") && !obj.get("currentOutfit").isJsonNull()
-                ? obj.get("currentOutfit").getAsString()
-                : null;
+        in.beginObject();
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "name": name = nextStringOrNull(in); break;
+                case "petType":
+                    String type = nextStringOrNull(in);
+                    if (type != null) {
+                        petType = type;
+                    }
+                    break;
+                // Read numeric attributes
+                case "health": health = in.nextInt(); break;
+                case "sleep": sleep = in.nextInt(); break;
+                case "fullness": fullness = in.nextInt(); break;
+                case "happiness": happiness = in.nextInt(); break;
+                // Read maximum attribute values
+                case "maxHealth": maxHealth = in.nextInt(); break;
+                case "maxSleep": maxSleep = in.nextInt(); break;
+                case "maxFullness": maxFullness = in.nextInt(); break;
+                case "maxHappiness": maxHappiness = in.nextInt(); break;
+                // Read decline rate values
+                case "healthDeclineRate": healthDeclineRate = in.nextInt(); break;
+                case "fullnessDeclineRate": fullnessDeclineRate = in.nextInt(); break;
+                case "sleepDeclineRate": sleepDeclineRate = in.nextInt(); break;
+                case "happinessDeclineRate": happinessDeclineRate = in.nextInt(); break;
+                // Read states of pet as a boolean
+                case "isSleeping": isSleeping = in.nextBoolean(); break;
+                case "isHungry": isHungry = in.nextBoolean(); break;
+                case "isHappy": isHappy = in.nextBoolean(); break;
+                case "isDead": isDead = in.nextBoolean(); break;
+                // Read time-related properties
+                case "lastVetVisitTime": lastVetVisitTime = in.nextInt(); break;
+                case "vetCooldownDuration": vetCooldownDuration = in.nextInt(); break;
+                case "lastPlayTime": lastPlayTime = in.nextInt(); break;
+                case "playCooldownDuration": playCooldownDuration = in.nextInt(); break;
+                // Read optional outfit
+                case "currentOutfit": outfit = nextStringOrNull(in); break;
+                default: in.skipValue(); break;
+            }
+        }
+        in.endObject();
 
         // Create and return a new Pet instance with all the deserialized values
-        Pet pet = new Pet(
+        return new Pet(
                 name, petType, health, sleep, fullness, happiness,
                 maxHealth, maxSleep, maxFullness, maxHappiness,
                 healthDeclineRate, fullnessDeclineRate, sleepDeclineRate, happinessDeclineRate,
@@ -118,7 +143,20 @@ public class PetAdapter implements JsonSerializer<Pet>, JsonDeserializer<Pet> {
                 lastVetVisitTime, vetCooldownDuration, lastPlayTime, playCooldownDuration,
                 outfit
         );
+    }
 
-        return pet;
+    /**
+     * Reads a string value, or consumes a JSON null and returns null.
+     *
+     * @param in the JSON reader positioned at the value
+     * @return the string, or null
+     * @throws IOException if the value is not a string or null
+     */
+    private static String nextStringOrNull(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        return in.nextString();
     }
 }
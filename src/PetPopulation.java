@@ -0,0 +1,517 @@
+package src;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+
+/**
+ * Column-oriented store for a large population of pets.
+ *
+ * <p>
+ * Instead of one {@link Pet} object per pet, every stat is kept in its own primitive
+ * {@code int[]} column and every state flag in its own {@code boolean[]}, with one row per pet.
+ * Ticking the population walks the columns in order and allocates nothing, which keeps
+ * millions of pets inside a small, cache-friendly memory footprint.
+ * </p>
+ *
+ * <p>
+ * The decline rules are the same as {@link Pet#applyDecline()}: each row has its own
+ * decline counter and only loses stats every {@link Pet#DECLINE_INTERVAL} ticks.
+ * Rows are copied in from a {@link Pet} with {@link #add(Pet)} and turned back into a
+ * {@link Pet} with {@link #toPet(int)} when one needs to be shown or saved.
+ * </p>
+ *
+ * @author Mohammed Abdulnabi
+ * @version 1.0
+ */
+public class PetPopulation {
+    /** Smallest row range a parallel tick task handles */
+    private static final int SPLIT_THRESHOLD = 4096;
+
+    /** Number of rows in use */
+    private int size;
+
+    /** Name and type of each pet */
+    private String[] names;
+    private String[] petTypes;
+    /** Outfit worn by each pet (null if none) */
+    private String[] outfits;
+
+    /** Current stats */
+    private int[] health;
+    private int[] sleep;
+    private int[] fullness;
+    private int[] happiness;
+
+    /** Max values for each stat */
+    private int[] maxHealth;
+    private int[] maxSleep;
+    private int[] maxFullness;
+    private int[] maxHappiness;
+
+    /** Decline rates for each stat */
+    private int[] healthDeclineRate;
+    private int[] fullnessDeclineRate;
+    private int[] sleepDeclineRate;
+    private int[] happinessDeclineRate;
+
+    /** Vet and play cooldowns */
+    private int[] lastVetVisitTime;
+    private int[] vetCooldownDuration;
+    private int[] lastPlayTime;
+    private int[] playCooldownDuration;
+
+    /** Number of ticks each row has counted towards its next decline step */
+    private int[] declineCounter;
+
+    /**
+     * State Flags. One element per row, so parallel tick tasks on disjoint row
+     * ranges never write to the same memory.
+     */
+    private boolean[] sleeping;
+    private boolean[] hungry;
+    private boolean[] happy;
+    private boolean[] dead;
+
+
+    /**
+     * Constructs an empty population with room for the given number of pets.
+     *
+     * @param initialCapacity the number of rows to allocate up front
+     */
+    public PetPopulation(int initialCapacity) {
+        int capacity = Math.max(initialCapacity, 16);
+        names = new String[capacity];
+        petTypes = new String[capacity];
+        outfits = new String[capacity];
+        health = new int[capacity];
+        sleep = new int[capacity];
+        fullness = new int[capacity];
+        happiness = new int[capacity];
+        maxHealth = new int[capacity];
+        maxSleep = new int[capacity];
+        maxFullness = new int[capacity];
+        maxHappiness = new int[capacity];
+        healthDeclineRate = new int[capacity];
+        fullnessDeclineRate = new int[capacity];
+        sleepDeclineRate = new int[capacity];
+        happinessDeclineRate = new int[capacity];
+        lastVetVisitTime = new int[capacity];
+        vetCooldownDuration = new int[capacity];
+        lastPlayTime = new int[capacity];
+        playCooldownDuration = new int[capacity];
+        declineCounter = new int[capacity];
+        sleeping = new boolean[capacity];
+        hungry = new boolean[capacity];
+        happy = new boolean[capacity];
+        dead = new boolean[capacity];
+    }
+
+
+    /**
+     * Returns the number of pets in the population.
+     *
+     * @return the number of rows in use
+     */
+    public int size() {
+        return size;
+    }
+
+
+    /**
+     * Copies a pet into a new row of the population.
+     *
+     * @param pet the pet to copy
+     * @return the row index of the new pet
+     */
+    public int add(Pet pet) {
+        ensureCapacity(size + 1);
+        int row = size++;
+
+        names[row] = pet.getName();
+        petTypes[row] = pet.getPetType();
+        outfits[row] = pet.getCurrentOutfit();
+
+        health[row] = pet.getHealth();
+        sleep[row] = pet.getSleep();
+        fullness[row] = pet.getFullness();
+        happiness[row] = pet.getHappiness();
+
+        maxHealth[row] = pet.getMaxHealth();
+        maxSleep[row] = pet.getMaxSleep();
+        maxFullness[row] = pet.getMaxFullness();
+        maxHappiness[row] = pet.getMaxHappiness();
+
+        healthDeclineRate[row] = pet.getHealthDeclineRate();
+        fullnessDeclineRate[row] = pet.getFullnessDeclineRate();
+        sleepDeclineRate[row] = pet.getSleepDeclineRate();
+        happinessDeclineRate[row] = pet.getHappinessDeclineRate();
+
+        lastVetVisitTime[row] = pet.getLastVetVisitTime();
+        vetCooldownDuration[row] = pet.getVetCooldownDuration();
+        lastPlayTime[row] = pet.getLastPlayTime();
+        playCooldownDuration[row] = pet.getPlayCooldownDuration();
+
+        // Carry on counting towards the pet's next decline step rather than starting over
+        declineCounter[row] = pet.getDeclineCounter();
+        sleeping[row] = pet.isSleeping();
+        hungry[row] = pet.isHungry();
+        happy[row] = pet.isHappy();
+        // Keep the stored flag, like Pet.applyDeclineStep() does, so a pet marked dead stays dead
+        dead[row] = pet.isMarkedDead();
+        return row;
+    }
+
+
+    /**
+     * Builds a standalone {@link Pet} from one row, for example to show it on screen or save it.
+     * Later changes to the returned pet are not written back to the population.
+     *
+     * @param row the row to read
+     * @return a new Pet holding the row's values
+     */
+    public Pet toPet(int row) {
+        checkRow(row);
+        Pet pet = new Pet(
+                names[row], petTypes[row], health[row], sleep[row], fullness[row], happiness[row],
+                maxHealth[row], maxSleep[row], maxFullness[row], maxHappiness[row],
+                healthDeclineRate[row], fullnessDeclineRate[row], sleepDeclineRate[row], happinessDeclineRate[row],
+                sleeping[row], hungry[row], happy[row], dead[row],
+                lastVetVisitTime[row], vetCooldownDuration[row], lastPlayTime[row], playCooldownDuration[row],
+                outfits[row]
+        );
+        pet.advanceTicks(declineCounter[row]);  // Less than one step, only sets the pet's counter
+        return pet;
+    }
+
+
+    /**
+     * Advances every pet by a single tick on the calling thread.
+     */
+    public void tick() {
+        tick(1);
+    }
+
+
+    /**
+     * Advances every pet by the given number of ticks on the calling thread.
+     *
+     * @param ticks the number of ticks to advance (must not be negative)
+     */
+    public void tick(long ticks) {
+        checkTicks(ticks);
+        tickRange(0, size, ticks);
+    }
+
+
+    /**
+     * Advances every pet by the given number of ticks, splitting the rows across a fork-join pool.
+     *
+     * @param ticks the number of ticks to advance (must not be negative)
+     * @param pool the pool used to run the rows in parallel
+     */
+    public void tick(long ticks, ForkJoinPool pool) {
+        checkTicks(ticks);
+        if (size > 0) {
+            pool.invoke(new TickTask(0, size, ticks));
+        }
+    }
+
+
+    /**
+     * Advances the rows in {@code [from, to)} by the given number of ticks.
+     *
+     * @param from first row (inclusive)
+     * @param to last row (exclusive)
+     * @param ticks the number of ticks to advance
+     */
+    private void tickRange(int from, int to, long ticks) {
+        for (int row = from; row < to; row++) {
+            // Work out how many decline steps land in this row's next ticks
+            long counted = declineCounter[row] + ticks;
+            long steps = counted / Pet.DECLINE_INTERVAL;
+            declineCounter[row] = (int) (counted % Pet.DECLINE_INTERVAL);
+
+            for (long s = 0; s < steps && !dead[row]; s++) {
+                step(row);
+            }
+        }
+    }
+
+
+    /**
+     * Applies one decline step to a row. Mirrors the rules in {@link Pet#applyDeclineStep()},
+     * which PetPopulationTest checks it against.
+     *
+     * @param row the row to update
+     */
+    private void step(int row) {
+        // 1. Passive stat changes depending on sleep state
+        if (!sleeping[row]) {
+            // If awake, reduce fullness and sleep
+            fullness[row] = Math.max(fullness[row] - fullnessDeclineRate[row], 0);
+            sleep[row] = Math.max(sleep[row] - sleepDeclineRate[row], 0);
+
+            // If starving (fullness is 0), happiness drops faster
+            int happinessLoss = fullness[row] <= 0 ? happinessDeclineRate[row] * 2 : happinessDeclineRate[row];
+            happiness[row] = Math.max(happiness[row] - happinessLoss, 0);
+        } else {
+            // Regenerate sleep while sleeping
+            sleep[row] = Math.min(sleep[row] + sleepDeclineRate[row], maxSleep[row]);
+        }
+
+        // 2. Hunger check
+        boolean starving = fullness[row] <= 0;
+        hungry[row] = starving;
+        if (starving) {
+            health[row] = Math.max(health[row] - healthDeclineRate[row], 0);
+        }
+
+        // 3. Update happiness status
+        happy[row] = happiness[row] > 0;
+
+        // 4. Sleep logic
+        if (sleep[row] <= 0) {
+            // Exhausted pets get sick and are forced to sleep
+            health[row] = Math.max(health[row] - healthDeclineRate[row], 0);
+            sleep[row] = 0;
+            sleeping[row] = true;
+        } else if (sleep[row] >= maxSleep[row]) {
+            sleeping[row] = false;  // Wakes up when rested
+        }
+
+        // 5. Check Death
+        if (health[row] <= 0) {
+            health[row] = 0;
+            dead[row] = true;
+        }
+    }
+
+
+    /**
+     * Returns the name of the pet in a row.
+     *
+     * @param row the row to read
+     * @return the pet's name
+     */
+    public String getName(int row) {
+        checkRow(row);
+        return names[row];
+    }
+
+
+    /**
+     * Returns the type of the pet in a row.
+     *
+     * @param row the row to read
+     * @return the pet's type
+     */
+    public String getPetType(int row) {
+        checkRow(row);
+        return petTypes[row];
+    }
+
+
+    /**
+     * Returns the current health of the pet in a row.
+     *
+     * @param row the row to read
+     * @return the pet's health
+     */
+    public int getHealth(int row) {
+        checkRow(row);
+        return health[row];
+    }
+
+
+    /**
+     * Returns the current sleep value of the pet in a row.
+     *
+     * @param row the row to read
+     * @return the pet's sleep
+     */
+    public int getSleep(int row) {
+        checkRow(row);
+        return sleep[row];
+    }
+
+
+    /**
+     * Returns the current fullness of the pet in a row.
+     *
+     * @param row the row to read
+     * @return the pet's fullness
+     */
+    public int getFullness(int row) {
+        checkRow(row);
+        return fullness[row];
+    }
+
+
+    /**
+     * Returns the current happiness of the pet in a row.
+     *
+     * @param row the row to read
+     * @return the pet's happiness
+     */
+    public int getHappiness(int row) {
+        checkRow(row);
+        return happiness[row];
+    }
+
+
+    /**
+     * Checks if the pet in a row is sleeping.
+     *
+     * @param row the row to read
+     * @return true if the pet is sleeping
+     */
+    public boolean isSleeping(int row) {
+        checkRow(row);
+        return sleeping[row];
+    }
+
+
+    /**
+     * Checks if the pet in a row is hungry.
+     *
+     * @param row the row to read
+     * @return true if the pet is hungry
+     */
+    public boolean isHungry(int row) {
+        checkRow(row);
+        return hungry[row];
+    }
+
+
+    /**
+     * Checks if the pet in a row is happy.
+     *
+     * @param row the row to read
+     * @return true if the pet is happy
+     */
+    public boolean isHappy(int row) {
+        checkRow(row);
+        return happy[row];
+    }
+
+
+    /**
+     * Checks if the pet in a row is dead.
+     *
+     * @param row the row to read
+     * @return true if the pet is dead
+     */
+    public boolean isDead(int row) {
+        checkRow(row);
+        return dead[row];
+    }
+
+
+    /**
+     * Returns how many pets in the population are dead.
+     *
+     * @return the number of dead pets
+     */
+    public int countDead() {
+        int count = 0;
+        for (int row = 0; row < size; row++) {
+            if (dead[row]) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+
+    /**
+     * Grows every column so that it can hold at least the given number of rows.
+     *
+     * @param capacity the number of rows needed
+     */
+    private void ensureCapacity(int capacity) {
+        if (capacity <= health.length) {
+            return;
+        }
+        int newCapacity = Math.max(capacity, health.length + (health.length >> 1));
+        names = Arrays.copyOf(names, newCapacity);
+        petTypes = Arrays.copyOf(petTypes, newCapacity);
+        outfits = Arrays.copyOf(outfits, newCapacity);
+        health = Arrays.copyOf(health, newCapacity);
+        sleep = Arrays.copyOf(sleep, newCapacity);
+        fullness = Arrays.copyOf(fullness, newCapacity);
+        happiness = Arrays.copyOf(happiness, newCapacity);
+        maxHealth = Arrays.copyOf(maxHealth, newCapacity);
+        maxSleep = Arrays.copyOf(maxSleep, newCapacity);
+        maxFullness = Arrays.copyOf(maxFullness, newCapacity);
+        maxHappiness = Arrays.copyOf(maxHappiness, newCapacity);
+        healthDeclineRate = Arrays.copyOf(healthDeclineRate, newCapacity);
+        fullnessDeclineRate = Arrays.copyOf(fullnessDeclineRate, newCapacity);
+        sleepDeclineRate = Arrays.copyOf(sleepDeclineRate, newCapacity);
+        happinessDeclineRate = Arrays.copyOf(happinessDeclineRate, newCapacity);
+        lastVetVisitTime = Arrays.copyOf(lastVetVisitTime, newCapacity);
+        vetCooldownDuration = Arrays.copyOf(vetCooldownDuration, newCapacity);
+        lastPlayTime = Arrays.copyOf(lastPlayTime, newCapacity);
+        playCooldownDuration = Arrays.copyOf(playCooldownDuration, newCapacity);
+        declineCounter = Arrays.copyOf(declineCounter, newCapacity);
+        sleeping = Arrays.copyOf(sleeping, newCapacity);
+        hungry = Arrays.copyOf(hungry, newCapacity);
+        happy = Arrays.copyOf(happy, newCapacity);
+        dead = Arrays.copyOf(dead, newCapacity);
+    }
+
+
+    /**
+     * Throws if the row is outside the population.
+     *
+     * @param row the row to check
+     */
+    private void checkRow(int row) {
+        if (row < 0 || row >= size) {
+            throw new IndexOutOfBoundsException("Row " + row + " out of bounds for size " + size);
+        }
+    }
+
+
+    /**
+     * Throws if the tick count is negative.
+     *
+     * @param ticks the tick count to check
+     */
+    private static void checkTicks(long ticks) {
+        if (ticks < 0) {
+            throw new IllegalArgumentException("ticks must not be negative: " + ticks);
+        }
+    }
+
+
+    /**
+     * Fork-join task that ticks a range of rows. Each row only touches its own element
+     * of every column, so tasks on disjoint ranges never share state.
+     */
+    private class TickTask extends RecursiveAction {
+        /** First row of this task's range (inclusive) */
+        private final int from;
+        /** Last row of this task's range (exclusive) */
+        private final int to;
+        /** Number of ticks to advance */
+        private final long ticks;
+
+        TickTask(int from, int to, long ticks) {
+            this.from = from;
+            this.to = to;
+            this.ticks = ticks;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > SPLIT_THRESHOLD) {
+                int mid = (from + to) >>> 1;
+                invokeAll(new TickTask(from, mid, ticks), new TickTask(mid, to, ticks));
+                return;
+            }
+            tickRange(from, to, ticks);
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package src;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+
+/**
+ * Headless engine that runs the pet decay rules for a whole population of pets.
+ *
+ * <p>
+ * The in-game screen drives one pet through {@link Pet#applyDecline()} on a Swing timer.
+ * This class does the same for many pets without any Swing dependency: it advances all of
+ * its pets in ticks and splits the work across a {@link ForkJoinPool}, so it can be used
+ * for server-side or offline simulation.
+ * </p>
+ *
+ * <p>
+ * One tick here is the same as one call to {@link Pet#applyDecline()}, so a pet only loses
+ * stats every {@link Pet#DECLINE_INTERVAL} ticks. The engine keeps that tick count itself
+ * and only hands the actual decline steps to the pool.
+ * </p>
+ *
+ * @author Mohammed Abdulnabi
+ * @version 1.0
+ */
+public class PetSimulation {
+    /** Number of pets one fork-join task handles before it stops splitting */
+    private static final int SPLIT_THRESHOLD = 2048;
+
+    /** Pets that are simulated by this engine */
+    private final List<Pet> pets = new ArrayList<>();
+
+    /** Pool used to run the decline steps in parallel */
+    private final ForkJoinPool pool;
+
+    /** Total number of ticks the engine has been advanced by */
+    private long tickCount;
+
+
+    /**
+     * Constructs a simulation that runs on the common fork-join pool.
+     */
+    public PetSimulation() {
+        this(ForkJoinPool.commonPool());
+    }
+
+
+    /**
+     * Constructs a simulation that runs on the given fork-join pool.
+     *
+     * @param pool the pool used to run the decline steps
+     */
+    public PetSimulation(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+
+    /**
+     * Adds a pet to the simulation.
+     *
+     * @param pet the pet to simulate
+     */
+    public void addPet(Pet pet) {
+        pets.add(pet);
+    }
+
+
+    /**
+     * Adds several pets to the simulation.
+     *
+     * @param newPets the pets to simulate
+     */
+    public void addPets(List<Pet> newPets) {
+        pets.addAll(newPets);
+    }
+
+
+    /**
+     * Returns the pets in this simulation.
+     *
+     * @return an unmodifiable view of the simulated pets
+     */
+    public List<Pet> getPets() {
+        return Collections.unmodifiableList(pets);
+    }
+
+
+    /**
+     * Returns the number of pets in this simulation.
+     *
+     * @return the number of simulated pets
+     */
+    public int size() {
+        return pets.size();
+    }
+
+
+    /**
+     * Returns how many ticks the simulation has been advanced by.
+     *
+     * @return the total tick count
+     */
+    public long getTickCount() {
+        return tickCount;
+    }
+
+
+    /**
+     * Advances every pet by a single tick.
+     */
+    public void tick() {
+        tick(1);
+    }
+
+
+    /**
+     * Advances every pet by the given number of ticks.
+     *
+     * Only the ticks that land on a multiple of {@link Pet#DECLINE_INTERVAL} apply a decline
+     * step. All the steps for this call are run in one pass over the pets, so each pet is
+     * touched once per call no matter how many steps it takes.
+     *
+     * @param ticks the number of ticks to advance (must not be negative)
+     */
+    public void tick(long ticks) {
+        if (ticks < 0) {
+            throw new IllegalArgumentException("ticks must not be negative: " + ticks);
+        }
+
+        // Count the decline steps that fall inside (tickCount, tickCount + ticks]
+        long steps = (tickCount + ticks) / Pet.DECLINE_INTERVAL - tickCount / Pet.DECLINE_INTERVAL;
+        tickCount += ticks;
+
+        // Nothing to do if no step lands in this range
+        if (steps == 0 || pets.isEmpty()) {
+            return;
+        }
+        pool.invoke(new DeclineTask(pets, 0, pets.size(), steps));
+    }
+
+
+    /**
+     * Fork-join task that applies a number of decline steps to a range of pets.
+     * Ranges bigger than {@link #SPLIT_THRESHOLD} are split in half.
+     */
+    private static class DeclineTask extends RecursiveAction {
+        /** Pets being simulated */
+        private final List<Pet> pets;
+        /** First index of this task's range (inclusive) */
+        private final int from;
+        /** Last index of this task's range (exclusive) */
+        private final int to;
+        /** Number of decline steps to apply to each pet */
+        private final long steps;
+
+        DeclineTask(List<Pet> pets, int from, int to, long steps) {
+            this.pets = pets;
+            this.from = from;
+            this.to = to;
+            this.steps = steps;
+        }
+
+        @Override
+        protected void compute() {
+            // Split big ranges so every worker gets a share
+            if (to - from > SPLIT_THRESHOLD) {
+                int mid = (from + to) >>> 1;
+                invokeAll(new DeclineTask(pets, from, mid, steps), new DeclineTask(pets, mid, to, steps));
+                return;
+            }
+
+            // Small enough, apply the steps pet by pet
+            for (int i = from; i < to; i++) {
+                Pet pet = pets.get(i);
+                for (long s = 0; s < steps; s++) {
+                    pet.applyDeclineStep();
+                }
+            }
+        }
+    }
+}
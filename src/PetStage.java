@@ -0,0 +1,321 @@
+package src;
+
+import javax.swing.Icon;
+import javax.swing.JComponent;
+import javax.swing.Timer;
+import java.awt.AlphaComposite;
+import java.awt.Color;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.Image;
+import java.awt.Rectangle;
+import java.awt.Transparency;
+import java.awt.image.ImageObserver;
+import java.awt.image.VolatileImage;
+
+
+/**
+ * Draws the pet, the food or toy being used and the four stat bars on the in-game screen
+ * at a fixed frame rate.
+ *
+ * <p>
+ * This is an optional replacement for the pet sprite label, the item label and the stat
+ * bar components of {@link InGameScreen}, switched on by starting the game with
+ * {@code -Dvirtualpet.java2d=true}. Instead of Swing laying out and repainting each
+ * component on its own, a timer repaints the stage at a fixed frame rate, and every frame
+ * is drawn into a {@link VolatileImage} back buffer (kept in video memory where possible)
+ * before being copied to the screen in one go. The sprite shown is whatever the screen
+ * last set, including the eating or playing animations shown after an action, and the
+ * effect (the food or toy) is drawn over it.
+ * </p>
+ *
+ * <p>
+ * The stat bars have to sit below the bar frame art, while the pet sits above the buttons,
+ * so they cannot share one layer. The stage itself draws the pet and the effect on the
+ * sprite layer, and its {@linkplain #getBarLayer() bar layer} draws the bars on the layer
+ * the bar components were on. The same frame timer repaints both.
+ * </p>
+ *
+ * <p>
+ * Like the rest of the UI, all methods must be called on the Swing event thread.
+ * </p>
+ *
+ * @author Mohammed Abdulnabi
+ * @version 1.0
+ */
+public class PetStage extends JComponent {
+    /** System property that turns the stage renderer on */
+    public static final String PROPERTY = "virtualpet.java2d";
+
+    /** Time between frames (in milliseconds), about 30 frames per second */
+    public static final int FRAME_MILLIS = 33;
+
+    /** Area of the in-game screen the stage covers, the pet sprite is centered in it */
+    private static final Rectangle STAGE_BOUNDS = new Rectangle(300, 30, 622, 632);
+
+    /** Area of the in-game screen the bar layer covers (the four stat bars) */
+    private static final Rectangle BARS_BOUNDS = new Rectangle(26, 81, 100, 353);
+
+    /** Width of a stat bar */
+    private static final int BAR_WIDTH = 25;
+
+    /** Height of a stat bar */
+    private static final int BAR_HEIGHT = 135;
+
+    /** Background colour of the empty part of a stat bar */
+    private static final Color BAR_BACKGROUND = Color.decode("#f9e6c6");
+
+    /** Timer that draws a new frame */
+    private final Timer frameTimer;
+
+    /** Component drawing the stat bars, below the bar frames */
+    private final JComponent barLayer;
+
+    /** The pet whose stats are drawn */
+    private Pet pet;
+
+    /** The sprite being shown */
+    private Icon sprite;
+
+    /** The food or toy shown over the pet, or null */
+    private Icon effect;
+
+    /** Area of the in-game screen the effect is shown in */
+    private Rectangle effectBounds;
+
+    /** Back buffer the frame is drawn into */
+    private VolatileImage backBuffer;
+
+
+    /**
+     * Constructs the stage for a pet. Nothing is drawn until {@link #start()} is called.
+     *
+     * @param pet the pet whose stats are drawn
+     */
+    public PetStage(Pet pet) {
+        this.pet = pet;
+        this.barLayer = new JComponent() {
+            @Override
+            protected void paintComponent(Graphics g) {
+                drawBars((Graphics2D) g);
+            }
+        };
+        barLayer.setOpaque(false);
+        barLayer.setBounds(BARS_BOUNDS);
+        this.frameTimer = new Timer(FRAME_MILLIS, e -> {
+            barLayer.repaint();
+            repaint();
+        });
+        frameTimer.setCoalesce(true);
+        setOpaque(false);
+        setBounds(STAGE_BOUNDS);
+    }
+
+
+    /**
+     * Checks whether the stage renderer was switched on with the {@value #PROPERTY} property.
+     *
+     * @return true if the in-game screen should use the stage
+     */
+    public static boolean isRequested() {
+        return Boolean.getBoolean(PROPERTY);
+    }
+
+
+    /**
+     * Returns the component that draws the stat bars. It must be added to the screen
+     * below the bar frames, on the layer the bar components would be on.
+     *
+     * @return the bar layer
+     */
+    public JComponent getBarLayer() {
+        return barLayer;
+    }
+
+
+    /**
+     * Changes the pet whose stats are drawn.
+     *
+     * @param pet the pet
+     */
+    public void setPet(Pet pet) {
+        this.pet = pet;
+    }
+
+
+    /**
+     * Changes the sprite shown. It is drawn from the next frame on. Like a label, the stage
+     * fires an {@code "icon"} property change, so the {@link AnimationClock} stops playing
+     * the old sprite.
+     *
+     * @param sprite the sprite (may be animated)
+     */
+    public void setSprite(Icon sprite) {
+        Icon old = this.sprite;
+        this.sprite = sprite;
+        firePropertyChange("icon", old, sprite);
+    }
+
+
+    /**
+     * Changes the food or toy shown over the pet. It is placed the way a {@code JLabel} with
+     * these bounds places its icon: at the left edge, centered vertically, and clipped to
+     * the bounds. It is drawn from the next frame on.
+     *
+     * @param effect the icon to show (may be animated), or null to show none
+     * @param bounds the area of the in-game screen to show it in
+     */
+    public void setEffect(Icon effect, Rectangle bounds) {
+        Icon old = this.effect;
+        this.effect = effect;
+        this.effectBounds = bounds == null ? null : new Rectangle(bounds);
+        firePropertyChange("icon", old, effect);
+    }
+
+
+    /**
+     * Starts drawing frames.
+     */
+    public void start() {
+        frameTimer.start();
+    }
+
+
+    /**
+     * Stops drawing frames. The last frame stays on screen.
+     */
+    public void stop() {
+        frameTimer.stop();
+    }
+
+
+    /**
+     * Stops drawing and lets go of the back buffer.
+     */
+    public void dispose() {
+        stop();
+        if (backBuffer != null) {
+            backBuffer.flush();
+            backBuffer = null;
+        }
+    }
+
+
+    /**
+     * Draws the frame into the back buffer and copies it to the screen. If the buffer's
+     * contents are lost while doing so (e.g. the display mode changed), the frame is drawn again.
+     *
+     * @param g the graphics to paint with
+     */
+    @Override
+    protected void paintComponent(Graphics g) {
+        GraphicsConfiguration config = getGraphicsConfiguration();
+        if (config == null) {
+            // Not on screen (or headless), draw straight to the graphics
+            render((Graphics2D) g);
+            return;
+        }
+
+        do {
+            if (backBuffer == null
+                    || backBuffer.getWidth() != getWidth() || backBuffer.getHeight() != getHeight()
+                    || backBuffer.validate(config) == VolatileImage.IMAGE_INCOMPATIBLE) {
+                if (backBuffer != null) {
+                    backBuffer.flush();
+                }
+                backBuffer = config.createCompatibleVolatileImage(getWidth(), getHeight(), Transparency.TRANSLUCENT);
+            }
+
+            Graphics2D bufferGraphics = backBuffer.createGraphics();
+            try {
+                // Start from a fully transparent frame so the screen behind shows through
+                bufferGraphics.setComposite(AlphaComposite.Clear);
+                bufferGraphics.fillRect(0, 0, getWidth(), getHeight());
+                bufferGraphics.setComposite(AlphaComposite.SrcOver);
+                render(bufferGraphics);
+            } finally {
+                bufferGraphics.dispose();
+            }
+            g.drawImage(backBuffer, 0, 0, null);
+        } while (backBuffer.contentsLost());
+    }
+
+
+    /**
+     * Frames of animated sprites are picked up by the frame timer, so a new frame
+     * arriving does not need a repaint of its own.
+     *
+     * @param img the image being updated
+     * @param infoflags what was updated
+     * @param x the x coordinate
+     * @param y the y coordinate
+     * @param w the width
+     * @param h the height
+     * @return true while the image still has more to load or animate
+     */
+    @Override
+    public boolean imageUpdate(Image img, int infoflags, int x, int y, int w, int h) {
+        return (infoflags & (ImageObserver.ALLBITS | ImageObserver.ABORT)) == 0;
+    }
+
+
+    /**
+     * Draws the pet sprite and the effect.
+     *
+     * @param g the graphics to draw with, in stage coordinates
+     */
+    private void render(Graphics2D g) {
+        if (sprite != null) {
+            // Centered on the stage, the same way the sprite label shows it
+            int x = (STAGE_BOUNDS.width - sprite.getIconWidth()) / 2;
+            int y = (STAGE_BOUNDS.height - sprite.getIconHeight()) / 2;
+            sprite.paintIcon(this, g, x, y);
+        }
+
+        if (effect != null && effectBounds != null) {
+            Graphics2D effectGraphics = (Graphics2D) g.create(
+                    effectBounds.x - STAGE_BOUNDS.x, effectBounds.y - STAGE_BOUNDS.y,
+                    effectBounds.width, effectBounds.height);
+            try {
+                effect.paintIcon(this, effectGraphics, 0, (effectBounds.height - effect.getIconHeight()) / 2);
+            } finally {
+                effectGraphics.dispose();
+            }
+        }
+    }
+
+
+    /**
+     * Draws the four stat bars.
+     *
+     * @param g the graphics to draw with, in bar layer coordinates
+     */
+    private void drawBars(Graphics2D g) {
+        drawBar(g, 26, 81, pet.getMaxHealth(), pet.getHealth());
+        drawBar(g, 101, 81, pet.getMaxSleep(), pet.getSleep());
+        drawBar(g, 26, 299, pet.getMaxFullness(), pet.getFullness());
+        drawBar(g, 101, 299, pet.getMaxHappiness(), pet.getHappiness());
+    }
+
+
+    /**
+     * Draws a vertical stat bar that fills up from the bottom.
+     *
+     * @param g the graphics to draw with
+     * @param screenX the x position of the bar on the in-game screen
+     * @param screenY the y position of the bar on the in-game screen
+     * @param max the stat's maximum value
+     * @param value the stat's current value
+     */
+    private void drawBar(Graphics2D g, int screenX, int screenY, int max, int value) {
+        int x = screenX - BARS_BOUNDS.x;
+        int y = screenY - BARS_BOUNDS.y;
+        g.setColor(BAR_BACKGROUND);
+        g.fillRect(x, y, BAR_WIDTH, BAR_HEIGHT);
+
+        int filled = max <= 0 ? 0 : Math.max(0, Math.min(BAR_HEIGHT, BAR_HEIGHT * value / max));
+        g.setColor(InGameScreen.getStatColor(value));
+        g.fillRect(x, y + BAR_HEIGHT - filled, BAR_WIDTH, filled);
+    }
+}
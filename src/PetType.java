@@ -1,5 +1,9 @@
 package src;
 
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 
 /**
  * Represents a pet type configuration used to influence how quickly a pet's stats decline over time.
@@ -7,30 +11,65 @@ package src;
  * sleep, and happiness. These multipliers determine how challenging it is to maintain each stat
  * depending on the selected pet type.
  *
+ * <p>Pet types are immutable and are only created once, in the shared registry below. Pets
+ * look their type up with {@link #forName(String)} and keep a direct reference to it, so
+ * creating or loading a pet does not allocate any type data.</p>
+ *
  * @author Mohammed Abdulnabi
  * @version 1.0
  */
-public class PetType {
+public final class PetType {
+    /** Base decline rate that every multiplier is applied to */
+    private static final int BASE_DECLINE_RATE = 5;
+
+    /** Every pet type, indexed by ordinal */
+    private static final PetType[] VALUES = {
+            new PetType("PetOption1", 0, .5F, .9F, .5F, .5F),
+            new PetType("PetOption2", 1, .6F, .4F, .6F, .9F),
+            new PetType("PetOption3", 2, .5F, .5F, .9F, .6F)
+    };
+
+    /** Every pet type, keyed by name */
+    private static final Map<String, PetType> REGISTRY;
+
+    /** Static block to fill the name lookup from the ordinal table */
+    static {
+        Map<String, PetType> registry = new LinkedHashMap<>();
+        for (PetType type : VALUES) {
+            registry.put(type.name, type);
+        }
+        REGISTRY = Collections.unmodifiableMap(registry);
+    }
+
+    /** Name of the pet type (e.g., PetOption1) */
+    private final String name;
+    /** Position of the pet type in the registry */
+    private final int ordinal;
+
     /** Health multipler for pet stats */
-    private float healthDeclineMultiplier;
+    private final float healthDeclineMultiplier;
     /** Fullness multipler for pet stats */
-    private float fullnessDeclineMultiplier;
+    private final float fullnessDeclineMultiplier;
     /** Sleep multipler for pet stats */
-    private float sleepDeclineMultiplier;
+    private final float sleepDeclineMultiplier;
     /** Happiness multipler for pet stats */
-    private float happinessDeclineMultiplier;
+    private final float happinessDeclineMultiplier;
 
 
     /**
      * Constructs a PetType with specific multipliers for how quickly each stat declines.
      * These multipliers allow different pet types to have unique characteristics and behaviors.
      *
+     * @param name  the name of the pet type
+     * @param ordinal  the position of the pet type in the registry
      * @param healthDeclineMultiplier  how fast the health stat declines.
      * @param fullnessDeclineMultiplier  how fast the fullness stat declines.
      * @param sleepDeclineMultiplier  how fast the sleep stat declines
      * @param happinessDeclineMultiplier  how fast the happiness stat declines
      */
-    public PetType(float healthDeclineMultiplier, float fullnessDeclineMultiplier, float sleepDeclineMultiplier, float happinessDeclineMultiplier) {
+    private PetType(String name, int ordinal, float healthDeclineMultiplier, float fullnessDeclineMultiplier, float sleepDeclineMultiplier, float happinessDeclineMultiplier) {
+        this.name = name;
+        this.ordinal = ordinal;
         this.healthDeclineMultiplier = healthDeclineMultiplier;
         this.fullnessDeclineMultiplier = fullnessDeclineMultiplier;
         this.sleepDeclineMultiplier = sleepDeclineMultiplier;
@@ -38,6 +77,59 @@ public class PetType {
     }
 
 
+    /**
+     * Looks up a pet type by name.
+     *
+     * @param name the name of the pet type (e.g., PetOption1)
+     * @return the matching pet type, or null if there is none
+     */
+    public static PetType forName(String name) {
+        return REGISTRY.get(name);
+    }
+
+
+    /**
+     * Looks up a pet type by its ordinal.
+     *
+     * @param ordinal the position of the pet type in the registry
+     * @return the matching pet type
+     * @throws IndexOutOfBoundsException if there is no pet type with that ordinal
+     */
+    public static PetType forOrdinal(int ordinal) {
+        return VALUES[ordinal];
+    }
+
+
+    /**
+     * Returns every registered pet type, keyed by name.
+     *
+     * @return an unmodifiable map of pet type names to pet types
+     */
+    public static Map<String, PetType> getRegistry() {
+        return REGISTRY;
+    }
+
+
+    /**
+     * Returns the name of this pet type.
+     *
+     * @return the pet type name
+     */
+    public String getName() {
+        return name;
+    }
+
+
+    /**
+     * Returns the position of this pet type in the registry.
+     *
+     * @return the pet type ordinal
+     */
+    public int getOrdinal() {
+        return ordinal;
+    }
+
+
     /**
      * Gets the multiplier that controls how quickly the pet's health stat declines over time.
      *
@@ -76,4 +168,44 @@ public class PetType {
     public float getHappinessDeclineMultiplier() {
         return happinessDeclineMultiplier;
     }
+
+
+    /**
+     * Returns the health decline rate for this pet type (the base rate scaled by its multiplier).
+     *
+     * @return the health decline rate
+     */
+    public int getHealthDeclineRate() {
+        return Math.round(BASE_DECLINE_RATE * healthDeclineMultiplier);
+    }
+
+
+    /**
+     * Returns the fullness decline rate for this pet type (the base rate scaled by its multiplier).
+     *
+     * @return the fullness decline rate
+     */
+    public int getFullnessDeclineRate() {
+        return Math.round(BASE_DECLINE_RATE * fullnessDeclineMultiplier);
+    }
+
+
+    /**
+     * Returns the sleep decline rate for this pet type (the base rate scaled by its multiplier).
+     *
+     * @return the sleep decline rate
+     */
+    public int getSleepDeclineRate() {
+        return Math.round(BASE_DECLINE_RATE * sleepDeclineMultiplier);
+    }
+
+
+    /**
+     * Returns the happiness decline rate for this pet type (the base rate scaled by its multiplier).
+     *
+     * @return the happiness decline rate
+     */
+    public int getHappinessDeclineRate() {
+        return Math.round(BASE_DECLINE_RATE * happinessDeclineMultiplier);
+    }
 }
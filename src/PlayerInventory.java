@@ -1,6 +1,8 @@
 package src;
 
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
 
@@ -28,17 +30,20 @@ public class PlayerInventory {
     /** Stores the number of coins the player currently has */
     private int playerCoins;
 
-    /** Stores the quantity of each food item the player owns */
-    private final Map<Food, Integer> foodInventory = new HashMap<>();
+    /** Stores the quantity of each food item the player owns, in the order they were first added */
+    private final Map<Food, Integer> foodInventory = new LinkedHashMap<>();
 
-    /** Stores the quantity of each gift item the player owns */
-    private final Map<Gifts, Integer> giftInventory = new HashMap<>();
+    /** Stores the quantity of each gift item the player owns, in the order they were first added */
+    private final Map<Gifts, Integer> giftInventory = new LinkedHashMap<>();
 
-    /** Stores the quantity of each toy item the player owns */
-    private final Map<Toys, Integer> toyInventory = new HashMap<>();
+    /** Stores the quantity of each toy item the player owns, in the order they were first added */
+    private final Map<Toys, Integer> toyInventory = new LinkedHashMap<>();
 
     /** Stores the status of pet outfits */
-    private final Map<String, Boolean> outfitInventory = new HashMap<>();
+    private final Map<String, Boolean> outfitInventory = new LinkedHashMap<>();
+
+    /** Counts every change to the inventory, so autosave can tell when it needs writing */
+    private transient int modCount;
 
 
     /**
@@ -73,6 +78,26 @@ public class PlayerInventory {
     }
 
 
+    /**
+     * Constructs an empty PlayerInventory with no coins and no items.
+     * Used by {@link #createEmpty()}.
+     */
+    private PlayerInventory() {
+    }
+
+
+    /**
+     * Creates an inventory with no coins and no items, for loading a saved game.
+     * Unlike the public constructor nothing is pre-seeded, so the loader fills in exactly
+     * what the save holds instead of overwriting the starting items.
+     *
+     * @return a new, empty inventory
+     */
+    static PlayerInventory createEmpty() {
+        return new PlayerInventory();
+    }
+
+
     /**
      * Retrieves the current number of coins the player has.
      *
@@ -89,10 +114,22 @@ public class PlayerInventory {
      * @param playerCoins  The new coin value to assign to the player.
      */
     public void setPlayerCoins(int playerCoins) {
+        modCount++;
         this.playerCoins = playerCoins;
     }
 
 
+    /**
+     * Returns a counter that goes up every time the inventory changes through this class.
+     * Comparing two readings tells whether the inventory needs saving again.
+     *
+     * @return the inventory's modification count
+     */
+    public int getModCount() {
+        return modCount;
+    }
+
+
     /**
      * Adds a specified quantity of a food item to the player's inventory.
      * If the food item already exists in the inventory, the quantity is increased.
@@ -101,6 +138,7 @@ public class PlayerInventory {
      * @param quantity  The number of units to add to the inventory.
      */
     public void addFood(Food food, int quantity) {
+        modCount++;
         foodInventory.put(food, foodInventory.getOrDefault(food, 0) + quantity);
     }
 
@@ -125,6 +163,7 @@ public class PlayerInventory {
      * @param quantity  The number of units to add to the inventory.
      */
     public void addGift(Gifts gift, int quantity) {
+        modCount++;
         giftInventory.put(gift, giftInventory.getOrDefault(gift, 0) + quantity);
     }
 
@@ -137,6 +176,7 @@ public class PlayerInventory {
      * @param quantity The number of toy units to add.
      */
     public void addToy(Toys toy, int quantity) {
+        modCount++;
         toyInventory.put(toy, toyInventory.getOrDefault(toy, 0) + quantity);
     }
 
@@ -177,6 +217,7 @@ public class PlayerInventory {
         if (count > 0) {
             // Decrease the count of that food by one
             foodInventory.put(food, count - 1);
+            modCount++;
             return true;  // Food was consumed
         }
         // If no food was available, return false
@@ -218,6 +259,7 @@ public class PlayerInventory {
         // Equip the new outfit
         pet.setOutfit(outfitName);
         outfitInventory.put(outfitName, false); // Mark as equipped
+        modCount++;
         System.out.println("Equipped outfit: " + outfitName);
         return true;
     }
@@ -233,6 +275,7 @@ public class PlayerInventory {
         // If the player doesn't own the outfit, mark it as owned
         if (!outfitInventory.containsKey(outfitName)) {
             outfitInventory.put(outfitName, true);  // "true" means the outfit is owned
+            modCount++;
             // If already owned, print a message to avoid duplication
         } else {
             System.out.println("Player already owns " + outfitName);
@@ -254,6 +297,7 @@ public class PlayerInventory {
         if (currentOutfit != null && !currentOutfit.isEmpty()) {
             pet.setOutfit(null); // Remove the outfit
             outfitInventory.put(currentOutfit, true); // Mark it as owned again
+            modCount++;
         } else {
             // No outfit to unequip
             System.out.println("No outfit to unequip.");
@@ -342,6 +386,39 @@ public class PlayerInventory {
     }
 
 
+    /**
+     * Returns the food items the player has at least one of, in the order they were first added.
+     * The order stays the same from one call to the next, so the inventory can be shown page by page.
+     *
+     * @return A new list of the owned food items.
+     */
+    public List<Food> getOwnedFood() {
+        List<Food> owned = new ArrayList<>(foodInventory.size());
+        for (Map.Entry<Food, Integer> entry : foodInventory.entrySet()) {
+            if (entry.getValue() > 0) {
+                owned.add(entry.getKey());
+            }
+        }
+        return owned;
+    }
+
+
+    /**
+     * Returns the toys the player has at least one of, in the order they were first added.
+     *
+     * @return A new list of the owned toys.
+     */
+    public List<Toys> getOwnedToys() {
+        List<Toys> owned = new ArrayList<>(toyInventory.size());
+        for (Map.Entry<Toys, Integer> entry : toyInventory.entrySet()) {
+            if (entry.getValue() > 0) {
+                owned.add(entry.getKey());
+            }
+        }
+        return owned;
+    }
+
+
     /**
      * Retrieves the player's current toy inventory.
      *
@@ -1,7 +1,11 @@
 package src;
 
-import com.google.gson.*;
-import java.lang.reflect.Type;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
 import java.util.Map;
 
 /**
@@ -14,6 +18,7 @@ import java.util.Map;
  * within a player's inventory, including food, toys, gifts, outfits, and coin balance.
  * It uses  supporting adapters such as {@link FoodInventoryAdapter},
  * {@link GiftInventoryAdapter}, and {@link ToyInventoryAdapter} for nested conversions.
+ * Everything is streamed through Gson's reader and writer, so no JSON tree is built.
  * </p>
  *
  * @author
@@ -21,73 +26,128 @@ import java.util.Map;
  * Mohammed Abdulnabi
  * @version 1.0
  */
-public class PlayerInventoryAdapter implements JsonSerializer<PlayerInventory>, JsonDeserializer<PlayerInventory> {
-    /** Store reference for item look up */
-    private final Store store;
+public class PlayerInventoryAdapter extends TypeAdapter<PlayerInventory> {
+    /** Adapters for the item maps inside the inventory */
+    private final FoodInventoryAdapter foodAdapter;
+    private final GiftInventoryAdapter giftAdapter;
+    private final ToyInventoryAdapter toyAdapter;
 
     /**
      * Constructs a new {@code PlayerInventoryAdapter} with the given store instance,
-     * which is used to look up and rebuild item objects during deserialization.
+     * whose catalog is used to look up item objects during deserialization.
      *
      * @param store the {@link Store} object that provides access to standard items
      */
     public PlayerInventoryAdapter(Store store) {
-        this.store = store;
+        this.foodAdapter = new FoodInventoryAdapter(store.getCatalog());
+        this.giftAdapter = new GiftInventoryAdapter(store.getCatalog());
+        this.toyAdapter = new ToyInventoryAdapter(store.getCatalog());
     }
 
     /**
-     * Serializes a {@link PlayerInventory} object into a JSON representation.
+     * Writes a {@link PlayerInventory} object as JSON.
      *
+     * @param out the JSON writer to write to
      * @param inventory the inventory to serialize
-     * @param typeOfSrc the actual type
-     * @param context the context for serialization
-     * @return a {@link JsonElement} containing the full inventory structure
+     * @throws IOException if writing fails
      */
     @Override
-    public JsonElement serialize(PlayerInventory inventory, Type typeOfSrc, JsonSerializationContext context) {
-        JsonObject obj = new JsonObject();
-        obj.addProperty("playerCoins", inventory.getPlayerCoins());
-        obj.add("foodInventory", new FoodInventoryAdapter().serialize(inventory.getFoodInventory(), null, context));
-        obj.add("giftInventory", new GiftInventoryAdapter().serialize(inventory.getGiftInventory(), null, context));
-        obj.add("toyInventory", new ToyInventoryAdapter().serialize(inventory.getToyInventory(), null, context));
-        obj.add("outfitInventory", context.serialize(inventory.getOutfitInventory()));
-        return obj;
+    public void write(JsonWriter out, PlayerInventory inventory) throws IOException {
+        if (inventory == null) {
+            out.nullValue();
+            return;
+        }
+        out.beginObject();
+        out.name("playerCoins").value(inventory.getPlayerCoins());
+        out.name("foodInventory");
+        foodAdapter.write(out, inventory.getFoodInventory());
+        out.name("giftInventory");
+        giftAdapter.write(out, inventory.getGiftInventory());
+        out.name("toyInventory");
+        toyAdapter.write(out, inventory.getToyInventory());
+        out.name("outfitInventory");
+        out.beginObject();
+        for (Map.Entry<String, Boolean> entry : inventory.getOutfitInventory().entrySet()) {
+            out.name(entry.getKey()).value(entry.getValue());
+        }
+        out.endObject();
+        out.endObject();
     }
 
     /**
-     * Deserializes a {@link JsonElement} into a {@link PlayerInventory} object.
+     * Reads a {@link PlayerInventory} object from JSON.
      * Reconstructs all inventory sub-maps and restores the player's coin balance.
+     * The inventory starts out empty, so it holds exactly what was saved.
      *
-     * @param json the JSON data to deserialize
-     * @param typeOfT the target type (not used)
-     * @param context the context for deserialization
-     * @return a fully reconstructed {@link PlayerInventory}
-     * @throws JsonParseException if any part of the JSON is invalid or missing
+     * @param in the JSON reader positioned at the inventory
+     * @return a fully reconstructed {@link PlayerInventory}, or null if the JSON value is null
+     * @throws IOException if any part of the JSON is invalid
      */
     @Override
-    public PlayerInventory deserialize(JsonElement json, Type typeOfT, JsonDeserializationContext context) throws JsonParseException {
-        JsonObject obj = json.getAsJsonObject();
-        PlayerInventory inventory = new PlayerInventory(store);
-
-        if (obj.has("playerCoins")) {
-            inventory.setPlayerCoins(obj.get("playerCoins").getAsInt());
+    public PlayerInventory read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
         }
+        PlayerInventory inventory = PlayerInventory.createEmpty();
 
-        Type foodType = new com.google.gson.reflect.TypeToken<Map<Food, Integer>>() {}.getType();
-        Type giftType = new com.google.gson.reflect.TypeToken<Map<Gifts, Integer>>() {}.getType();
-        Type toyType = new com.google.gson.reflect.TypeToken<Map<Toys, Integer>>() {}.getType();
-        Type outfitType = new com.google.gson.reflect.TypeToken<Map<String, Boolean>>() {}.getType();
+        in.beginObject();
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "playerCoins":
+                    inventory.setPlayerCoins(in.nextInt());
+                    break;
+                case "foodInventory":
+                    putAll(inventory.getFoodInventory(), foodAdapter.read(in));
+                    break;
+                case "giftInventory":
+                    putAll(inventory.getGiftInventory(), giftAdapter.read(in));
+                    break;
+                case "toyInventory":
+                    putAll(inventory.getToyInventory(), toyAdapter.read(in));
+                    break;
+                case "outfitInventory":
+                    readOutfits(in, inventory.getOutfitInventory());
+                    break;
+                default:
+                    in.skipValue();
+                    break;
+            }
+        }
+        in.endObject();
 
-        Map<Food, Integer> foodMap = new FoodInventoryAdapter().deserialize(obj.get("foodInventory"), foodType, context);
-        Map<Gifts, Integer> giftMap = new GiftInventoryAdapter().deserialize(obj.get("giftInventory"), giftType, context);
-        Map<Toys, Integer> toyMap = new ToyInventoryAdapter().deserialize(obj.get("toyInventory"), toyType, context);
-        Map<String, Boolean> outfitMap = context.deserialize(obj.get("outfitInventory"), outfitType);
+        return inventory;
+    }
 
-        inventory.getFoodInventory().putAll(foodMap);
-        inventory.getGiftInventory().putAll(giftMap);
-        inventory.getToyInventory().putAll(toyMap);
-        inventory.getOutfitInventory().putAll(outfitMap);
+    /**
+     * Reads the outfit section (outfit name to owned flag) into the given map.
+     *
+     * @param in the JSON reader positioned at the outfit inventory
+     * @param outfits the map to fill
+     * @throws IOException if the JSON is invalid
+     */
+    private static void readOutfits(JsonReader in, Map<String, Boolean> outfits) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return;
+        }
+        in.beginObject();
+        while (in.hasNext()) {
+            outfits.put(in.nextName(), in.nextBoolean());
+        }
+        in.endObject();
+    }
 
-        return inventory;
+    /**
+     * Copies a read item map into the inventory, ignoring sections saved as null.
+     *
+     * @param target the inventory map to fill
+     * @param source the map that was read (may be null)
+     * @param <K> the item type
+     */
+    private static <K> void putAll(Map<K, Integer> target, Map<K, Integer> source) {
+        if (source != null) {
+            target.putAll(source);
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,190 @@
+package src;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import com.google.gson.reflect.TypeToken;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.lang.reflect.Type;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+
+/**
+ * A small file in the saves folder with a {@link SaveSummary} of every save.
+ *
+ * <p>
+ * The summary of a save is written to the index each time the game is saved, so the load
+ * screen can show every save by reading this one file instead of reading each save in
+ * full. Each summary records the size and last-modified time of its save; a save that was
+ * changed some other way, or has no summary yet, is read in full once and its summary
+ * added. Summaries of saves that no longer exist are dropped.
+ * </p>
+ *
+ * <p>
+ * The index file is read once and then kept in memory. Every change to it is written back
+ * on the given writer, which should be the thread that writes the saves, so the file is
+ * only ever written from one thread and in the same order as the saves themselves.
+ * </p>
+ *
+ * <p>
+ * The index is only a shortcut: if it is missing or cannot be read it is simply rebuilt
+ * from the saves. All methods may be called from any thread.
+ * </p>
+ *
+ * @author Mohammed Abdulnabi
+ * @version 1.0
+ */
+public class SaveIndex {
+    /** Type of the index file's contents */
+    private static final Type ENTRIES_TYPE = new TypeToken<LinkedHashMap<String, SaveSummary>>() {}.getType();
+
+    /** The index file */
+    private final Path indexFile;
+
+    /** Gson used to read and write the summaries */
+    private final Gson gson;
+
+    /** Runs the writes of the index file */
+    private final Executor writer;
+
+    /** The summaries by file name, read from the index file on first use */
+    private Map<String, SaveSummary> entries;
+
+
+    /**
+     * Constructs an index stored in the given file.
+     *
+     * @param indexFile the index file
+     * @param gson Gson used to read and write the summaries
+     * @param writer runs the writes of the index file, in order
+     */
+    public SaveIndex(Path indexFile, Gson gson, Executor writer) {
+        this.indexFile = indexFile;
+        this.gson = gson;
+        this.writer = writer;
+    }
+
+
+    /**
+     * Records the summary of a save that has just been written and writes the index file.
+     * Must be called on the writer thread, after the save file has been written.
+     *
+     * @param saveFile the save file
+     * @param summary the summary of the game in it
+     */
+    public void put(File saveFile, SaveSummary summary) {
+        summary.setFile(saveFile);
+        Map<String, SaveSummary> snapshot;
+        synchronized (this) {
+            entries().put(saveFile.getName(), summary);
+            snapshot = new LinkedHashMap<>(entries);
+        }
+        write(snapshot);
+    }
+
+
+    /**
+     * Returns the summaries of the given saves, in the same order. Saves whose summary is
+     * missing or out of date are read with the given loader, and the updated index is
+     * written on the writer. Saves that cannot be read are left out.
+     *
+     * @param saveFiles the save files
+     * @param loader reads a save in full, returning null if it cannot be read
+     * @return the summaries
+     */
+    public synchronized List<SaveSummary> list(File[] saveFiles, Function<File, SaveSummary> loader) {
+        Map<String, SaveSummary> entries = entries();
+        boolean changed = false;
+        List<SaveSummary> summaries = new ArrayList<>();
+        Set<String> present = new HashSet<>();
+
+        for (File saveFile : saveFiles) {
+            present.add(saveFile.getName());
+            SaveSummary summary = entries.get(saveFile.getName());
+            if (summary != null && summary.isCurrentFor(saveFile)) {
+                summary.attachFile(saveFile);
+            } else {
+                // Changed outside the game (or never indexed): read it once and index it
+                summary = loader.apply(saveFile);
+                if (summary == null) {
+                    changed |= entries.remove(saveFile.getName()) != null;
+                    continue;
+                }
+                summary.setFile(saveFile);
+                entries.put(saveFile.getName(), summary);
+                changed = true;
+            }
+            summaries.add(summary);
+        }
+
+        // Forget saves that have been deleted
+        changed |= entries.keySet().retainAll(present);
+        if (changed) {
+            Map<String, SaveSummary> snapshot = new LinkedHashMap<>(entries);
+            writer.execute(() -> write(snapshot));
+        }
+        return summaries;
+    }
+
+
+    /**
+     * Returns the in-memory summaries, reading the index file the first time.
+     * Must be called while holding this index's lock.
+     *
+     * @return the summaries by file name
+     */
+    private Map<String, SaveSummary> entries() {
+        if (entries == null) {
+            entries = read();
+        }
+        return entries;
+    }
+
+
+    /**
+     * Reads the index file.
+     *
+     * @return the summaries by file name (empty if there is no usable index)
+     */
+    private Map<String, SaveSummary> read() {
+        if (!Files.isRegularFile(indexFile)) {
+            return new LinkedHashMap<>();
+        }
+        try (Reader reader = Files.newBufferedReader(indexFile, StandardCharsets.UTF_8)) {
+            Map<String, SaveSummary> entries = gson.fromJson(reader, ENTRIES_TYPE);
+            return entries != null ? entries : new LinkedHashMap<>();
+        } catch (IOException | JsonParseException e) {
+            System.out.println("Save index unreadable, rebuilding it: " + e.getMessage());
+            return new LinkedHashMap<>();
+        }
+    }
+
+
+    /**
+     * Writes the index file on the calling thread, which should be the writer. A failure is
+     * only reported, since the index can be rebuilt.
+     *
+     * @param entries the summaries by file name
+     */
+    private void write(Map<String, SaveSummary> entries) {
+        try {
+            byte[] json = gson.toJson(entries, ENTRIES_TYPE).getBytes(StandardCharsets.UTF_8);
+            GameDataManager.writeAtomically(indexFile.toString(), ByteBuffer.wrap(json));
+        } catch (IOException e) {
+            System.out.println("Could not write save index: " + e.getMessage());
+        }
+    }
+}
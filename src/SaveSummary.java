@@ -0,0 +1,248 @@
+package src;
+
+import java.io.File;
+
+
+/**
+ * What the load screen shows about a save file, kept in the {@link SaveIndex} so the
+ * screen does not have to read every save in full.
+ *
+ * <p>
+ * A summary holds a few plain values copied from the pet (its name, type, stats and state
+ * flags, but not the inventory), the player's coins and when the game was saved, along with
+ * the size and last-modified time of the save file it was taken from. If the file has
+ * changed since, the summary is out of date and the file is read again.
+ * </p>
+ *
+ * @author Mohammed Abdulnabi
+ * @version 1.0
+ */
+public class SaveSummary {
+    /** Name of the save file in the saves folder */
+    private String fileName;
+
+    /** Last-modified time of the save file when the summary was taken */
+    private long fileModified;
+
+    /** Size of the save file when the summary was taken */
+    private long fileLength;
+
+    /** When the game was saved, in milliseconds (0 if unknown) */
+    private long lastSavedTime;
+
+    /** The player's coins */
+    private int coins;
+
+    /** Name and type of the pet */
+    private String petName;
+    private String petType;
+
+    /** The pet's stats when it was saved */
+    private int health;
+    private int sleep;
+    private int fullness;
+    private int happiness;
+
+    /** Max values for each stat */
+    private int maxHealth;
+    private int maxSleep;
+    private int maxFullness;
+    private int maxHappiness;
+
+    /** State Flags */
+    private boolean sleeping;
+    private boolean hungry;
+    private boolean happy;
+    private boolean dead;
+
+    /** The save file (not stored in the index) */
+    private transient File file;
+
+
+    /**
+     * Constructs an empty summary, used when reading the index.
+     */
+    SaveSummary() {
+    }
+
+
+    /**
+     * Constructs a summary of a game about to be written. Only plain values are copied
+     * from the pet, so later changes to it do not leak into the summary. The file details
+     * are filled in by {@link #setFile(File)} once it has been written.
+     *
+     * @param pet the pet
+     * @param coins the player's coins
+     * @param lastSavedTime when the game was saved
+     */
+    public SaveSummary(Pet pet, int coins, long lastSavedTime) {
+        this.coins = coins;
+        this.lastSavedTime = lastSavedTime;
+        copyPet(pet);
+    }
+
+
+    /**
+     * Returns a copy of this summary with the pet's values replaced, for example by the
+     * same pet after it has been caught up on elapsed time. The file details are kept.
+     *
+     * @param pet the pet to take the values from
+     * @return the new summary
+     */
+    SaveSummary withPet(Pet pet) {
+        SaveSummary copy = new SaveSummary(pet, coins, lastSavedTime);
+        copy.fileName = fileName;
+        copy.fileModified = fileModified;
+        copy.fileLength = fileLength;
+        copy.file = file;
+        return copy;
+    }
+
+
+    /**
+     * Builds a pet from the summary's values. Decline rates come from the pet type;
+     * cooldowns and the outfit are not part of the summary and are left empty.
+     *
+     * @return a new Pet holding the summary's values
+     */
+    Pet toPet() {
+        return new Pet(petName, petType, health, sleep, fullness, happiness,
+                maxHealth, maxSleep, maxFullness, maxHappiness,
+                0, 0, 0, 0,
+                sleeping, hungry, happy, dead,
+                0, 0, 0, 0, null);
+    }
+
+
+    /**
+     * Copies the values the summary keeps from a pet.
+     *
+     * @param pet the pet
+     */
+    private void copyPet(Pet pet) {
+        petName = pet.getName();
+        petType = pet.getPetType();
+        health = pet.getHealth();
+        sleep = pet.getSleep();
+        fullness = pet.getFullness();
+        happiness = pet.getHappiness();
+        maxHealth = pet.getMaxHealth();
+        maxSleep = pet.getMaxSleep();
+        maxFullness = pet.getMaxFullness();
+        maxHappiness = pet.getMaxHappiness();
+        sleeping = pet.isSleeping();
+        hungry = pet.isHungry();
+        happy = pet.isHappy();
+        dead = pet.isMarkedDead();
+    }
+
+
+    /**
+     * Sets the save file this summary describes and records its current size and
+     * last-modified time.
+     *
+     * @param file the save file
+     */
+    void setFile(File file) {
+        this.file = file;
+        this.fileName = file.getName();
+        this.fileModified = file.lastModified();
+        this.fileLength = file.length();
+    }
+
+
+    /**
+     * Points the summary at its save file without changing the recorded details.
+     *
+     * @param file the save file
+     */
+    void attachFile(File file) {
+        this.file = file;
+    }
+
+
+    /**
+     * Checks whether the summary still describes a save file, i.e. the file has the
+     * same size and last-modified time as when the summary was taken. Summaries written
+     * by an older version of the game, without the pet's name, never match.
+     *
+     * @param file the save file
+     * @return true if the summary is up to date
+     */
+    public boolean isCurrentFor(File file) {
+        return petName != null
+                && file.getName().equals(fileName)
+                && file.lastModified() == fileModified
+                && file.length() == fileLength;
+    }
+
+
+    /**
+     * Returns the save file.
+     *
+     * @return the save file
+     */
+    public File getFile() {
+        return file;
+    }
+
+
+    /**
+     * Returns the name of the save file.
+     *
+     * @return the file name
+     */
+    public String getFileName() {
+        return fileName;
+    }
+
+
+    /**
+     * Returns the pet's name.
+     *
+     * @return the pet's name
+     */
+    public String getPetName() {
+        return petName;
+    }
+
+
+    /**
+     * Returns the pet's type.
+     *
+     * @return the pet's type
+     */
+    public String getPetType() {
+        return petType;
+    }
+
+
+    /**
+     * Returns the pet's health.
+     *
+     * @return the pet's health
+     */
+    public int getHealth() {
+        return health;
+    }
+
+
+    /**
+     * Returns the player's coins.
+     *
+     * @return the coins
+     */
+    public int getCoins() {
+        return coins;
+    }
+
+
+    /**
+     * Returns when the game was saved.
+     *
+     * @return the save time in milliseconds (0 if unknown)
+     */
+    public long getLastSavedTime() {
+        return lastSavedTime;
+    }
+}
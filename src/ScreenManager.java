@@ -0,0 +1,245 @@
+package src;
+
+import javax.swing.AbstractButton;
+import javax.swing.JComponent;
+import javax.swing.JLabel;
+import javax.swing.JPanel;
+import java.awt.CardLayout;
+import java.awt.Component;
+import java.awt.Container;
+import java.awt.event.ActionListener;
+import java.awt.event.MouseListener;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+
+/**
+ * Builds, caches and throws away the screens shown in the main window's {@link CardLayout}.
+ *
+ * <p>
+ * Each screen is registered under its card name together with a factory. A screen is only
+ * built the first time it is shown, and is then kept so going back to it is instant. Only
+ * the few most recently shown screens are kept; when more are built, the least recently
+ * shown one is removed from the window and released: its timers are stopped (see
+ * {@link DisposableScreen}), and the listeners and images of its buttons and labels are
+ * dropped, so nothing keeps the old component tree alive. The screen is simply built again
+ * if it is shown later. Pinned screens (e.g. the home screen) are never released.
+ * </p>
+ *
+ * <p>
+ * Like the rest of the UI, all methods must be called on the Swing event thread.
+ * </p>
+ *
+ * @author Mohammed Abdulnabi
+ * @version 1.0
+ */
+public class ScreenManager {
+    /** Default number of unpinned screens kept at once */
+    public static final int DEFAULT_CACHE_SIZE = 2;
+
+    /** Panel holding the screens */
+    private final JPanel mainPanel;
+
+    /** Layout used to switch between the screens */
+    private final CardLayout cardLayout;
+
+    /** Number of unpinned screens kept at once */
+    private final int cacheSize;
+
+    /** Factories of the registered screens, by card name */
+    private final Map<String, Supplier<? extends JComponent>> factories = new HashMap<>();
+
+    /** Card names of the screens that are never released */
+    private final Set<String> pinned = new HashSet<>();
+
+    /** Screens that have been built, least recently shown first */
+    private final LinkedHashMap<String, JComponent> built = new LinkedHashMap<>(16, 0.75f, true);
+
+    /** Card name of the screen being shown */
+    private String current;
+
+
+    /**
+     * Constructs a screen manager for a panel.
+     *
+     * @param mainPanel the panel holding the screens
+     * @param cardLayout the layout of that panel
+     * @param cacheSize how many unpinned screens to keep at once (at least 1)
+     */
+    public ScreenManager(JPanel mainPanel, CardLayout cardLayout, int cacheSize) {
+        this.mainPanel = mainPanel;
+        this.cardLayout = cardLayout;
+        this.cacheSize = Math.max(1, cacheSize);
+    }
+
+
+    /**
+     * Registers a screen that is built the first time it is shown.
+     *
+     * @param name the card name of the screen
+     * @param factory builds the screen
+     */
+    public void register(String name, Supplier<? extends JComponent> factory) {
+        factories.put(name, factory);
+    }
+
+
+    /**
+     * Registers a screen that is built the first time it is shown and never released.
+     *
+     * @param name the card name of the screen
+     * @param factory builds the screen
+     */
+    public void registerPinned(String name, Supplier<? extends JComponent> factory) {
+        register(name, factory);
+        pinned.add(name);
+    }
+
+
+    /**
+     * Adds a screen that was built elsewhere. It replaces (and releases) any screen with
+     * the same name, and is never released by the cache.
+     *
+     * @param name the card name of the screen
+     * @param screen the screen
+     */
+    public void add(String name, JComponent screen) {
+        JComponent old = built.remove(name);
+        if (old != null && old != screen) {
+            release(old);
+        }
+        pinned.add(name);
+        built.put(name, screen);
+        mainPanel.add(screen, name);
+    }
+
+
+    /**
+     * Checks whether a screen has been built and is still kept.
+     *
+     * @param name the card name of the screen
+     * @return true if the screen exists right now
+     */
+    public boolean isBuilt(String name) {
+        return built.containsKey(name);
+    }
+
+
+    /**
+     * Returns a screen, building it if needed, without showing it.
+     *
+     * @param name the card name of the screen
+     * @return the screen, or null if no screen is registered under that name
+     */
+    public JComponent get(String name) {
+        JComponent screen = built.get(name);
+        if (screen == null) {
+            Supplier<? extends JComponent> factory = factories.get(name);
+            if (factory == null) {
+                return null;
+            }
+            screen = factory.get();
+            built.put(name, screen);
+            mainPanel.add(screen, name);
+            evict();
+        }
+        return screen;
+    }
+
+
+    /**
+     * Shows a screen, building it first if it has not been built or was released.
+     * Names that are not managed are passed straight to the card layout.
+     *
+     * @param name the card name of the screen
+     */
+    public void show(String name) {
+        if (get(name) != null) {
+            current = name;
+        }
+        cardLayout.show(mainPanel, name);
+    }
+
+
+    /**
+     * Releases a screen so it is built again, with fresh data, the next time it is shown.
+     *
+     * @param name the card name of the screen
+     */
+    public void reload(String name) {
+        JComponent screen = built.remove(name);
+        if (screen != null) {
+            release(screen);
+        }
+    }
+
+
+    /**
+     * Releases the least recently shown unpinned screens until no more than the cache size
+     * are kept. The screen being shown is never released.
+     */
+    private void evict() {
+        List<String> unpinned = new ArrayList<>();
+        for (String name : built.keySet()) {
+            if (!pinned.contains(name)) {
+                unpinned.add(name);
+            }
+        }
+        for (int i = 0; i < unpinned.size() - cacheSize; i++) {
+            String name = unpinned.get(i);
+            if (!name.equals(current)) {
+                release(built.remove(name));
+            }
+        }
+    }
+
+
+    /**
+     * Removes a screen from the panel and releases what it holds.
+     *
+     * @param screen the screen to release
+     */
+    private void release(JComponent screen) {
+        if (screen instanceof DisposableScreen) {
+            ((DisposableScreen) screen).dispose();
+        }
+        mainPanel.remove(screen);
+        releaseComponents(screen);
+        screen.getActionMap().clear();
+        screen.getInputMap(JComponent.WHEN_IN_FOCUSED_WINDOW).clear();
+    }
+
+
+    /**
+     * Drops the listeners of every button and the images of every button and label
+     * inside a container, so they no longer hold on to the screen or its images.
+     *
+     * @param container the container to clear
+     */
+    private static void releaseComponents(Container container) {
+        for (Component component : container.getComponents()) {
+            if (component instanceof AbstractButton) {
+                AbstractButton button = (AbstractButton) component;
+                for (ActionListener listener : button.getActionListeners()) {
+                    button.removeActionListener(listener);
+                }
+                for (MouseListener listener : button.getMouseListeners()) {
+                    button.removeMouseListener(listener);
+                }
+                button.setIcon(null);
+                button.setPressedIcon(null);
+            } else if (component instanceof JLabel) {
+                ((JLabel) component).setIcon(null);
+            }
+            if (component instanceof Container) {
+                releaseComponents((Container) component);
+            }
+        }
+    }
+}
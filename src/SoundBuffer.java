@@ -0,0 +1,158 @@
+package src;
+
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioInputStream;
+import javax.sound.sampled.AudioSystem;
+import javax.sound.sampled.UnsupportedAudioFileException;
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+
+/**
+ * A sound decoded into memory, ready to be mixed by the {@link AudioMixer}.
+ *
+ * <p>
+ * Whatever the format of the WAV file, the samples are converted once, when the sound is
+ * decoded, into the mixer's format: 16-bit stereo at {@link AudioMixer#SAMPLE_RATE}.
+ * Mono sounds are copied to both channels, and sounds recorded at another rate are
+ * resampled. Playing the sound afterwards is only a matter of adding the samples up.
+ * </p>
+ *
+ * @author Aya Abdulnabi
+ * @author Mohammed Abdulnabi
+ * @version 1.0
+ */
+public final class SoundBuffer {
+    /** Interleaved left/right samples */
+    private final short[] samples;
+
+
+    /**
+     * Constructs a sound buffer from samples already in the mixer's format.
+     *
+     * @param samples interleaved left/right 16-bit samples
+     */
+    SoundBuffer(short[] samples) {
+        this.samples = samples;
+    }
+
+
+    /**
+     * Decodes an audio stream (e.g. a WAV file) into the mixer's format.
+     *
+     * @param in the audio data; it is read to the end but not closed
+     * @return the decoded sound
+     * @throws IOException if the stream cannot be read
+     * @throws UnsupportedAudioFileException if the audio format is not supported
+     */
+    public static SoundBuffer decode(InputStream in) throws IOException, UnsupportedAudioFileException {
+        try (AudioInputStream source = AudioSystem.getAudioInputStream(new BufferedInputStream(in))) {
+            AudioFormat format = source.getFormat();
+            int channels = format.getChannels();
+            float rate = format.getSampleRate();
+
+            // Let Java Sound deal with sample size, signedness and byte order
+            AudioFormat pcm = new AudioFormat(AudioFormat.Encoding.PCM_SIGNED, rate, 16, channels, channels * 2, rate, false);
+            byte[] bytes;
+            try (AudioInputStream converted = AudioSystem.getAudioInputStream(pcm, source)) {
+                bytes = readAll(converted);
+            }
+
+            // Pick out the left and right channel (mono is copied to both)
+            int frames = bytes.length / (channels * 2);
+            short[] stereo = new short[frames * 2];
+            for (int frame = 0; frame < frames; frame++) {
+                int offset = frame * channels * 2;
+                short left = (short) ((bytes[offset] & 0xFF) | (bytes[offset + 1] << 8));
+                short right = left;
+                if (channels > 1) {
+                    right = (short) ((bytes[offset + 2] & 0xFF) | (bytes[offset + 3] << 8));
+                }
+                stereo[frame * 2] = left;
+                stereo[frame * 2 + 1] = right;
+            }
+            return new SoundBuffer(resample(stereo, rate, AudioMixer.SAMPLE_RATE));
+        }
+    }
+
+
+    /**
+     * Returns the number of sample frames (one left and one right sample each).
+     *
+     * @return the length of the sound in frames
+     */
+    public int getFrameCount() {
+        return samples.length / 2;
+    }
+
+
+    /**
+     * Returns the length of the sound.
+     *
+     * @return the length in milliseconds
+     */
+    public long getDurationMillis() {
+        return getFrameCount() * 1000L / AudioMixer.SAMPLE_RATE;
+    }
+
+
+    /**
+     * Returns the samples. The array is shared and must not be changed.
+     *
+     * @return interleaved left/right samples
+     */
+    short[] samples() {
+        return samples;
+    }
+
+
+    /**
+     * Resamples stereo samples to another rate by linear interpolation.
+     *
+     * @param stereo interleaved left/right samples
+     * @param fromRate the rate the samples were recorded at
+     * @param toRate the rate to convert to
+     * @return the resampled samples (the same array if the rates match)
+     */
+    private static short[] resample(short[] stereo, float fromRate, int toRate) {
+        if (Math.round(fromRate) == toRate || stereo.length == 0) {
+            return stereo;
+        }
+        int inFrames = stereo.length / 2;
+        int outFrames = (int) ((long) inFrames * toRate / fromRate);
+        short[] out = new short[outFrames * 2];
+        double step = fromRate / toRate;
+        for (int frame = 0; frame < outFrames; frame++) {
+            double position = frame * step;
+            int index = (int) position;
+            int next = Math.min(index + 1, inFrames - 1);
+            double fraction = position - index;
+            for (int channel = 0; channel < 2; channel++) {
+                int a = stereo[index * 2 + channel];
+                int b = stereo[next * 2 + channel];
+                out[frame * 2 + channel] = (short) Math.round(a + (b - a) * fraction);
+            }
+        }
+        return out;
+    }
+
+
+    /**
+     * Reads a stream to the end.
+     *
+     * @param in the stream
+     * @return everything that was read
+     * @throws IOException if the stream cannot be read
+     */
+    private static byte[] readAll(InputStream in) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] chunk = new byte[8192];
+        int read;
+        while ((read = in.read(chunk)) != -1) {
+            out.write(chunk, 0, read);
+        }
+        return out.toByteArray();
+    }
+}
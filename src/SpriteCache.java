@@ -0,0 +1,112 @@
+package src;
+
+import javax.swing.Icon;
+
+
+/**
+ * Cache of the pet animation GIFs shown on the in-game screen.
+ *
+ * <p>
+ * A sprite is identified by the pet type, whether the pet is wearing an outfit, and the
+ * state or action being shown (e.g., Idle, Hungry, Eating). Each sprite file is decoded
+ * into animation frames through {@link ImageAssets} the first time it is asked for, and the
+ * same icon is handed out after that, so switching between states does not touch the disk
+ * again. The sprites are played by the shared {@link AnimationClock}.
+ * </p>
+ *
+ * <p>
+ * A game only ever shows one pet type, so sprites are decoded per type: {@link #preload}
+ * decodes one pet's set in the background when a game is entered. The decoded frames are
+ * kept in the bounded animation cache of {@link ImageAssets}, so the sprites of a pet type
+ * that is no longer played are dropped once another type's are needed.
+ * </p>
+ *
+ * @author Mohammed Abdulnabi
+ * @version 1.0
+ */
+public final class SpriteCache {
+    /** Every state or action a pet has a sprite for */
+    private static final String[] STATES = {
+            "Idle", "Hungry", "Sleep", "Angry", "Dead", "Eating", "Playing", "Exercising"
+    };
+
+    /**
+     * Private constructor, this class only has static helpers.
+     */
+    private SpriteCache() {
+    }
+
+
+    /**
+     * Returns the sprite for a pet type, outfit status and state.
+     *
+     * @param petType the pet type (e.g., PetOption1)
+     * @param wearingOutfit whether the pet is wearing an outfit
+     * @param state the state or action to show (e.g., Idle, Hungry, Eating)
+     * @return the cached sprite
+     */
+    public static Icon getSprite(String petType, boolean wearingOutfit, String state) {
+        return getSprite(spritePath(petType, wearingOutfit, state));
+    }
+
+
+    /**
+     * Returns the sprite stored in the given file, loading it the first time.
+     *
+     * @param path the path to the GIF file
+     * @return the cached sprite
+     */
+    public static Icon getSprite(String path) {
+        return ImageAssets.getAnimation(path);
+    }
+
+
+    /**
+     * Starts decoding every sprite of a pet type on worker threads, so the game finds them
+     * ready when the pet changes state. Only the set matching the outfit status is decoded;
+     * the other set is decoded on demand if the pet puts on or takes off an outfit. A sprite
+     * asked for while its decode is still running waits for it rather than decoding it again.
+     *
+     * @param petType the pet type (e.g., PetOption1)
+     * @param wearingOutfit whether the pet is wearing an outfit
+     * @return the running preloader
+     */
+    public static AssetPreloader preload(String petType, boolean wearingOutfit) {
+        String[] paths = new String[STATES.length];
+        for (int i = 0; i < STATES.length; i++) {
+            paths[i] = spritePath(petType, wearingOutfit, STATES[i]);
+        }
+        return AssetPreloader.start(paths);
+    }
+
+
+    /**
+     * Builds the file path of a pet sprite, e.g. {@code resources/PetOneOutfit_Idle.gif}.
+     *
+     * @param petType the pet type (e.g., PetOption1)
+     * @param wearingOutfit whether the pet is wearing an outfit
+     * @param state the state or action to show
+     * @return the path to the sprite file
+     */
+    public static String spritePath(String petType, boolean wearingOutfit, String state) {
+        return "resources/" + baseName(petType) + (wearingOutfit ? "Outfit_" : "_") + state + ".gif";
+    }
+
+
+    /**
+     * Returns the sprite file prefix for a pet type.
+     *
+     * @param petType the pet type (e.g., PetOption1)
+     * @return the file prefix (e.g., PetOne)
+     */
+    public static String baseName(String petType) {
+        if ("PetOption1".equals(petType)) {
+            return "PetOne";
+        } else if ("PetOption2".equals(petType)) {
+            return "PetTwo";
+        } else if ("PetOption3".equals(petType)) {
+            return "PetThree";
+        }
+        return "Pet";  // Use default if the type isn't recognized
+    }
+}
@@ -1,12 +1,11 @@
 package src;
-import java.util.HashMap;
 import java.util.Map;
 
 
 /**
  * Provides a store for managing in-game items such as food, toys, and gifts.
  * <p>
- * The Store class loads default items into three collections (food, toys, and gifts)
+ * The Store class sells the items of the shared {@link ItemCatalog} (food, toys, and gifts)
  * and offers methods for retrieving items, checking item availability, and processing
  * purchases by updating a player's inventory.
  * </p>
@@ -17,6 +16,8 @@ import java.util.Map;
  * @version 1.0
  */
 public class Store {
+    /** Catalog the store sells from */
+    private final ItemCatalog catalog;
     /** Maps to the food item based on ID */
     private final Map<String, Food> foodMap;
     /** Maps to the gift item based on ID */
@@ -26,34 +27,24 @@ public class Store {
 
 
     /**
-     * Constructs a new Store and loads default food, toy, and gift items.
+     * Constructs a new Store selling the default food, toy, and gift items.
+     * The items come from the shared {@link ItemCatalog}, so no item objects are created.
      */
     public Store() {
+        this.catalog = ItemCatalog.getShared();
+        foodMap = catalog.getAllFood();
+        toysMap = catalog.getAllToys();
+        giftsMap = catalog.getAllGifts();
+    }
 
-        /* Load in Default food items */
-        foodMap = new HashMap<>();
-        foodMap.put("Orange", new Food("Orange", 50, 5, "A tangy, sweet taste!"));
-        foodMap.put("Bunny Cookie", new Food("Bunny Cookie", 60, 6, "Jumps around in your mouth!"));
-        foodMap.put("Swiss Roll", new Food("Swiss Roll", 200, 20, "Sweet swirls of joy"));
-        foodMap.put("Carrot Cake", new Food("Carrot Cake", 350, 35, "With uncomfortably orange carrot icing"));
-        foodMap.put("Lamb Chop", new Food("Lamb Chop", 1100, 100, "The fanciest bite in town!"));
-        foodMap.put("Chicken", new Food("Chicken",  650,65, "A complete feast for your soul"));
-
-        /* Load in Default toy items */
-        toysMap = new HashMap<>();
-        toysMap.put("Wand", new Toys("Wand",199, "For aspiring magicians!"));
-        toysMap.put("Stuffed Animal", new Toys("Stuffed Animal",299, "Slightly lumpy from all that love!"));
-        toysMap.put("Unicorn Balloon", new Toys("Unicorn Balloon",349, "Hold on tight so it doesn't fly away!"));
-        toysMap.put("Fan", new Toys("Fan",249, "Who knew wind could be this fun?"));
-        toysMap.put("Basketball", new Toys("Basketball",199, "Perfect for indoor slam dunks"));
-        toysMap.put("Guitar", new Toys("Guitar",299,"Perfect  for shredding... literally!"));
-
-        /* Load in default gifts */
-        giftsMap = new HashMap<>();
-        giftsMap.put("outfit1", new Gifts("outfit1", 3000));
-        giftsMap.put("outfit2", new Gifts("outfit2", 3000));
-        giftsMap.put("outfit3", new Gifts("outfit3", 3000));
 
+    /**
+     * Returns the catalog this store sells from.
+     *
+     * @return the item catalog
+     */
+    public ItemCatalog getCatalog() {
+        return catalog;
     }
 
 
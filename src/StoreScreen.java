@@ -104,6 +104,23 @@ public class StoreScreen extends JLayeredPane {
     }
 
 
+    /**
+     * Points the store at another game without rebuilding its pages.
+     * The item buttons read the game data when clicked, so only the coin display
+     * and page need to be refreshed.
+     *
+     * @param gameData     The game data whose inventory purchases go to.
+     * @param saveFilePath The save file of that game.
+     */
+    public void rebind(GameData gameData, String saveFilePath) {
+        this.gameData = gameData;
+        this.playerInventory = gameData.getInventory();
+        this.saveFilePath = saveFilePath;
+        resetToFirstPage();
+        updateCoinDisplay();
+    }
+
+
     /**
      * Prints debug information about the player's inventory and main panel components.
      *
@@ -176,31 +193,9 @@ public class StoreScreen extends JLayeredPane {
     private void setupHomeButton() {
         // Create the home button to bring you back to the InGame screeen
         JButton homeButton = MainScreen.buttonCreate(800, 50, 192, 64, "resources/home_button.png", "resources/home_button_clicked.png", "InGame");
-        homeButton.addActionListener(e -> {
-            resetToFirstPage();
-
-            // Save updated inventory only so health doesnt get overwritten
-            System.out.println("Calling saveInventoryToGameFile from StoreScreen...");
-            GameDataManager.saveInventoryToGameFile(saveFilePath, gameData.getInventory());
-
-            // Reload the full GameData (including inventory updates)
-            GameData updatedGameData = GameDataManager.loadGame(saveFilePath);
-
-            // Remove the old InGameScreen instance
-            for (Component comp : mainPanel.getComponents()) {
-                if (comp instanceof InGameScreen) {
-                    mainPanel.remove(comp);
-                    break;
-                }
-            }
-
-            // Create and add a new InGameScreen with fresh data
-            InGameScreen newInGameScreen = new InGameScreen(customFont, mainCardLayout, mainPanel, updatedGameData, saveFilePath);
-            mainPanel.add(newInGameScreen, "InGameScreen");
-
-            // Show the new screen
-            mainCardLayout.show(mainPanel, "InGameScreen");
-        });
+        // The InGame screen shares this screen's game data, so purchases are already there
+        // and its autosave writes them to disk; the button itself switches back to it
+        homeButton.addActionListener(e -> resetToFirstPage());
 
         add(homeButton, Integer.valueOf(3));
         allButtons.add(homeButton);
@@ -211,7 +206,7 @@ public class StoreScreen extends JLayeredPane {
      * Adds the exit icon image to the store UI (decorative only).
      */
     private void setupExitIcon() {
-        ImageIcon exitIcon = new ImageIcon("resources/exit_store.png");
+        ImageIcon exitIcon = ImageAssets.getIcon("resources/exit_store.png");
         JLabel exitLabel = new JLabel(exitIcon);
 
         int xPos = 800 + (192 - 24) / 2;
@@ -273,7 +268,7 @@ public class StoreScreen extends JLayeredPane {
      */
     private JButton createNavButton(String imagePath, int x, int y) {
         // Create the buttons and make them have a sound when clicked on them
-        JButton button = new JButton(new ImageIcon(imagePath));
+        JButton button = new JButton(ImageAssets.getIcon(imagePath));
         button.setBounds(x, y, 64, 64);
         button.setOpaque(false);
         button.setContentAreaFilled(false);
@@ -309,20 +304,20 @@ public class StoreScreen extends JLayeredPane {
      */
     private void setupBackground() {
         // Default background
-        ImageIcon background = new ImageIcon("resources/grid.png");
+        ImageIcon background = ImageAssets.getIcon("resources/grid.png");
         JLabel backgroundLabel = new JLabel(background);
         backgroundLabel.setBounds(0, 0, 1080, 750);
         add(backgroundLabel, Integer.valueOf(0));
 
         // Default shop image
-        ImageIcon shopBG = new ImageIcon("resources/shop_bg.png");
+        ImageIcon shopBG = ImageAssets.getIcon("resources/shop_bg.png");
         JLabel bgLabel = new JLabel(shopBG);
         bgLabel.setBounds(0, -15, 1080, 750);
         add(bgLabel, Integer.valueOf(1));
 
         // Text inside the shop_bg
         JLabel shopText = new JLabel("SHOP");
-        shopText.setFont(customFont.deriveFont(Font.BOLD, 18f));
+        shopText.setFont(FontRegistry.getFont(Font.BOLD, 18f));
         shopText.setForeground(Color.BLACK);
         shopText.setBounds(500, 70, 200, 30);
         add(shopText, Integer.valueOf(3)); // Higher layer to appear above background
@@ -506,7 +501,7 @@ public class StoreScreen extends JLayeredPane {
         // Price label
         JLabel priceLabel = new JLabel(String.valueOf(price), SwingConstants.CENTER);
         priceLabel.setBounds(5, 175, 165, 30);
-        priceLabel.setFont(customFont.deriveFont(Font.BOLD, 16f));
+        priceLabel.setFont(FontRegistry.getFont(Font.BOLD, 16f));
         priceLabel.setForeground(Color.BLACK);
         priceLabel.setOpaque(false);
 
@@ -564,9 +559,7 @@ public class StoreScreen extends JLayeredPane {
      */
     private ImageIcon loadAndScaleImage(String path, int width, int height) {
         try {
-            ImageIcon originalIcon = new ImageIcon(path);
-            Image scaledImage = originalIcon.getImage().getScaledInstance(width, height, Image.SCALE_SMOOTH);
-            return new ImageIcon(scaledImage);
+            return ImageAssets.getScaledIcon(path, width, height);
         } catch (Exception e) {
             System.out.println("Error loading image: " + path);
             return null;
@@ -651,7 +644,7 @@ public class StoreScreen extends JLayeredPane {
         popup.setOpaque(false);
 
         // Background image
-        JLabel popupImage = new JLabel(new ImageIcon("resources/store_popup.png"));
+        JLabel popupImage = new JLabel(ImageAssets.getIcon("resources/store_popup.png"));
         popupImage.setBounds(0, 0, 336, 579);
         popup.add(popupImage, Integer.valueOf(0));
 
@@ -665,7 +658,7 @@ public class StoreScreen extends JLayeredPane {
         // Item name
         JLabel nameLabel = new JLabel(itemName, SwingConstants.CENTER);
         nameLabel.setBounds(0, 240, 336, 30);
-        nameLabel.setFont(customFont.deriveFont(Font.BOLD, 18f));
+        nameLabel.setFont(FontRegistry.getFont(Font.BOLD, 18f));
         popup.add(nameLabel, Integer.valueOf(1));
 
         // Initialize description and stats
@@ -704,7 +697,7 @@ public class StoreScreen extends JLayeredPane {
 
         JTextArea descArea = new JTextArea(description);
         descArea.setBounds(40, 360, 275, 70);
-        descArea.setFont(customFont.deriveFont(Font.PLAIN, 15f));
+        descArea.setFont(FontRegistry.getFont(Font.PLAIN, 15f));
         descArea.setLineWrap(true);
         descArea.setWrapStyleWord(true);
         descArea.setOpaque(false);
@@ -715,7 +708,7 @@ public class StoreScreen extends JLayeredPane {
         // Stats
         JLabel statsLabel = new JLabel(stats, SwingConstants.CENTER);
         statsLabel.setBounds(0, 460, 336, 70);
-        statsLabel.setFont(customFont.deriveFont(Font.BOLD, 14f));
+        statsLabel.setFont(FontRegistry.getFont(Font.BOLD, 14f));
         popup.add(statsLabel, Integer.valueOf(1));
 
         JButton buyButton = new JButton("Buy");
@@ -849,9 +842,7 @@ public class StoreScreen extends JLayeredPane {
 
 
         // Load and scale the coin display image
-        ImageIcon originalCoinIcon = new ImageIcon("resources/coins_display.png");
-        Image scaledCoinImage = originalCoinIcon.getImage().getScaledInstance(190, 46, Image.SCALE_SMOOTH);
-        ImageIcon scaledCoinIcon = new ImageIcon(scaledCoinImage);
+        ImageIcon scaledCoinIcon = ImageAssets.getScaledIcon("resources/coins_display.png", 190, 46);
 
         // Create the label with scaled image
         JLabel coinDisplayLabel = new JLabel(scaledCoinIcon);
@@ -861,7 +852,7 @@ public class StoreScreen extends JLayeredPane {
         // Update coin count
         int coins = gameData.getInventory().getPlayerCoins();
         coinLabel = new JLabel(String.valueOf(coins));
-        coinLabel.setFont(customFont.deriveFont(Font.BOLD, 17f));
+        coinLabel.setFont(FontRegistry.getFont(Font.BOLD, 17f));
         coinLabel.setForeground(Color.BLACK);
         coinLabel.setBounds(80, 30, 100, 30);
         add(coinLabel, Integer.valueOf(4));
@@ -899,7 +890,7 @@ public class StoreScreen extends JLayeredPane {
 
         // Create styled button
         JButton okButton = new JButton("OK");
-        okButton.setFont(customFont.deriveFont(Font.BOLD, 14f));
+        okButton.setFont(FontRegistry.getFont(Font.BOLD, 14f));
         okButton.setForeground(Color.WHITE);
 
         if (isError) {
@@ -1,8 +1,11 @@
 package src;
 
-import com.google.gson.*;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
 
-import java.lang.reflect.Type;
+import java.io.IOException;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -12,10 +15,10 @@ import java.util.Map;
  * Provides custom serialization and deserialization logic for a {@code Map<Toys, Integer>} using Gson.
  *
  * <p>
- * This adapter converts the toy inventory into a simplified JSON object where
+ * This adapter writes the toy inventory as a simplified JSON object where
  * each toy's name is used as a key and its quantity as the value. During deserialization,
- * the adapter reconstructs the toy objects by using the {@link Store} class to look up
- * toys by name.
+ * the adapter looks the shared toy objects up by name in the {@link ItemCatalog}. Both directions stream through Gson's reader and writer without building
+ * a JSON tree.
  * </p>
  *
  * @author
@@ -23,48 +26,73 @@ import java.util.Map;
  * Mohammed Abdulnabi
  * @version 1.0
  */
-public class ToyInventoryAdapter implements JsonSerializer<Map<Toys, Integer>>, JsonDeserializer<Map<Toys, Integer>> {
+public class ToyInventoryAdapter extends TypeAdapter<Map<Toys, Integer>> {
+    /** Catalog the toy items are looked up in */
+    private final ItemCatalog catalog;
 
     /**
-     * Serializes a {@code Map<Toys, Integer>} into a {@link JsonObject}, using the toy names
+     * Constructs an adapter that looks items up in the shared {@link ItemCatalog}.
+     */
+    public ToyInventoryAdapter() {
+        this(ItemCatalog.getShared());
+    }
+
+    /**
+     * Constructs an adapter that looks items up in the given catalog.
+     *
+     * @param catalog the catalog to look items up in
+     */
+    public ToyInventoryAdapter(ItemCatalog catalog) {
+        this.catalog = catalog;
+    }
+
+    /**
+     * Writes a {@code Map<Toys, Integer>} as a JSON object, using the toy names
      * as keys and their quantities as values.
      *
+     * @param out the JSON writer to write to
      * @param toyMap the toy inventory map to serialize
-     * @param type the type of the map
-     * @param context the serialization context
-     * @return a {@link JsonElement} representing the toy inventory in JSON format
+     * @throws IOException if writing fails
      */
     @Override
-    public JsonElement serialize(Map<Toys, Integer> toyMap, Type type, JsonSerializationContext context) {
-        JsonObject obj = new JsonObject();
+    public void write(JsonWriter out, Map<Toys, Integer> toyMap) throws IOException {
+        if (toyMap == null) {
+            out.nullValue();
+            return;
+        }
+        out.beginObject();
         for (Map.Entry<Toys, Integer> entry : toyMap.entrySet()) {
-            obj.add(entry.getKey().getName(), new JsonPrimitive(entry.getValue()));
+            out.name(entry.getKey().getName()).value(entry.getValue());
         }
-        return obj;
+        out.endObject();
     }
 
     /**
-     * Deserializes a {@link JsonElement} back into a {@code Map<Toys, Integer>}, using a
-     * {@link Store} to reconstruct toy objects by name.
+     * Reads a JSON object back into a {@code Map<Toys, Integer>}, looking the
+     * toys up by name in the {@link ItemCatalog}.
      *
-     * @param json the JSON data to deserialize
-     * @param type the expected type
-     * @param context the deserialization context
-     * @return a reconstructed map of toys and their quantities
-     * @throws JsonParseException if the input JSON is invalid
+     * @param in the JSON reader positioned at the toy inventory
+     * @return a reconstructed map of toys and their quantities, or null if the JSON value is null
+     * @throws IOException if the input JSON is invalid
      */
     @Override
-    public Map<Toys, Integer> deserialize(JsonElement json, Type type, JsonDeserializationContext context) throws JsonParseException {
+    public Map<Toys, Integer> read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
         Map<Toys, Integer> toyMap = new HashMap<>();
-        Store store = new Store(); // to retrieve Toys by name
 
-        JsonObject obj = json.getAsJsonObject();
-        for (Map.Entry<String, JsonElement> entry : obj.entrySet()) {
-            Toys toy = store.getToy(entry.getKey());
+        in.beginObject();
+        while (in.hasNext()) {
+            Toys toy = catalog.getToy(in.nextName());
             if (toy != null) {
-                toyMap.put(toy, entry.getValue().getAsInt());
+                toyMap.put(toy, in.nextInt());
+            } else {
+                in.skipValue();
             }
         }
+        in.endObject();
         return toyMap;
     }
-}
\ No newline at end of file
+}
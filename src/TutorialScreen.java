@@ -4,8 +4,6 @@ import javax.swing.*;
 import java.awt.*;
 import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
-import java.io.IOException;
-import java.io.InputStream;
 /**
  * This class constructs the tutorial screen UI for the Virtual Pet application.
  *<p>
@@ -39,17 +37,6 @@ public class TutorialScreen extends JLayeredPane {
         // set the custom font and the dimensions of the screen
         this.customFont = customFont;
         setPreferredSize(new Dimension(1080, 750));
-        try {
-            InputStream fontStream = getClass().getResourceAsStream("/Early GameBoy.ttf");
-            if (fontStream == null) {
-                throw new IOException("Font file not found!");
-            }
-            this.customFont = Font.createFont(Font.TRUETYPE_FONT, fontStream).deriveFont(16f);
-        } catch (IOException | FontFormatException e) {
-            e.printStackTrace();
-            System.out.println("Font file not found!");
-            this.customFont = new Font("Arial", Font.PLAIN, 24);
-        }
 
         // From the backend
         this.tutorialText = new TutorialCommands();
@@ -108,7 +95,7 @@ public class TutorialScreen extends JLayeredPane {
         giftGivingScreen.add(rightArrow, Integer.valueOf(1));
 
         // Button to go to the next screen
-        ImageIcon rightArrowImage = new ImageIcon("resources/right_arrow.png");
+        ImageIcon rightArrowImage = ImageAssets.getIcon("resources/right_arrow.png");
         JLabel rightArrowLabel = new JLabel(rightArrowImage);
         rightArrowLabel.setBounds(817, 265, 32, 32);
         giftGivingScreen.add(rightArrowLabel, Integer.valueOf(2));
@@ -231,7 +218,7 @@ public class TutorialScreen extends JLayeredPane {
         JButton leftArrow = createButtonWithCardLayout(175, 250, 64, 64, "resources/arrow_button.png", "resources/arrow_button_click.png", "Sleeping", cardLayout, mainPanel);
         playScreen.add(leftArrow, Integer.valueOf(1));
 
-        ImageIcon leftArrowImage = new ImageIcon("resources/left_arrow.png");
+        ImageIcon leftArrowImage = ImageAssets.getIcon("resources/left_arrow.png");
         JLabel leftArrowLabel = new JLabel(leftArrowImage);
         leftArrowLabel.setBounds(190, 265, 32, 32);
         playScreen.add(leftArrowLabel, Integer.valueOf(2));
@@ -249,8 +236,8 @@ public class TutorialScreen extends JLayeredPane {
      */
     public void arrowImageIcon(JLayeredPane screenSource) {
         // Load the default arrows and position them correctly
-        ImageIcon rightArrowImage = new ImageIcon("resources/right_arrow.png");
-        ImageIcon leftArrowImage = new ImageIcon("resources/left_arrow.png");
+        ImageIcon rightArrowImage = ImageAssets.getIcon("resources/right_arrow.png");
+        ImageIcon leftArrowImage = ImageAssets.getIcon("resources/left_arrow.png");
 
         JLabel rightArrowLabel = new JLabel(rightArrowImage);
         JLabel leftArrowLabel = new JLabel(leftArrowImage);
@@ -310,22 +297,21 @@ public class TutorialScreen extends JLayeredPane {
      */
     private JLayeredPane tutorialScreen(String defaultImageSource, JLayeredPane screenSource) {
         // Set the default background for the tutorial screen and scale it
-        ImageIcon background = new ImageIcon("resources/grid.png");
+        ImageIcon background = ImageAssets.getIcon("resources/grid.png");
         JLabel backgroundLabel = new JLabel(background);
         backgroundLabel.setBounds(0, 0, 1080, 750);
         screenSource.add(backgroundLabel, Integer.valueOf(1));
-        ImageIcon defaultImageIcon = new ImageIcon(defaultImageSource);
+        ImageIcon defaultImageIcon = ImageAssets.getIcon(defaultImageSource);
         int width = defaultImageIcon.getIconWidth() - 1000;
         int height = defaultImageIcon.getIconHeight() - 700;
-        Image scaledImageIcon = defaultImageIcon.getImage().getScaledInstance(width, height, Image.SCALE_SMOOTH);
-        ImageIcon imageIcon = new ImageIcon(scaledImageIcon);
+        ImageIcon imageIcon = ImageAssets.getScaledIcon(defaultImageSource, width, height);
 
         JLabel imageLabel = new JLabel(imageIcon);
         imageLabel.setBounds(-86, -90, width, height);
         screenSource.add(imageLabel, Integer.valueOf(2));
 
         // Load image that will store where the text will be
-        ImageIcon textBoxImageIcon = new ImageIcon("resources/text_box.png");
+        ImageIcon textBoxImageIcon = ImageAssets.getIcon("resources/text_box.png");
         JLabel textBoxLabel = new JLabel(textBoxImageIcon);
         textBoxLabel.setBounds(105, 100, 860, 540);
         screenSource.add(textBoxLabel, Integer.valueOf(2));
@@ -343,7 +329,7 @@ public class TutorialScreen extends JLayeredPane {
      */
     private JLayeredPane setText(JLayeredPane screen, JTextArea textArea) {
         // Sets the text inside the back written in the backend class
-        textArea.setFont(customFont.deriveFont(15f));
+        textArea.setFont(FontRegistry.getFont(15f));
         textArea.setForeground(Color.BLACK);
         textArea.setOpaque(false);
         textArea.setLineWrap(true);
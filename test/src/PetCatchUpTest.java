@@ -0,0 +1,320 @@
+package src;
+
+import java.util.Random;
+
+
+/**
+ * Tests for catching a pet up on elapsed time: {@link Pet#advanceDeclineSteps(long)},
+ * {@link Pet#advanceTicks(long)} and {@link GameDataManager#catchUpPet(Pet, long, long)}.
+ *
+ * <p>
+ * The catch-up skips whole runs and sleep cycles at once, so every check compares it with a
+ * copy of the same pet stepped one call at a time through {@link Pet#applyDeclineStep()} or
+ * {@link Pet#applyDecline()}, which are the rules the game runs on. Like
+ * {@link PetPopulationTest}, this is a plain program that throws on the first failed check:
+ * </p>
+ * <pre>
+ * javac -encoding UTF-8 -cp lib/gson-2.10.1.jar -d out/test src/*.java test/src/*.java
+ * java -cp out/test:lib/gson-2.10.1.jar src.PetCatchUpTest
+ * </pre>
+ *
+ * @author Mohammed Abdulnabi
+ * @version 1.0
+ */
+public class PetCatchUpTest {
+    /** Number of random pets compared */
+    private static final int RANDOM_PETS = 3000;
+
+
+    public static void main(String[] args) {
+        awakePetDeclines();
+        sleepClampsAtZeroAndForcesSleep();
+        sleepRegeneratesToMaxAndWakes();
+        starvingPetLosesHealth();
+        petDiesAndStaysDead();
+        repeatingSleepCycleIsSkipped();
+        randomPetsMatchStepByStep();
+        ticksKeepTheCounterPhase();
+        catchUpUsesElapsedTime();
+        System.out.println("PetCatchUpTest passed");
+    }
+
+
+    /**
+     * An awake, fed pet only loses stats, before and after its first switch.
+     */
+    static void awakePetDeclines() {
+        Pet pet = pet(100, 100, 100, 100, 2, 3, 4, 2, false);
+        for (long steps : new long[] {0, 1, 5, 24, 25, 26}) {
+            assertSameSteps(pet, steps, "awake pet, " + steps + " steps");
+        }
+    }
+
+
+    /**
+     * Sleep that would drop below 0 is clamped to 0, costs health and puts the pet to sleep.
+     */
+    static void sleepClampsAtZeroAndForcesSleep() {
+        Pet pet = pet(100, 7, 100, 100, 5, 1, 3, 1, false);
+        for (long steps = 0; steps <= 6; steps++) {
+            assertSameSteps(pet, steps, "sleep clamp, " + steps + " steps");
+        }
+
+        // A pet already at 0 sleep that never regains any loses health every step
+        Pet exhausted = pet(100, 0, 100, 100, 4, 1, 0, 1, true);
+        assertSameSteps(exhausted, 40, "exhausted pet with no sleep regeneration");
+    }
+
+
+    /**
+     * A sleeping pet regains sleep up to its max (never past it) and then wakes up.
+     */
+    static void sleepRegeneratesToMaxAndWakes() {
+        Pet pet = pet(100, 90, 100, 100, 2, 1, 3, 1, true);
+        for (long steps = 0; steps <= 6; steps++) {
+            assertSameSteps(pet, steps, "sleep regeneration, " + steps + " steps");
+        }
+        assertSameSteps(pet, 200, "sleep regeneration, several cycles");
+    }
+
+
+    /**
+     * Once fullness reaches 0 the pet is hungry, loses health every step and loses happiness
+     * twice as fast, awake or asleep.
+     */
+    static void starvingPetLosesHealth() {
+        Pet pet = pet(100, 100, 4, 100, 3, 2, 1, 3, false);
+        for (long steps = 0; steps <= 12; steps++) {
+            assertSameSteps(pet, steps, "starvation, " + steps + " steps");
+        }
+
+        Pet sleepingStarving = pet(100, 10, 0, 50, 3, 2, 4, 3, true);
+        assertSameSteps(sleepingStarving, 30, "starving while asleep");
+    }
+
+
+    /**
+     * Health reaching 0 kills the pet, and a dead pet does not change any more.
+     */
+    static void petDiesAndStaysDead() {
+        Pet pet = pet(10, 3, 0, 20, 4, 2, 2, 2, false);
+        for (long steps = 0; steps <= 8; steps++) {
+            assertSameSteps(pet, steps, "death, " + steps + " steps");
+        }
+        assertSameSteps(pet, 10_000, "long after death");
+
+        // Marked dead but with health left: nothing declines
+        Pet ghost = new Pet("ghost", "PetOption1", 50, 50, 50, 50, 100, 100, 100, 100,
+                5, 5, 5, 5, false, false, true, true, 0, 30, 0, 20, null);
+        assertSameSteps(ghost, 500, "pet marked dead");
+    }
+
+
+    /**
+     * A pet that never loses health keeps going through the same sleep cycle, and the
+     * catch-up skips the whole cycles. Odd step counts land anywhere inside a cycle.
+     */
+    static void repeatingSleepCycleIsSkipped() {
+        Pet fed = pet(80, 100, 100, 100, 0, 0, 3, 1, false);
+        Pet starving = pet(80, 55, 0, 100, 0, 2, 7, 1, true);
+        for (long steps : new long[] {1_000, 1_001, 99_999, 1_000_000, 1_234_567}) {
+            assertSameSteps(fed, steps, "fed sleep cycle, " + steps + " steps");
+            assertSameSteps(starving, steps, "starving sleep cycle, " + steps + " steps");
+        }
+    }
+
+
+    /**
+     * Random pets (stats, rates from 0, flags) over random numbers of steps, so every branch
+     * and every order of switches is reached.
+     */
+    static void randomPetsMatchStepByStep() {
+        Random random = new Random(7);
+        for (int i = 0; i < RANDOM_PETS; i++) {
+            Pet pet = pet(1 + random.nextInt(100), random.nextInt(101), random.nextInt(101), random.nextInt(101),
+                    random.nextInt(6), random.nextInt(6), random.nextInt(8), random.nextInt(6),
+                    random.nextBoolean());
+            long steps = random.nextInt(4) == 0 ? random.nextInt(20_000) : random.nextInt(300);
+            assertSameSteps(pet, steps, "random pet " + i + ", " + steps + " steps");
+        }
+    }
+
+
+    /**
+     * Advancing by ticks lands on the same step and the same counter as calling
+     * {@link Pet#applyDecline()} that many times, even when split across several catch-ups.
+     */
+    static void ticksKeepTheCounterPhase() {
+        Random random = new Random(11);
+        for (int i = 0; i < 200; i++) {
+            Pet expected = pet(100, 60, 70, 80, 2, 3, 4, 2, random.nextBoolean());
+            Pet actual = copy(expected);
+            for (int part = 0; part < 4; part++) {
+                long ticks = random.nextInt(200);
+                for (long t = 0; t < ticks; t++) {
+                    expected.applyDecline();
+                }
+                actual.advanceTicks(ticks);
+                assertSamePet(expected, actual, "pet " + i + ", part " + part + ", " + ticks + " ticks");
+                check(expected.getDeclineCounter() == actual.getDeclineCounter(),
+                        "decline counter differs for pet " + i + ", part " + part);
+            }
+        }
+    }
+
+
+    /**
+     * Catching up a loaded pet applies one tick per {@link Pet#TICK_MILLIS} of elapsed time,
+     * and leaves pets without a save time (or saved in the future) alone.
+     */
+    static void catchUpUsesElapsedTime() {
+        long savedAt = 1_700_000_000_000L;
+        long elapsed = 10 * 60 * 1000L + Pet.TICK_MILLIS - 1;  // 10 minutes and most of a tick
+
+        Pet expected = pet(100, 100, 100, 100, 2, 3, 4, 2, false);
+        Pet actual = copy(expected);
+        for (long t = 0; t < elapsed / Pet.TICK_MILLIS; t++) {
+            expected.applyDecline();
+        }
+        GameDataManager.catchUpPet(actual, savedAt, savedAt + elapsed);
+        assertSamePet(expected, actual, "catching up 10 minutes");
+
+        Pet untouched = pet(100, 100, 100, 100, 2, 3, 4, 2, false);
+        Pet unknownTime = copy(untouched);
+        GameDataManager.catchUpPet(unknownTime, 0, savedAt);
+        assertSamePet(untouched, unknownTime, "catching up without a save time");
+        Pet clockBack = copy(untouched);
+        GameDataManager.catchUpPet(clockBack, savedAt, savedAt - 60_000);
+        assertSamePet(untouched, clockBack, "catching up with the clock set back");
+    }
+
+
+    /**
+     * Applies the steps to a copy of the pet both ways and checks the results match.
+     *
+     * @param pet the starting pet (not changed)
+     * @param steps the number of decline steps
+     * @param what the case being checked, for the failure message
+     */
+    private static void assertSameSteps(Pet pet, long steps, String what) {
+        Pet expected = copy(pet);
+        for (long s = 0; s < steps; s++) {
+            expected.applyDeclineStep();
+        }
+        Pet actual = copy(pet);
+        actual.advanceDeclineSteps(steps);
+        assertSamePet(expected, actual, what);
+    }
+
+
+    /**
+     * Checks two pets hold the same stats and flags.
+     *
+     * @param expected the pet stepped one call at a time
+     * @param actual the pet caught up at once
+     * @param what the case being checked, for the failure message
+     */
+    private static void assertSamePet(Pet expected, Pet actual, String what) {
+        boolean same = expected.getHealth() == actual.getHealth()
+                && expected.getSleep() == actual.getSleep()
+                && expected.getFullness() == actual.getFullness()
+                && expected.getHappiness() == actual.getHappiness()
+                && expected.isSleeping() == actual.isSleeping()
+                && expected.isHungry() == actual.isHungry()
+                && expected.isHappy() == actual.isHappy()
+                && expected.isMarkedDead() == actual.isMarkedDead();
+        check(same, what + ": expected " + describe(expected) + " but was " + describe(actual));
+    }
+
+
+    /**
+     * Builds a pet with all max stats at 100 and the given stats and decline rates.
+     *
+     * @param health the health
+     * @param sleep the sleep
+     * @param fullness the fullness
+     * @param happiness the happiness
+     * @param healthRate the health decline rate
+     * @param fullnessRate the fullness decline rate
+     * @param sleepRate the sleep decline (and regeneration) rate
+     * @param happinessRate the happiness decline rate
+     * @param sleeping whether the pet starts asleep
+     * @return the pet
+     */
+    private static Pet pet(int health, int sleep, int fullness, int happiness,
+                           int healthRate, int fullnessRate, int sleepRate, int happinessRate,
+                           boolean sleeping) {
+        Pet pet = new Pet("test", "PetOption1", health, sleep, fullness, happiness,
+                100, 100, 100, 100,
+                healthRate, fullnessRate, sleepRate, happinessRate,
+                sleeping, fullness <= 0, happiness > 0, false,
+                0, 30, 0, 20, null);
+        // The pet type sets its own rates, put the test's back
+        setRates(pet, healthRate, fullnessRate, sleepRate, happinessRate);
+        return pet;
+    }
+
+
+    /**
+     * Copies a pet's stats, rates, flags and decline counter into a new pet.
+     *
+     * @param pet the pet to copy
+     * @return the copy
+     */
+    private static Pet copy(Pet pet) {
+        Pet copy = new Pet(pet.getName(), pet.getPetType(),
+                pet.getHealth(), pet.getSleep(), pet.getFullness(), pet.getHappiness(),
+                pet.getMaxHealth(), pet.getMaxSleep(), pet.getMaxFullness(), pet.getMaxHappiness(),
+                0, 0, 0, 0,
+                pet.isSleeping(), pet.isHungry(), pet.isHappy(), pet.isMarkedDead(),
+                0, 30, 0, 20, null);
+        setRates(copy, pet.getHealthDeclineRate(), pet.getFullnessDeclineRate(),
+                pet.getSleepDeclineRate(), pet.getHappinessDeclineRate());
+        copy.advanceTicks(pet.getDeclineCounter());
+        return copy;
+    }
+
+
+    /**
+     * Sets all four decline rates of a pet.
+     *
+     * @param pet the pet
+     * @param healthRate the health decline rate
+     * @param fullnessRate the fullness decline rate
+     * @param sleepRate the sleep decline rate
+     * @param happinessRate the happiness decline rate
+     */
+    private static void setRates(Pet pet, int healthRate, int fullnessRate, int sleepRate, int happinessRate) {
+        pet.setHealthDeclineRate(healthRate);
+        pet.setFullnessDeclineRate(fullnessRate);
+        pet.setSleepDeclineRate(sleepRate);
+        pet.setHappinessDeclineRate(happinessRate);
+    }
+
+
+    /**
+     * Describes a pet's stats and flags for a failure message.
+     *
+     * @param pet the pet
+     * @return the description
+     */
+    private static String describe(Pet pet) {
+        return "[health=" + pet.getHealth() + ", sleep=" + pet.getSleep()
+                + ", fullness=" + pet.getFullness() + ", happiness=" + pet.getHappiness()
+                + ", sleeping=" + pet.isSleeping() + ", hungry=" + pet.isHungry()
+                + ", happy=" + pet.isHappy() + ", dead=" + pet.isMarkedDead() + "]";
+    }
+
+
+    /**
+     * Throws if a condition does not hold.
+     *
+     * @param condition the condition to check
+     * @param message the failure message
+     */
+    private static void check(boolean condition, String message) {
+        if (!condition) {
+            throw new AssertionError(message);
+        }
+    }
+}
@@ -0,0 +1,241 @@
+package src;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+
+/**
+ * Tests for {@link PetPopulation}.
+ *
+ * <p>
+ * The project has no test framework on its classpath, so this is a plain program that
+ * throws on the first failed check. Run it from the project root with:
+ * </p>
+ * <pre>
+ * javac -encoding UTF-8 -cp lib/gson-2.10.1.jar -d out/test src/*.java test/src/*.java
+ * java -cp out/test:lib/gson-2.10.1.jar src.PetPopulationTest
+ * </pre>
+ *
+ * @author Mohammed Abdulnabi
+ * @version 1.0
+ */
+public class PetPopulationTest {
+    /** Enough rows that the parallel tick is split into many tasks */
+    private static final int PETS = 100_000;
+
+    /** Ticks in one decline step */
+    private static final int TICKS_PER_STEP = Pet.DECLINE_INTERVAL;
+
+    /** Number of times the parallel run is repeated with a different seed */
+    private static final int TRIALS = 5;
+
+
+    public static void main(String[] args) {
+        parallelTickMatchesSequentialTick();
+        rowsMatchPetDecline();
+        addedPetKeepsItsDeclineCounter();
+        markedDeadPetStaysDead();
+        System.out.println("PetPopulationTest passed");
+    }
+
+
+    /**
+     * Ticking on a fork-join pool must leave every row exactly as ticking on one thread does,
+     * stats and flags alike, at every step from the first decline to most pets being dead.
+     */
+    static void parallelTickMatchesSequentialTick() {
+        ForkJoinPool pool = new ForkJoinPool(Math.max(4, Runtime.getRuntime().availableProcessors()));
+        try {
+            for (int trial = 0; trial < TRIALS; trial++) {
+                PetPopulation sequential = new PetPopulation(PETS);
+                PetPopulation parallel = new PetPopulation(PETS);
+                Random random = new Random(42 + trial);
+                for (int i = 0; i < PETS; i++) {
+                    Pet pet = randomPet(random, i);
+                    sequential.add(pet);
+                    parallel.add(pet);
+                }
+
+                for (int step = 0; step < 120; step++) {
+                    sequential.tick(TICKS_PER_STEP);
+                    parallel.tick(TICKS_PER_STEP, pool);
+                    assertSameRows(sequential, parallel, "trial " + trial + ", step " + step);
+                }
+                check(sequential.countDead() > 0, "the test should reach pets dying");
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+
+    /**
+     * The columns must follow the same rules as {@link Pet#applyDecline()}: every row is
+     * compared with its own pet, ticked one call at a time, over uneven tick counts that
+     * split decline steps and run until most pets are dead.
+     */
+    static void rowsMatchPetDecline() {
+        int pets = 5_000;
+        Random random = new Random(99);
+        Pet[] expected = new Pet[pets];
+        PetPopulation population = new PetPopulation(pets);
+        for (int i = 0; i < pets; i++) {
+            expected[i] = randomPet(random, i);
+            expected[i].advanceTicks(random.nextInt(TICKS_PER_STEP));  // Start part-way to a step
+            population.add(expected[i]);
+        }
+
+        long ticked = 0;
+        while (ticked < TICKS_PER_STEP * 150L) {
+            int ticks = 1 + random.nextInt(3 * TICKS_PER_STEP);
+            for (Pet pet : expected) {
+                for (int t = 0; t < ticks; t++) {
+                    pet.applyDecline();
+                }
+            }
+            population.tick(ticks);
+            ticked += ticks;
+            for (int row = 0; row < pets; row++) {
+                assertRowMatchesPet(expected[row], population, row, "after " + ticked + " ticks");
+            }
+        }
+        check(population.countDead() > pets / 2, "the test should reach most pets dying");
+    }
+
+
+    /**
+     * A pet added part-way to its next decline step must take that step on time, not
+     * {@link Pet#DECLINE_INTERVAL} ticks later.
+     */
+    static void addedPetKeepsItsDeclineCounter() {
+        Pet pet = new Pet("counter", "PetOption1",
+                100, 100, 100, 100,
+                100, 100, 100, 100,
+                2, 3, 4, 2,
+                false, false, true, false,
+                0, 30, 0, 20, null);
+        pet.advanceTicks(TICKS_PER_STEP - 1);
+
+        PetPopulation population = new PetPopulation(1);
+        int row = population.add(pet);
+        population.tick(1);
+        pet.applyDecline();
+
+        check(pet.getFullness() < 100, "the pet should have taken a decline step");
+        assertRowMatchesPet(pet, population, row, "one tick after being added");
+        check(population.toPet(row).getDeclineCounter() == pet.getDeclineCounter(),
+                "the row's decline counter should match the pet's");
+    }
+
+
+    /**
+     * A pet that is marked dead but still has health left must not be declined, just like
+     * {@link Pet#applyDeclineStep()} leaves it alone.
+     */
+    static void markedDeadPetStaysDead() {
+        Pet pet = new Pet("ghost", "PetOption1",
+                50, 50, 50, 50,
+                100, 100, 100, 100,
+                5, 5, 5, 5,
+                false, false, true, true,
+                0, 30, 0, 20, null);
+        PetPopulation population = new PetPopulation(1);
+        int row = population.add(pet);
+        population.tick(TICKS_PER_STEP * 10L);
+
+        check(population.isDead(row), "a pet marked dead should stay dead");
+        check(population.getHealth(row) == 50, "a dead pet's health should not decline");
+        check(population.getFullness(row) == 50, "a dead pet's fullness should not decline");
+    }
+
+
+    /**
+     * Builds a pet for the population. Half of the pets start out like a new game (full
+     * stats, all flags clear), so many rows across the whole population become hungry,
+     * sleepy or dead on the same step; the rest get random stats, rates and state, so rows
+     * hit every branch of a decline step.
+     *
+     * @param random the random source
+     * @param index the pet's number, used for its name and type
+     * @return the pet
+     */
+    private static Pet randomPet(Random random, int index) {
+        if (index % 2 == 0) {
+            return new Pet("pet" + index, "PetOption" + (1 + index % 3),
+                    100, 100, 100, 100,
+                    100, 100, 100, 100,
+                    2, 3, 4, 2,
+                    false, false, false, false,
+                    0, 30, 0, 20, null);
+        }
+        Pet pet = new Pet("pet" + index, "PetOption" + (1 + index % 3),
+                1 + random.nextInt(100), random.nextInt(101), random.nextInt(101), random.nextInt(101),
+                100, 100, 100, 100,
+                0, 0, 0, 0,
+                random.nextBoolean(), random.nextBoolean(), random.nextBoolean(), false,
+                0, 30, 0, 20, null);
+        // The pet type sets its own rates, replace them with random ones
+        pet.setHealthDeclineRate(1 + random.nextInt(5));
+        pet.setFullnessDeclineRate(1 + random.nextInt(5));
+        pet.setSleepDeclineRate(1 + random.nextInt(5));
+        pet.setHappinessDeclineRate(1 + random.nextInt(5));
+        return pet;
+    }
+
+
+    /**
+     * Checks two populations hold the same values in every row.
+     *
+     * @param expected the population ticked on one thread
+     * @param actual the population ticked in parallel
+     * @param when the trial and step just applied, for the failure message
+     */
+    private static void assertSameRows(PetPopulation expected, PetPopulation actual, String when) {
+        check(expected.size() == actual.size(), "sizes differ after " + when);
+        for (int row = 0; row < expected.size(); row++) {
+            boolean same = expected.getHealth(row) == actual.getHealth(row)
+                    && expected.getSleep(row) == actual.getSleep(row)
+                    && expected.getFullness(row) == actual.getFullness(row)
+                    && expected.getHappiness(row) == actual.getHappiness(row)
+                    && expected.isSleeping(row) == actual.isSleeping(row)
+                    && expected.isHungry(row) == actual.isHungry(row)
+                    && expected.isHappy(row) == actual.isHappy(row)
+                    && expected.isDead(row) == actual.isDead(row);
+            check(same, "row " + row + " differs after " + when);
+        }
+    }
+
+
+    /**
+     * Checks a row holds the same stats and flags as a pet.
+     *
+     * @param pet the pet ticked with {@link Pet#applyDecline()}
+     * @param population the population
+     * @param row the pet's row
+     * @param when how far the test has got, for the failure message
+     */
+    private static void assertRowMatchesPet(Pet pet, PetPopulation population, int row, String when) {
+        boolean same = pet.getHealth() == population.getHealth(row)
+                && pet.getSleep() == population.getSleep(row)
+                && pet.getFullness() == population.getFullness(row)
+                && pet.getHappiness() == population.getHappiness(row)
+                && pet.isSleeping() == population.isSleeping(row)
+                && pet.isHungry() == population.isHungry(row)
+                && pet.isHappy() == population.isHappy(row)
+                && pet.isMarkedDead() == population.isDead(row);
+        check(same, "row " + row + " differs from its pet " + when);
+    }
+
+
+    /**
+     * Throws if a condition does not hold.
+     *
+     * @param condition the condition to check
+     * @param message the failure message
+     */
+    private static void check(boolean condition, String message) {
+        if (!condition) {
+            throw new AssertionError(message);
+        }
+    }
+}
@@ -0,0 +1,299 @@
+package src;
+
+import com.google.gson.*;
+import com.google.gson.reflect.TypeToken;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.HashMap;
+import java.util.Map;
+
+
+/**
+ * Checks that the streaming save adapters read and write existing saves exactly like the
+ * tree-based adapters they replaced.
+ *
+ * <p>
+ * Every {@code saves/*.json} file is read with both Gson set-ups. Both games are then
+ * written back as JSON trees and the trees must be equal. The new adapters must also read
+ * their own output (pretty and compact) back to the same tree. The old adapters are kept
+ * below, frozen as they were, so later adapter edits cannot silently break old saves.
+ * </p>
+ *
+ * <p>
+ * Run it from the project root, like {@link PetPopulationTest}:
+ * </p>
+ * <pre>
+ * javac -encoding UTF-8 -cp lib/gson-2.10.1.jar -d out/test src/*.java test/src/*.java
+ * java -cp out/test:lib/gson-2.10.1.jar src.SaveCompatibilityTest
+ * </pre>
+ *
+ * @author Mohammed Abdulnabi
+ * @version 1.0
+ */
+public class SaveCompatibilityTest {
+    /** Folder holding the saves to check */
+    private static final File SAVES = new File("saves");
+
+    private static final Type FOOD_TYPE = new TypeToken<Map<Food, Integer>>() {}.getType();
+    private static final Type TOY_TYPE = new TypeToken<Map<Toys, Integer>>() {}.getType();
+    private static final Type GIFT_TYPE = new TypeToken<Map<Gifts, Integer>>() {}.getType();
+    private static final Type OUTFIT_TYPE = new TypeToken<Map<String, Boolean>>() {}.getType();
+
+
+    public static void main(String[] args) throws IOException {
+        Store store = new Store();
+        Gson current = new GsonBuilder()
+                .registerTypeAdapter(FOOD_TYPE, new FoodInventoryAdapter())
+                .registerTypeAdapter(TOY_TYPE, new ToyInventoryAdapter())
+                .registerTypeAdapter(GIFT_TYPE, new GiftInventoryAdapter())
+                .registerTypeAdapter(Pet.class, new PetAdapter())
+                .registerTypeAdapter(PlayerInventory.class, new PlayerInventoryAdapter(store))
+                .setPrettyPrinting()
+                .create();
+        Gson legacy = new GsonBuilder()
+                .registerTypeAdapter(FOOD_TYPE, new LegacyFoodAdapter(store))
+                .registerTypeAdapter(TOY_TYPE, new LegacyToyAdapter(store))
+                .registerTypeAdapter(GIFT_TYPE, new LegacyGiftAdapter(store))
+                .registerTypeAdapter(Pet.class, new LegacyPetAdapter())
+                .registerTypeAdapter(PlayerInventory.class, new LegacyInventoryAdapter(store))
+                .setPrettyPrinting()
+                .create();
+
+        File[] saves = SAVES.listFiles((dir, name) -> name.endsWith(".json"));
+        check(saves != null && saves.length > 0, "no saves found in " + SAVES.getAbsolutePath());
+
+        for (File save : saves) {
+            String json = new String(Files.readAllBytes(save.toPath()), StandardCharsets.UTF_8);
+
+            JsonElement expected = legacy.toJsonTree(legacy.fromJson(json, GameData.class));
+            GameData game = current.fromJson(json, GameData.class);
+            String written = current.toJson(game);
+            check(expected.equals(JsonParser.parseString(written)),
+                    save.getName() + ": new adapters differ from the old ones\nold: " + expected + "\nnew: " + written);
+
+            // The new adapters must read back what they wrote, pretty or compact
+            JsonElement reread = JsonParser.parseString(current.toJson(current.fromJson(written, GameData.class)));
+            check(expected.equals(reread), save.getName() + ": pretty output does not read back the same");
+            String compact = new Gson().toJson(JsonParser.parseString(written));
+            JsonElement compactReread = JsonParser.parseString(current.toJson(current.fromJson(compact, GameData.class)));
+            check(expected.equals(compactReread), save.getName() + ": compact output does not read back the same");
+
+            // And saves written by the new adapters must still open in older builds
+            JsonElement legacyReread = legacy.toJsonTree(legacy.fromJson(written, GameData.class));
+            check(expected.equals(legacyReread), save.getName() + ": old adapters cannot read the new output");
+        }
+        System.out.println("SaveCompatibilityTest passed (" + saves.length + " saves)");
+    }
+
+
+    /**
+     * Throws if a condition does not hold.
+     *
+     * @param condition the condition to check
+     * @param message the failure message
+     */
+    private static void check(boolean condition, String message) {
+        if (!condition) {
+            throw new AssertionError(message);
+        }
+    }
+
+
+    /**
+     * The tree-based pet adapter the save format was defined by.
+     */
+    private static class LegacyPetAdapter implements JsonSerializer<Pet>, JsonDeserializer<Pet> {
+        @Override
+        public JsonElement serialize(Pet pet, Type type, JsonSerializationContext context) {
+            JsonObject obj = new JsonObject();
+            obj.addProperty("name", pet.getName());
+            obj.addProperty("petType", pet.getPetType());
+            obj.addProperty("health", pet.getHealth());
+            obj.addProperty("sleep", pet.getSleepiness());
+            obj.addProperty("fullness", pet.getFullness());
+            obj.addProperty("happiness", pet.getHappiness());
+            obj.addProperty("maxHealth", pet.getMaxHealth());
+            obj.addProperty("maxSleep", pet.getMaxSleep());
+            obj.addProperty("maxFullness", pet.getMaxFullness());
+            obj.addProperty("maxHappiness", pet.getMaxHappiness());
+            obj.addProperty("healthDeclineRate", pet.getHealthDeclineRate());
+            obj.addProperty("fullnessDeclineRate", pet.getFullnessDeclineRate());
+            obj.addProperty("sleepDeclineRate", pet.getSleepDeclineRate());
+            obj.addProperty("happinessDeclineRate", pet.getHappinessDeclineRate());
+            obj.addProperty("isSleeping", pet.isSleeping());
+            obj.addProperty("isHungry", pet.isHungry());
+            obj.addProperty("isHappy", pet.isHappy());
+            obj.addProperty("isDead", pet.isDead());
+            obj.addProperty("lastVetVisitTime", pet.getLastVetVisitTime());
+            obj.addProperty("vetCooldownDuration", pet.getVetCooldownDuration());
+            obj.addProperty("lastPlayTime", pet.getLastPlayTime());
+            obj.addProperty("playCooldownDuration", pet.getPlayCooldownDuration());
+            obj.addProperty("currentOutfit", pet.getCurrentOutfit());
+            return obj;
+        }
+
+        @Override
+        public Pet deserialize(JsonElement json, Type typeOfT, JsonDeserializationContext context) throws JsonParseException {
+            JsonObject obj = json.getAsJsonObject();
+            String petType = obj.has("petType") && !obj.get("petType").isJsonNull() ? obj.get("petType").getAsString() : "Dog";
+            String outfit = obj.has("currentOutfit") && !obj.get("currentOutfit").isJsonNull()
+                    ? obj.get("currentOutfit").getAsString()
+                    : null;
+            return new Pet(
+                    obj.get("name").getAsString(), petType,
+                    obj.get("health").getAsInt(), obj.get("sleep").getAsInt(),
+                    obj.get("fullness").getAsInt(), obj.get("happiness").getAsInt(),
+                    obj.get("maxHealth").getAsInt(), obj.get("maxSleep").getAsInt(),
+                    obj.get("maxFullness").getAsInt(), obj.get("maxHappiness").getAsInt(),
+                    obj.get("healthDeclineRate").getAsInt(), obj.get("fullnessDeclineRate").getAsInt(),
+                    obj.get("sleepDeclineRate").getAsInt(), obj.get("happinessDeclineRate").getAsInt(),
+                    obj.get("isSleeping").getAsBoolean(), obj.get("isHungry").getAsBoolean(),
+                    obj.get("isHappy").getAsBoolean(), obj.get("isDead").getAsBoolean(),
+                    obj.get("lastVetVisitTime").getAsInt(), obj.get("vetCooldownDuration").getAsInt(),
+                    obj.get("lastPlayTime").getAsInt(), obj.get("playCooldownDuration").getAsInt(),
+                    outfit
+            );
+        }
+    }
+
+
+    /**
+     * The tree-based inventory adapter the save format was defined by.
+     */
+    private static class LegacyInventoryAdapter implements JsonSerializer<PlayerInventory>, JsonDeserializer<PlayerInventory> {
+        private final Store store;
+
+        LegacyInventoryAdapter(Store store) {
+            this.store = store;
+        }
+
+        @Override
+        public JsonElement serialize(PlayerInventory inventory, Type typeOfSrc, JsonSerializationContext context) {
+            JsonObject obj = new JsonObject();
+            obj.addProperty("playerCoins", inventory.getPlayerCoins());
+            obj.add("foodInventory", new LegacyFoodAdapter(store).serialize(inventory.getFoodInventory(), null, context));
+            obj.add("giftInventory", new LegacyGiftAdapter(store).serialize(inventory.getGiftInventory(), null, context));
+            obj.add("toyInventory", new LegacyToyAdapter(store).serialize(inventory.getToyInventory(), null, context));
+            obj.add("outfitInventory", context.serialize(inventory.getOutfitInventory()));
+            return obj;
+        }
+
+        @Override
+        public PlayerInventory deserialize(JsonElement json, Type typeOfT, JsonDeserializationContext context) throws JsonParseException {
+            JsonObject obj = json.getAsJsonObject();
+            PlayerInventory inventory = new PlayerInventory(store);
+            if (obj.has("playerCoins")) {
+                inventory.setPlayerCoins(obj.get("playerCoins").getAsInt());
+            }
+            inventory.getFoodInventory().putAll(new LegacyFoodAdapter(store).deserialize(obj.get("foodInventory"), FOOD_TYPE, context));
+            inventory.getGiftInventory().putAll(new LegacyGiftAdapter(store).deserialize(obj.get("giftInventory"), GIFT_TYPE, context));
+            inventory.getToyInventory().putAll(new LegacyToyAdapter(store).deserialize(obj.get("toyInventory"), TOY_TYPE, context));
+            Map<String, Boolean> outfits = context.deserialize(obj.get("outfitInventory"), OUTFIT_TYPE);
+            inventory.getOutfitInventory().putAll(outfits);
+            return inventory;
+        }
+    }
+
+
+    /**
+     * The tree-based food map adapter the save format was defined by.
+     */
+    private static class LegacyFoodAdapter implements JsonSerializer<Map<Food, Integer>>, JsonDeserializer<Map<Food, Integer>> {
+        private final Store store;
+
+        LegacyFoodAdapter(Store store) {
+            this.store = store;
+        }
+
+        @Override
+        public JsonElement serialize(Map<Food, Integer> foodMap, Type type, JsonSerializationContext context) {
+            JsonObject obj = new JsonObject();
+            for (Map.Entry<Food, Integer> entry : foodMap.entrySet()) {
+                obj.add(entry.getKey().getName(), new JsonPrimitive(entry.getValue()));
+            }
+            return obj;
+        }
+
+        @Override
+        public Map<Food, Integer> deserialize(JsonElement json, Type type, JsonDeserializationContext context) throws JsonParseException {
+            Map<Food, Integer> foodMap = new HashMap<>();
+            for (Map.Entry<String, JsonElement> entry : json.getAsJsonObject().entrySet()) {
+                Food food = store.getFood(entry.getKey());
+                if (food != null) {
+                    foodMap.put(food, entry.getValue().getAsInt());
+                }
+            }
+            return foodMap;
+        }
+    }
+
+
+    /**
+     * The tree-based toy map adapter the save format was defined by.
+     */
+    private static class LegacyToyAdapter implements JsonSerializer<Map<Toys, Integer>>, JsonDeserializer<Map<Toys, Integer>> {
+        private final Store store;
+
+        LegacyToyAdapter(Store store) {
+            this.store = store;
+        }
+
+        @Override
+        public JsonElement serialize(Map<Toys, Integer> toyMap, Type type, JsonSerializationContext context) {
+            JsonObject obj = new JsonObject();
+            for (Map.Entry<Toys, Integer> entry : toyMap.entrySet()) {
+                obj.add(entry.getKey().getName(), new JsonPrimitive(entry.getValue()));
+            }
+            return obj;
+        }
+
+        @Override
+        public Map<Toys, Integer> deserialize(JsonElement json, Type type, JsonDeserializationContext context) throws JsonParseException {
+            Map<Toys, Integer> toyMap = new HashMap<>();
+            for (Map.Entry<String, JsonElement> entry : json.getAsJsonObject().entrySet()) {
+                Toys toy = store.getToy(entry.getKey());
+                if (toy != null) {
+                    toyMap.put(toy, entry.getValue().getAsInt());
+                }
+            }
+            return toyMap;
+        }
+    }
+
+
+    /**
+     * The tree-based gift map adapter the save format was defined by.
+     */
+    private static class LegacyGiftAdapter implements JsonSerializer<Map<Gifts, Integer>>, JsonDeserializer<Map<Gifts, Integer>> {
+        private final Store store;
+
+        LegacyGiftAdapter(Store store) {
+            this.store = store;
+        }
+
+        @Override
+        public JsonElement serialize(Map<Gifts, Integer> giftMap, Type type, JsonSerializationContext context) {
+            JsonObject obj = new JsonObject();
+            for (Map.Entry<Gifts, Integer> entry : giftMap.entrySet()) {
+                obj.add(entry.getKey().getName(), new JsonPrimitive(entry.getValue()));
+            }
+            return obj;
+        }
+
+        @Override
+        public Map<Gifts, Integer> deserialize(JsonElement json, Type type, JsonDeserializationContext context) throws JsonParseException {
+            Map<Gifts, Integer> giftMap = new HashMap<>();
+            for (Map.Entry<String, JsonElement> entry : json.getAsJsonObject().entrySet()) {
+                Gifts gift = store.getGift(entry.getKey());
+                if (gift != null) {
+                    giftMap.put(gift, entry.getValue().getAsInt());
+                }
+            }
+            return giftMap;
+        }
+    }
+}